@@ -0,0 +1,189 @@
+package com.gitlab.walneyalves.meeting_rooms.benchmarks;
+
+import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.repository.MeetingRepository;
+import com.gitlab.walneyalves.meeting_rooms.repository.MeetingSeriesRepository;
+import com.gitlab.walneyalves.meeting_rooms.service.MeetingService;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.MeetingIndex;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.RoomLocks;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.bson.UuidRepresentation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * The two steps of {@link MeetingService#hasMeeting}: {@code indexed} is the {@link MeetingIndex} pre-check and
+ * {@code stored} the {@code existsOverlapping} query every range the index sees free goes on to, against a Mongo
+ * container (Docker is required) holding the same meetings and indexes. {@code scan} is the predicate both replaced:
+ * every active meeting streamed and filtered by room. Half of the requested ranges conflict.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ConflictCheckBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param({"1000", "100000", "1000000"})
+    private int meetings;
+
+    private MeetingService meetingService;
+
+    private MeetingIndex meetingIndex;
+
+    private Queries queries;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        val dataset = Dataset.of(meetings);
+        // Stub only: the repository is called on every scan, and recorded invocations would pile up in the heap.
+        val meetingRepository = mock(MeetingRepository.class, withSettings().stubOnly());
+        when(meetingRepository.findAllByStateIsIn(anyList())).thenAnswer(invocation -> dataset.active().stream());
+        val meterRegistry = new SimpleMeterRegistry();
+        meetingIndex = new MeetingIndex(meetingRepository, mock(MeetingSeriesRepository.class, withSettings().stubOnly()),
+                meterRegistry, new RoomLocks(meterRegistry));
+        meetingIndex.load();
+        meetingService = new MeetingService(null, meetingRepository, meetingIndex, null, meterRegistry, null, null, null, null, null);
+        queries = dataset.queries();
+    }
+
+    @Benchmark
+    public boolean indexed() {
+        val i = next();
+        return meetingIndex.hasOverlap(queries.roomIds()[i], queries.starts()[i], queries.starts()[i].plusMinutes(40));
+    }
+
+    @Benchmark
+    public boolean stored(StoredMeetings stored) {
+        val i = next();
+        return stored.meetingRepository.existsOverlapping(stored.queries.roomIds()[i], MeetingService.ACTIVE_STATES,
+                stored.queries.starts()[i], stored.queries.starts()[i].plusMinutes(40));
+    }
+
+    @Benchmark
+    public boolean scan() {
+        val i = next();
+        val roomId = queries.roomIds()[i];
+        val start = queries.starts()[i];
+        val end = start.plusMinutes(40);
+        try (val active = meetingService.getMeetings(Meeting.State.CREATED, Meeting.State.IN_PROGRESS)) {
+            return active
+                    .filter(meeting -> meeting.getRoomId().equals(roomId))
+                    .anyMatch(meeting -> !(end.isBefore(meeting.getStartDate()) || start.isAfter(meeting.getEndDate())));
+        }
+    }
+
+    private int next() {
+        next = (next + 1) & (QUERIES - 1);
+        return next;
+    }
+
+    /**
+     * The meetings in a Mongo container, only started by the {@code stored} benchmark.
+     */
+    @State(Scope.Benchmark)
+    public static class StoredMeetings {
+
+        private static final int INSERT_BATCH = 10_000;
+
+        @Param({"1000", "100000", "1000000"})
+        private int meetings;
+
+        private MongoDBContainer mongo;
+
+        private MongoClient client;
+
+        private MeetingRepository meetingRepository;
+
+        private Queries queries;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            mongo = new MongoDBContainer(DockerImageName.parse("mongo:6.0"));
+            mongo.start();
+            client = MongoClients.create(MongoClientSettings.builder()
+                    .applyConnectionString(new ConnectionString(mongo.getReplicaSetUrl()))
+                    .uuidRepresentation(UuidRepresentation.JAVA_LEGACY)
+                    .build());
+            val mongoTemplate = new MongoTemplate(client, "benchmarks");
+            new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                    .resolveIndexFor(Meeting.class)
+                    .forEach(mongoTemplate.indexOps(Meeting.class)::ensureIndex);
+            val dataset = Dataset.of(meetings);
+            val all = dataset.all();
+            for (var from = 0; from < all.size(); from += INSERT_BATCH) {
+                mongoTemplate.insertAll(all.subList(from, Math.min(from + INSERT_BATCH, all.size())));
+            }
+            meetingRepository = new MongoRepositoryFactory(mongoTemplate).getRepository(MeetingRepository.class);
+            queries = dataset.queries();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            client.close();
+            mongo.stop();
+        }
+    }
+
+    private record Queries(UUID[] roomIds, LocalDateTime[] starts) { }
+
+    private record Dataset(List<Meeting> all, List<UUID> roomIds, Random random) {
+
+        static Dataset of(int meetings) {
+            val random = new Random(Datasets.SEED);
+            val roomIds = Datasets.ids(Math.max(1, meetings / Datasets.MEETINGS_PER_ROOM), random);
+            val hosts = Datasets.ids(Datasets.HOSTS, random);
+            return new Dataset(Datasets.meetings(meetings, roomIds, hosts, random), roomIds, random);
+        }
+
+        List<Meeting> active() {
+            return all.stream().filter(meeting -> meeting.getState() == Meeting.State.CREATED).toList();
+        }
+
+        Queries queries() {
+            val queries = new Queries(new UUID[QUERIES], new LocalDateTime[QUERIES]);
+            for (var i = 0; i < QUERIES; i++) {
+                queries.roomIds()[i] = roomIds.get(random.nextInt(roomIds.size()));
+                queries.starts()[i] = Datasets.ORIGIN.plusHours(random.nextInt(2 * Datasets.MEETINGS_PER_ROOM)).plusMinutes(10);
+            }
+            return queries;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.gitlab.walneyalves.meeting_rooms.benchmarks;
+
+import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.model.Resource;
+import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import lombok.val;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Synthetic data shared by the benchmarks. Every dataset is built from a fixed seed, so two runs (or two releases)
+ * measure the same data.
+ */
+final class Datasets {
+
+    static final long SEED = 42;
+
+    /**
+     * The number of rooms grows with the dataset, as in a company that grows, instead of piling every meeting on a few
+     * rooms.
+     */
+    static final int MEETINGS_PER_ROOM = 100;
+
+    static final int HOSTS = 10;
+
+    static final LocalDateTime ORIGIN = LocalDateTime.of(2030, 1, 7, 8, 0);
+
+    private static final int RESOURCES_PER_ROOM = 4;
+
+    private Datasets() { }
+
+    static UUID uuid(Random random) {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+
+    static List<UUID> ids(int count, Random random) {
+        val ids = new ArrayList<UUID>(count);
+        for (var i = 0; i < count; i++) {
+            ids.add(uuid(random));
+        }
+        return ids;
+    }
+
+    /**
+     * Meetings of one hour, every two hours of each room: a range starting on an even hour after {@link #ORIGIN}
+     * conflicts, one starting on an odd hour does not. Returned in no particular order, as a collection scan would.
+     */
+    static List<Meeting> meetings(int count, List<UUID> roomIds, List<UUID> hosts, Random random) {
+        val meetings = new ArrayList<Meeting>(count);
+        for (var i = 0; i < count; i++) {
+            val start = ORIGIN.plusHours(2L * (i / roomIds.size()));
+            meetings.add(Meeting.builder()
+                    .id(uuid(random))
+                    .host(hosts.get(random.nextInt(hosts.size())))
+                    .roomId(roomIds.get(i % roomIds.size()))
+                    .title("Meeting " + i)
+                    .state(random.nextInt(10) == 0 ? Meeting.State.CANCELLED : Meeting.State.CREATED)
+                    .startDate(start)
+                    .endDate(start.plusHours(1))
+                    .build());
+        }
+        Collections.shuffle(meetings, random);
+        return meetings;
+    }
+
+    static List<Resource> resources(int count, Random random) {
+        val types = Resource.Type.values();
+        val resources = new ArrayList<Resource>(count);
+        for (var i = 0; i < count; i++) {
+            resources.add(Resource.builder()
+                    .id(uuid(random))
+                    .name("Resource " + i)
+                    .type(types[random.nextInt(types.length)])
+                    .build());
+        }
+        return resources;
+    }
+
+    /**
+     * Links up to four of the given resources to every room, keeping the room's resource types in sync as
+     * {@code RoomResourceTypes} does.
+     */
+    static Rooms rooms(int count, List<Resource> resources, Random random) {
+        val rooms = new ArrayList<Room>(count);
+        val links = new HashMap<UUID, List<Resource>>(count * 2);
+        for (var i = 0; i < count; i++) {
+            val linked = new ArrayList<Resource>(RESOURCES_PER_ROOM);
+            val types = EnumSet.noneOf(Resource.Type.class);
+            for (var j = random.nextInt(RESOURCES_PER_ROOM + 1); j > 0; j--) {
+                val resource = resources.get(random.nextInt(resources.size()));
+                linked.add(resource);
+                types.add(resource.getType());
+            }
+            val room = Room.builder()
+                    .id(uuid(random))
+                    .name("Room " + i)
+                    .capacity(2 + random.nextInt(20))
+                    .initialAvailability(LocalTime.of(8, 0))
+                    .finalAvailability(LocalTime.of(18, 0))
+                    .resourceTypes(new HashSet<>(types))
+                    .build();
+            rooms.add(room);
+            links.put(room.getId(), linked);
+        }
+        return new Rooms(rooms, links);
+    }
+
+    record Rooms(List<Room> rooms, Map<UUID, List<Resource>> resources) { }
+}
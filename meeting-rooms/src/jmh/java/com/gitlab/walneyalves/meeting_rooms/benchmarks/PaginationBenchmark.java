@@ -0,0 +1,134 @@
+package com.gitlab.walneyalves.meeting_rooms.benchmarks;
+
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.Cursor;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.CursorPage;
+import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A page from the middle of the meetings of one host, sorted by start date. {@code pageImpl} is the in-memory slicing
+ * the listings started with: every match collected, then cut with {@link PageImpl}. {@code skipLimit} and
+ * {@code slice} are what the offset listings do now (without and with the total), and {@code keyset} is the cursor
+ * listing, which seeks into the per-host ordering the {@code host_start_id} index provides.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class PaginationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final Comparator<Meeting> ORDER = Comparator
+            .comparing(Meeting::getStartDate)
+            .thenComparing(Meeting::getId);
+
+    @Param({"1000", "100000", "1000000"})
+    private int meetings;
+
+    private List<Meeting> sorted;
+
+    private List<Meeting> hostMeetings;
+
+    private UUID host;
+
+    private Pageable pageable;
+
+    private String cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        val random = new Random(Datasets.SEED);
+        val roomIds = Datasets.ids(Math.max(1, meetings / Datasets.MEETINGS_PER_ROOM), random);
+        val hosts = Datasets.ids(Datasets.HOSTS, random);
+        sorted = Datasets.meetings(meetings, roomIds, hosts, random).stream().sorted(ORDER).toList();
+        host = hosts.get(0);
+        hostMeetings = sorted.stream().filter(meeting -> meeting.getHost().equals(host)).toList();
+        pageable = PageRequest.of(hostMeetings.size() / PAGE_SIZE / 2, PAGE_SIZE);
+        val last = hostMeetings.get((int) pageable.getOffset() - 1);
+        cursor = new Cursor(last.getStartDate().toString(), last.getId()).encode();
+    }
+
+    @Benchmark
+    public Page<Meeting> pageImpl() {
+        val filtered = sorted.stream().filter(meeting -> meeting.getHost().equals(host)).toList();
+        val start = (int) pageable.getOffset();
+        val end = Math.min((start + pageable.getPageSize()), filtered.size());
+        return new PageImpl<>(filtered.subList(start, end), pageable, filtered.size());
+    }
+
+    @Benchmark
+    public Page<Meeting> skipLimit() {
+        val content = sorted.stream()
+                .filter(meeting -> meeting.getHost().equals(host))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> sorted.stream().filter(meeting -> meeting.getHost().equals(host)).count());
+    }
+
+    @Benchmark
+    public Slice<Meeting> slice() {
+        val content = sorted.stream()
+                .filter(meeting -> meeting.getHost().equals(host))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .toList();
+        val hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    @Benchmark
+    public CursorPage<Meeting> keyset() {
+        val after = Cursor.decode(cursor).orElseThrow();
+        val from = firstAfter(hostMeetings, LocalDateTime.parse(after.key()), after.id());
+        val items = hostMeetings.subList(from, Math.min(from + PAGE_SIZE + 1, hostMeetings.size()));
+        return CursorPage.of(items, PAGE_SIZE,
+                meeting -> new Cursor(meeting.getStartDate().toString(), meeting.getId()));
+    }
+
+    private static int firstAfter(List<Meeting> meetings, LocalDateTime startDate, UUID id) {
+        var low = 0;
+        var high = meetings.size();
+        while (low < high) {
+            val middle = (low + high) >>> 1;
+            val meeting = meetings.get(middle);
+            val order = meeting.getStartDate().compareTo(startDate);
+            if (order < 0 || (order == 0 && meeting.getId().compareTo(id) <= 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,100 @@
+package com.gitlab.walneyalves.meeting_rooms.benchmarks;
+
+import com.gitlab.walneyalves.meeting_rooms.model.Resource;
+import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.util.Pair;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.stream;
+
+/**
+ * The resource type filter of the room listing. {@code lambda} is the filter {@code RoomService.getAll} used to run
+ * in memory, over the resources of every room; the others match the resource types denormalized on the room, which
+ * is what the {@code resourceTypes} criterion of {@code RoomQueries} asks Mongo to do. The query itself is not part of
+ * the measure.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class RoomFilterBenchmark {
+
+    private static final Resource.Type[] TYPES = {
+            Resource.Type.PROJECTOR,
+            Resource.Type.TV,
+            Resource.Type.WHITEBOARD,
+            Resource.Type.MICROPHONE,
+            Resource.Type.SPEAKER,
+    };
+
+    @Param({"1000", "100000", "1000000"})
+    private int rooms;
+
+    private List<Room> dataset;
+
+    private Map<UUID, List<Resource>> roomResources;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        val random = new Random(Datasets.SEED);
+        val generated = Datasets.rooms(rooms, Datasets.resources(1000, random), random);
+        dataset = generated.rooms();
+        roomResources = generated.resources();
+    }
+
+    @Benchmark
+    public List<Room> lambda() {
+        val typesFilter = TYPES;
+        return dataset.stream()
+                .map(room -> Pair.of(room, roomResources.get(room.getId())))
+                .filter(pair -> pair
+                        .getSecond()
+                        .stream()
+                        .allMatch(resource -> stream(typesFilter)
+                                .anyMatch(resourceType -> resource.getType().equals(resourceType))))
+                .map(Pair::getFirst)
+                .toList();
+    }
+
+    /**
+     * The {@code $nin} of the complement, as sent to Mongo.
+     */
+    @Benchmark
+    public List<Room> excludedTypes() {
+        val excluded = EnumSet.complementOf(EnumSet.copyOf(Arrays.asList(TYPES)));
+        return dataset.stream()
+                .filter(room -> Collections.disjoint(room.getResourceTypes(), excluded))
+                .toList();
+    }
+
+    @Benchmark
+    public List<Room> containsAll() {
+        val types = EnumSet.copyOf(Arrays.asList(TYPES));
+        return dataset.stream()
+                .filter(room -> types.containsAll(room.getResourceTypes()))
+                .toList();
+    }
+}
@@ -0,0 +1,85 @@
+package com.gitlab.walneyalves.meeting_rooms.benchmarks;
+
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.RoomLocks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bookings under {@link RoomLocks}, each thread booking its own room ({@code independent}) or all of them the same one
+ * ({@code shared}), against one lock for every booking ({@code global}). The booking itself is CPU work of about the
+ * cost of an index check. Compare the throughput of a run per thread count, e.g. {@code -Djmh.args="RoomLock -t 4"}:
+ * independent rooms should scale with the cores, while shared and global stay flat.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class RoomLockBenchmark {
+
+    @Param({"independent", "shared"})
+    private String rooms;
+
+    @Param({"200"})
+    private long work;
+
+    private RoomLocks roomLocks;
+
+    private ReentrantLock global;
+
+    @State(Scope.Thread)
+    public static class Booker {
+
+        private UUID roomId;
+
+        @Setup(Level.Trial)
+        public void setUp(RoomLockBenchmark benchmark, ThreadParams threads) {
+            // Consecutive ids fall on consecutive stripes, so no two threads share one by chance.
+            roomId = new UUID(0, "shared".equals(benchmark.rooms) ? 0 : threads.getThreadIndex());
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        roomLocks = new RoomLocks(new SimpleMeterRegistry());
+        global = new ReentrantLock();
+    }
+
+    @Benchmark
+    public Object striped(Booker booker) {
+        return roomLocks.withRoom(booker.roomId, this::book);
+    }
+
+    @Benchmark
+    public Object global() {
+        global.lock();
+        try {
+            return book();
+        } finally {
+            global.unlock();
+        }
+    }
+
+    private Object book() {
+        Blackhole.consumeCPU(work);
+        return Boolean.TRUE;
+    }
+}
@@ -0,0 +1,94 @@
+package com.gitlab.walneyalves.meeting_rooms.load;
+
+import com.gitlab.walneyalves.meeting_rooms.load.Seeder.Dataset;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The endpoints a load test drives, each building its requests from the seeded dataset.
+ */
+@Getter
+@RequiredArgsConstructor
+enum Endpoint {
+
+    /**
+     * Books 50 minutes in a random slot of the seeded days or of the week after, so a part of the bookings conflicts.
+     */
+    CREATE("create", "POST /meeting/create/{roomId}") {
+        @Override
+        HttpRequest request(URI base, Dataset dataset, Random random) {
+            val room = dataset.rooms().get(random.nextInt(dataset.rooms().size()));
+            val day = dataset.firstDay().plusDays(random.nextInt(dataset.days() + 7));
+            val start = LocalDateTime.of(day, Seeder.OPENING.plusHours(random.nextInt(Seeder.SLOTS_PER_DAY)));
+            val body = "{\"title\":\"Load test\",\"startDate\":\"%s\",\"endDate\":\"%s\"}".formatted(start, start.plusMinutes(50));
+            return builder(base, "/meeting/create/" + room.getId())
+                    .header("Host-Id", dataset.hosts().get(random.nextInt(dataset.hosts().size())).toString())
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+    },
+
+    MEETING_LIST("meeting-list", "GET /meeting/list") {
+        @Override
+        HttpRequest request(URI base, Dataset dataset, Random random) {
+            return builder(base, "/meeting/list?size=20&page=" + random.nextInt(5))
+                    .header("Host-Id", dataset.hosts().get(random.nextInt(dataset.hosts().size())).toString())
+                    .GET()
+                    .build();
+        }
+    },
+
+    /**
+     * Every other listing filters by resource types.
+     */
+    ROOM_LIST("room-list", "GET /room/list") {
+        @Override
+        HttpRequest request(URI base, Dataset dataset, Random random) {
+            val types = random.nextBoolean() ? "&types=PROJECTOR,TV,WHITEBOARD,MICROPHONE,SPEAKER" : "";
+            return builder(base, "/room/list?size=20&page=" + random.nextInt(5) + types)
+                    .GET()
+                    .build();
+        }
+    },
+
+    UPDATE("update", "PUT /meeting/update/{meetingId}/title") {
+        @Override
+        HttpRequest request(URI base, Dataset dataset, Random random) {
+            val meeting = dataset.meetings().get(random.nextInt(dataset.meetings().size()));
+            return builder(base, "/meeting/update/" + meeting.getId() + "/title")
+                    .header("Host-Id", meeting.getHost().toString())
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString("{\"title\":\"Updated " + random.nextInt(1000) + "\"}"))
+                    .build();
+        }
+    };
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String key;
+
+    private final String route;
+
+    abstract HttpRequest request(URI base, Dataset dataset, Random random);
+
+    static Endpoint of(String key) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint " + key + ", expected one of "
+                        + Arrays.stream(values()).map(Endpoint::getKey).toList()));
+    }
+
+    private static HttpRequest.Builder builder(URI base, String path) {
+        return HttpRequest.newBuilder(base.resolve(path)).timeout(TIMEOUT);
+    }
+}
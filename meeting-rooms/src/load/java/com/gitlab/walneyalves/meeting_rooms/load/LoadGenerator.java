@@ -0,0 +1,98 @@
+package com.gitlab.walneyalves.meeting_rooms.load;
+
+import com.gitlab.walneyalves.meeting_rooms.load.Seeder.Dataset;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests at a fixed rate (an open model: the next request is due whether or not the previous ones have been
+ * answered), each on its own virtual thread. The endpoint and the parameters of every request come from the seed of
+ * the options, so two runs send the same sequence.
+ */
+@RequiredArgsConstructor
+final class LoadGenerator {
+
+    private final LoadOptions options;
+
+    private final Dataset dataset;
+
+    private final URI base;
+
+    Report run() {
+        val random = new Random(options.seed());
+        val mix = mix();
+        val stats = new EnumMap<Endpoint, Report.Stats>(Endpoint.class);
+        options.mix().keySet().forEach(endpoint -> stats.put(endpoint, new Report.Stats()));
+        val inFlight = new Semaphore(options.maxInFlight());
+        val period = 1_000_000_000.0 / options.rate();
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor();
+             val client = HttpClient.newBuilder().executor(executor).build()) {
+            val start = System.nanoTime();
+            val measureFrom = start + options.warmup().toNanos();
+            val end = measureFrom + options.duration().toNanos();
+            for (var i = 0L; ; i++) {
+                val due = start + (long) (i * period);
+                if (due >= end) {
+                    break;
+                }
+                val endpoint = mix[random.nextInt(mix.length)];
+                val request = endpoint.request(base, dataset, random);
+                val stat = due >= measureFrom ? stats.get(endpoint) : null;
+                sleepUntil(due);
+                if (!inFlight.tryAcquire()) {
+                    if (Objects.nonNull(stat)) {
+                        stat.dropped();
+                    }
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        val response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (Objects.nonNull(stat)) {
+                            stat.record(response.statusCode(), Duration.ofNanos(System.nanoTime() - due));
+                        }
+                    } catch (IOException exception) {
+                        if (Objects.nonNull(stat)) {
+                            stat.failed();
+                        }
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return new Report(options, stats);
+    }
+
+    /**
+     * One entry per unit of weight, so a uniform pick follows the mix.
+     */
+    private Endpoint[] mix() {
+        return options.mix()
+                .entrySet()
+                .stream()
+                .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+                .toArray(Endpoint[]::new);
+    }
+
+    private static void sleepUntil(long due) {
+        for (var remaining = due - System.nanoTime(); remaining > 0; remaining = due - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
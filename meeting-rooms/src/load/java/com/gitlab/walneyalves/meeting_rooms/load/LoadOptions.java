@@ -0,0 +1,90 @@
+package com.gitlab.walneyalves.meeting_rooms.load;
+
+import lombok.val;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Options of a load test, given as {@code --name=value} arguments.
+ *
+ * @param rate        requests per second, spread over the mix
+ * @param mix         relative weight of each endpoint, e.g. {@code create=20,meeting-list=30,room-list=30,update=20}
+ * @param mongodbUri  Mongo to run against; an in-memory stand-in is started when absent
+ */
+record LoadOptions(int rooms,
+                   int resources,
+                   int meetings,
+                   int hosts,
+                   long seed,
+                   int rate,
+                   @NonNull Duration warmup,
+                   @NonNull Duration duration,
+                   int maxInFlight,
+                   @NonNull Map<Endpoint, Integer> mix,
+                   @Nullable String mongodbUri,
+                   @NonNull Path output) {
+
+    private static final Set<String> NAMES = Set.of("rooms", "resources", "meetings", "hosts", "seed", "rate", "warmup",
+            "duration", "max-in-flight", "mix", "mongodb-uri", "output");
+
+    LoadOptions {
+        if (rooms < 1 || hosts < 1 || rate < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("rooms, hosts, rate and max-in-flight must be positive");
+        }
+        if (meetings < 1 && mix.containsKey(Endpoint.UPDATE)) {
+            throw new IllegalArgumentException("The update endpoint needs seeded meetings");
+        }
+    }
+
+    static LoadOptions parse(String... args) {
+        val source = new SimpleCommandLinePropertySource(args);
+        for (val name : source.getPropertyNames()) {
+            if (!NAMES.contains(name)) {
+                throw new IllegalArgumentException("Unknown option --" + name + ", expected one of " + NAMES);
+            }
+        }
+        return new LoadOptions(
+                Integer.parseInt(get(source, "rooms", "200")),
+                Integer.parseInt(get(source, "resources", "100")),
+                Integer.parseInt(get(source, "meetings", "10000")),
+                Integer.parseInt(get(source, "hosts", "50")),
+                Long.parseLong(get(source, "seed", "42")),
+                Integer.parseInt(get(source, "rate", "100")),
+                Duration.parse(get(source, "warmup", "PT10S")),
+                Duration.parse(get(source, "duration", "PT60S")),
+                Integer.parseInt(get(source, "max-in-flight", "1000")),
+                mix(get(source, "mix", "create=20,meeting-list=30,room-list=30,update=20")),
+                source.getProperty("mongodb-uri"),
+                Path.of(get(source, "output", "target/load-test")));
+    }
+
+    private static String get(SimpleCommandLinePropertySource source, String name, String defaultValue) {
+        return Objects.requireNonNullElse(source.getProperty(name), defaultValue);
+    }
+
+    private static Map<Endpoint, Integer> mix(String value) {
+        val mix = new EnumMap<Endpoint, Integer>(Endpoint.class);
+        for (val entry : value.split(",")) {
+            val parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry " + entry + ", expected endpoint=weight");
+            }
+            val weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Endpoint.of(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("The mix has no endpoint with a positive weight");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,52 @@
+package com.gitlab.walneyalves.meeting_rooms.load;
+
+import com.gitlab.walneyalves.meeting_rooms.MeetingRoomsApplication;
+import com.gitlab.walneyalves.meeting_rooms.service.MeetingService;
+import com.gitlab.walneyalves.meeting_rooms.service.ResourceService;
+import com.gitlab.walneyalves.meeting_rooms.service.room.RoomResourceService;
+import com.gitlab.walneyalves.meeting_rooms.service.room.RoomService;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.net.URI;
+import java.util.Objects;
+
+/**
+ * Starts the application on a random port, against an in-memory Mongo stand-in unless {@code --mongodb-uri} is given,
+ * seeds it and drives the endpoint mix of the {@link LoadOptions} at the requested rate. The report is printed and
+ * written to {@code --output} ({@code target/load-test} by default).
+ */
+@Slf4j
+public final class LoadTest {
+
+    private LoadTest() { }
+
+    public static void main(String[] args) throws Exception {
+        val options = LoadOptions.parse(args);
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        val standIn = Objects.isNull(options.mongodbUri()) ? new MongoServer(new MemoryBackend()) : null;
+        val mongodbUri = Objects.isNull(standIn)
+                ? options.mongodbUri()
+                : "mongodb://127.0.0.1:" + standIn.bind().getPort() + "/meeting-rooms";
+        try (val context = new SpringApplicationBuilder(MeetingRoomsApplication.class)
+                .run("--spring.data.mongodb.uri=" + mongodbUri, "--server.port=0")) {
+            val dataset = new Seeder(context.getBean(RoomService.class),
+                    context.getBean(ResourceService.class),
+                    context.getBean(RoomResourceService.class),
+                    context.getBean(MeetingService.class)).seed(options);
+            val port = context.getEnvironment().getRequiredProperty("local.server.port");
+            log.info("Sending {} req/s to port {} for {} after a warmup of {}", options.rate(), port,
+                    options.duration(), options.warmup());
+            val report = new LoadGenerator(options, dataset, URI.create("http://127.0.0.1:" + port)).run();
+            report.print(System.out);
+            report.write(options.output());
+        } finally {
+            if (Objects.nonNull(standIn)) {
+                standIn.shutdownNow();
+            }
+        }
+    }
+}
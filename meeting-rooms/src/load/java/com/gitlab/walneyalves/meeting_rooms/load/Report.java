@@ -0,0 +1,108 @@
+package com.gitlab.walneyalves.meeting_rooms.load;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput and latency percentiles of each endpoint over the measured part of a run. Latencies are in microseconds
+ * and taken from the time a request was due, not from when it was sent, so a stalled server is not hidden by the
+ * generator waiting for it.
+ */
+@RequiredArgsConstructor
+final class Report {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final LoadOptions options;
+
+    private final Map<Endpoint, Stats> stats;
+
+    void print(@NonNull PrintStream out) {
+        val seconds = options.duration().toMillis() / MICROS_PER_MILLI;
+        out.printf("%n%d req/s for %s, %d rooms, %d resources, %d meetings (seed %d)%n", options.rate(),
+                options.duration(), options.rooms(), options.resources(), options.meetings(), options.seed());
+        out.printf("%-38s %9s %9s %9s %9s %9s %9s %9s %9s %9s%n", "endpoint", "ok", "rejected", "failed", "dropped",
+                "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        stats.forEach((endpoint, stat) -> {
+            val histogram = stat.histogram();
+            out.printf("%-38s %9d %9d %9d %9d %9.1f %9.2f %9.2f %9.2f %9.2f%n", endpoint.getRoute(),
+                    stat.ok.sum(), stat.rejected.sum(), stat.failed.sum(), stat.dropped.sum(),
+                    histogram.getTotalCount() / seconds,
+                    millis(histogram, 50), millis(histogram, 95), millis(histogram, 99),
+                    histogram.getMaxValue() / MICROS_PER_MILLI);
+        });
+    }
+
+    /**
+     * Writes the summary and the full percentile distribution of each endpoint ({@code <endpoint>.hgrm}, in
+     * milliseconds), which can be plotted or compared with the HdrHistogram tools.
+     */
+    void write(@NonNull Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (val out = new PrintStream(Files.newOutputStream(directory.resolve("summary.txt")))) {
+            print(out);
+        }
+        for (val entry : stats.entrySet()) {
+            try (val out = new PrintStream(Files.newOutputStream(directory.resolve(entry.getKey().getKey() + ".hgrm")))) {
+                entry.getValue().histogram().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    static final class Stats {
+
+        private final Histogram histogram = new ConcurrentHistogram(3);
+
+        private final LongAdder ok = new LongAdder();
+
+        private final LongAdder rejected = new LongAdder();
+
+        private final LongAdder failed = new LongAdder();
+
+        private final LongAdder dropped = new LongAdder();
+
+        void record(int status, Duration latency) {
+            histogram.recordValue(Math.max(1, latency.toNanos() / 1000));
+            if (status >= 200 && status < 300) {
+                ok.increment();
+            } else if (status >= 400 && status < 500) {
+                rejected.increment();
+            } else {
+                failed.increment();
+            }
+        }
+
+        /**
+         * A request that could not be sent or got no response; not part of the latencies.
+         */
+        void failed() {
+            failed.increment();
+        }
+
+        /**
+         * A request that was not sent because too many were already waiting for a response.
+         */
+        void dropped() {
+            dropped.increment();
+        }
+
+        Histogram histogram() {
+            return histogram;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.gitlab.walneyalves.meeting_rooms.load;
+
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.model.Resource;
+import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import com.gitlab.walneyalves.meeting_rooms.service.MeetingService;
+import com.gitlab.walneyalves.meeting_rooms.service.ResourceService;
+import com.gitlab.walneyalves.meeting_rooms.service.room.RoomResourceService;
+import com.gitlab.walneyalves.meeting_rooms.service.room.RoomService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.lang.NonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Seeds the rooms, resources and meetings of a load test through the services, from the seed of the options, so two
+ * runs with the same options start from the same data.
+ */
+@Slf4j
+@RequiredArgsConstructor
+final class Seeder {
+
+    static final LocalTime OPENING = LocalTime.of(8, 0);
+
+    static final int SLOTS_PER_DAY = 9;
+
+    private static final int RESOURCES_PER_ROOM = 3;
+
+    private final RoomService roomService;
+
+    private final ResourceService resourceService;
+
+    private final RoomResourceService roomResourceService;
+
+    private final MeetingService meetingService;
+
+    Dataset seed(@NonNull LoadOptions options) {
+        val random = new Random(options.seed());
+        val types = Resource.Type.values();
+        val resources = new ArrayList<Resource>(options.resources());
+        for (var i = 0; i < options.resources(); i++) {
+            resources.add(resourceService.create(Resource.builder()
+                    .id(uuid(random))
+                    .name("Resource " + i)
+                    .type(types[random.nextInt(types.length)])));
+        }
+        val rooms = new ArrayList<Room>(options.rooms());
+        for (var i = 0; i < options.rooms(); i++) {
+            val room = roomService.create(Room.builder()
+                    .id(uuid(random))
+                    .name("Room " + i)
+                    .capacity(Room.MIN_CAPACITY + random.nextInt(20))
+                    .initialAvailability(OPENING)
+                    .finalAvailability(OPENING.plusHours(SLOTS_PER_DAY + 1)));
+            if (!resources.isEmpty()) {
+                for (var j = random.nextInt(RESOURCES_PER_ROOM + 1); j > 0; j--) {
+                    roomResourceService.addResource(room, resources.get(random.nextInt(resources.size())));
+                }
+            }
+            rooms.add(room);
+        }
+        val hosts = new ArrayList<UUID>(options.hosts());
+        for (var i = 0; i < options.hosts(); i++) {
+            hosts.add(uuid(random));
+        }
+        // Starts well ahead, so no seeded meeting is started or ended by the scheduler during the run.
+        val firstDay = LocalDate.now().plusDays(7);
+        val meetings = new ArrayList<Meeting>(options.meetings());
+        for (var i = 0; i < options.meetings(); i++) {
+            // One meeting per slot and room, filling the rooms day after day.
+            val slot = i / rooms.size();
+            val start = LocalDateTime.of(firstDay.plusDays(slot / SLOTS_PER_DAY), OPENING.plusHours(slot % SLOTS_PER_DAY));
+            val request = new MeetingCreateRequest("Meeting " + i, null, start, start.plusMinutes(50));
+            meetings.add(meetingService.book(request, rooms.get(i % rooms.size()), hosts.get(random.nextInt(hosts.size())))
+                    .orElseThrow());
+        }
+        val days = Math.max(1, (int) Math.ceil((double) options.meetings() / rooms.size() / SLOTS_PER_DAY));
+        log.info("Seeded {} rooms, {} resources and {} meetings over {} days", rooms.size(), resources.size(), meetings.size(), days);
+        return new Dataset(hosts, rooms, meetings, firstDay, days);
+    }
+
+    private static UUID uuid(Random random) {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+
+    /**
+     * @param days the days over which the seeded meetings are spread, from {@code firstDay}
+     */
+    record Dataset(@NonNull List<UUID> hosts,
+                   @NonNull List<Room> rooms,
+                   @NonNull List<Meeting> meetings,
+                   @NonNull LocalDate firstDay,
+                   int days) { }
+}
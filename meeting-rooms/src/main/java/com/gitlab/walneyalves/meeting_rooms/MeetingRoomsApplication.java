@@ -1,7 +1,9 @@
 package com.gitlab.walneyalves.meeting_rooms;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gitlab.walneyalves.meeting_rooms.repository.MeetingRepository;
 import lombok.val;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -15,7 +17,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @EnableAsync
 @EnableScheduling
 @EnableMongoAuditing
-@EnableMongoRepositories
+@EnableMongoRepositories(basePackageClasses = MeetingRepository.class)
 @SpringBootApplication
 public class MeetingRoomsApplication {
 
@@ -28,6 +30,8 @@ public class MeetingRoomsApplication {
 	public ObjectMapper objectMapper() {
 		val mapper = new ObjectMapper();
 		mapper.registerModule(new JavaTimeModule());
+		// Reads the fields of merge patches as optionals, see MergePatch.
+		mapper.registerModule(new Jdk8Module());
 		return mapper;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.gitlab.walneyalves.meeting_rooms.configuration;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@EnableCaching
+@Configuration(proxyBeanMethods = false)
+public class CacheConfiguration {
+
+    public static final String ROOMS = "rooms";
+
+    public static final String RESOURCES = "resources";
+}
@@ -0,0 +1,86 @@
+package com.gitlab.walneyalves.meeting_rooms.configuration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Requests and {@code @Async} work run on virtual threads; scheduled jobs get a platform thread each.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ExecutorConfiguration {
+
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME,
+    })
+    public SimpleAsyncTaskExecutor applicationTaskExecutor(SimpleAsyncTaskExecutorBuilder builder,
+                                                           MeterRegistry meterRegistry) {
+        return builder
+                .taskDecorator(new MeteredTaskDecorator(meterRegistry, TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME))
+                .build();
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * Counts queued and active tasks, which virtual-thread executors have no pool to report.
+     */
+    public static final class MeteredTaskDecorator implements TaskDecorator {
+
+        private final AtomicInteger queued = new AtomicInteger();
+
+        private final AtomicInteger active = new AtomicInteger();
+
+        private final Counter completed;
+
+        public MeteredTaskDecorator(MeterRegistry meterRegistry, String name) {
+            Gauge.builder("executor.queued", queued, AtomicInteger::get)
+                    .tag("name", name)
+                    .description("The approximate number of tasks that are queued for execution")
+                    .baseUnit("tasks")
+                    .register(meterRegistry);
+            Gauge.builder("executor.active", active, AtomicInteger::get)
+                    .tag("name", name)
+                    .description("The approximate number of threads that are actively executing tasks")
+                    .baseUnit("threads")
+                    .register(meterRegistry);
+            completed = Counter.builder("executor.completed")
+                    .tag("name", name)
+                    .description("The approximate total number of tasks that have completed execution")
+                    .baseUnit("tasks")
+                    .register(meterRegistry);
+        }
+
+        @NonNull
+        @Override
+        public Runnable decorate(@NonNull Runnable runnable) {
+            queued.incrementAndGet();
+            return () -> {
+                queued.decrementAndGet();
+                active.incrementAndGet();
+                try {
+                    runnable.run();
+                } finally {
+                    active.decrementAndGet();
+                    completed.increment();
+                }
+            };
+        }
+    }
+}
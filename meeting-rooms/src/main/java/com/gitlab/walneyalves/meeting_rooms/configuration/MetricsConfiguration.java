@@ -0,0 +1,96 @@
+package com.gitlab.walneyalves.meeting_rooms.configuration;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Counts the Mongo commands of each request per thread, so N+1 patterns show; the reactive profile is not covered.
+ */
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfiguration {
+
+    public static final String REQUEST_COMMANDS = "mongodb.request.commands";
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoCommandCounter() {
+        return settings -> settings.addCommandListener(new MongoCommandCounter());
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public WebMvcConfigurer mongoCommandsPerRequest(MeterRegistry meterRegistry) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(@NonNull InterceptorRegistry registry) {
+                registry.addInterceptor(new MongoCommandsInterceptor(meterRegistry));
+            }
+        };
+    }
+
+    public static final class MongoCommandCounter implements CommandListener {
+
+        private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+        public static void open() {
+            COUNT.set(new int[1]);
+        }
+
+        public static int close() {
+            val count = COUNT.get();
+            COUNT.remove();
+            return Objects.isNull(count) ? 0 : count[0];
+        }
+
+        @Override
+        public void commandStarted(@NonNull CommandStartedEvent event) {
+            val count = COUNT.get();
+            if (Objects.nonNull(count)) {
+                count[0]++;
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    public static final class MongoCommandsInterceptor implements HandlerInterceptor {
+
+        private final MeterRegistry meterRegistry;
+
+        @Override
+        public boolean preHandle(@NonNull HttpServletRequest request,
+                                 @NonNull HttpServletResponse response,
+                                 @NonNull Object handler) {
+            MongoCommandCounter.open();
+            return true;
+        }
+
+        @Override
+        public void afterCompletion(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull Object handler,
+                                    @Nullable Exception exception) {
+            val uri = Optional.ofNullable(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE))
+                    .map(Object::toString)
+                    .orElse("UNKNOWN");
+            meterRegistry.summary(REQUEST_COMMANDS, "method", request.getMethod(), "uri", uri)
+                    .record(MongoCommandCounter.close());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.gitlab.walneyalves.meeting_rooms.configuration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+@Configuration(proxyBeanMethods = false)
+@RequiredArgsConstructor
+class MongoIndexConfiguration {
+
+    private final MongoTemplate mongoTemplate;
+
+    private final MongoMappingContext mappingContext;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        val resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        mappingContext.getPersistentEntities()
+                .stream()
+                .filter(entity -> entity.isAnnotationPresent(Document.class))
+                .forEach(entity -> {
+                    val indexOperations = mongoTemplate.indexOps(entity.getType());
+                    resolver.resolveIndexFor(entity.getType()).forEach(indexOperations::ensureIndex);
+                });
+    }
+}
@@ -1,6 +1,10 @@
 package com.gitlab.walneyalves.meeting_rooms.controller.meeting;
 
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.CursorPage;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MergePatch;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingBulkCreateRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingPatchRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingUpdateDescriptionRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingUpdateDurationRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingUpdateTitleRequest;
@@ -12,14 +16,16 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Meeting", description = "APIs for managing meetings")
@@ -37,17 +43,42 @@ interface IMeetingController {
                                    @PathVariable UUID roomId,
                                    @RequestBody MeetingCreateRequest request);
 
+    @PostMapping("/create/bulk")
+    @Operation(summary = "Create several meetings at once", description = "Either every meeting is created or none is; a rejected batch lists the error of each meeting that can not be created, by its position in the request")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Meetings created successfully"),
+            @ApiResponse(responseCode = "400", description = "Empty or too large batch, or some meetings can not be created", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<List<Meeting>> createAll(@RequestHeader("Host-Id") UUID host,
+                                            @RequestBody List<MeetingBulkCreateRequest> requests);
+
     @GetMapping("/list")
-    @Operation(summary = "Get a list of meetings with optional filters")
+    @Operation(summary = "Get a list of meetings with optional filters", description = "Set total to false to skip counting the matching meetings and get a slice instead of a page")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "List of meetings retrieved successfully"),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    ResponseEntity<Page<Meeting>> getMeetings(Pageable pageable,
-                                              @RequestHeader("Host-Id") UUID host,
-                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @Nullable LocalDateTime startDate,
-                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @Nullable LocalDateTime endDate,
-                                              @RequestParam(required = false) @Nullable Meeting.State... states);
+    ResponseEntity<Slice<Meeting>> getMeetings(Pageable pageable,
+                                               @RequestHeader("Host-Id") UUID host,
+                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @Nullable LocalDateTime startDate,
+                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @Nullable LocalDateTime endDate,
+                                               @RequestParam(defaultValue = "true") Boolean total,
+                                               @RequestParam(required = false) @Nullable Meeting.State... states);
+
+    @GetMapping("/list/cursor")
+    @Operation(summary = "Get meetings ordered by start date, one page after another", description = "Pass the returned next cursor to fetch the following page; a null next cursor means there are no more meetings")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of meetings retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<CursorPage<Meeting>> getMeetingsByCursor(@RequestHeader("Host-Id") UUID host,
+                                                            @RequestParam(required = false) @Nullable String cursor,
+                                                            @RequestParam(defaultValue = "20") Integer size,
+                                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @Nullable LocalDateTime startDate,
+                                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @Nullable LocalDateTime endDate,
+                                                            @RequestParam(required = false) @Nullable Meeting.State... states);
 
     @PutMapping("/cancel/{meetingId}")
     @Operation(summary = "Cancel a specific meeting")
@@ -93,4 +124,16 @@ interface IMeetingController {
     ResponseEntity<Meeting> updateDuration(@RequestHeader("Host-Id") UUID host,
                                            @PathVariable UUID meetingId,
                                            @RequestBody MeetingUpdateDurationRequest request);
+
+    @PatchMapping(value = "/update/{meetingId}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Update several fields of a meeting at once", description = "A JSON Merge Patch: the fields left out are kept and a null description is removed; the dates can only change before the meeting starts")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Meeting updated successfully"),
+            @ApiResponse(responseCode = "404", description = "Meeting not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Insufficient privileges to update the meeting", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid patch or state for updating the dates", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<Meeting> patch(@RequestHeader("Host-Id") UUID host,
+                                  @PathVariable UUID meetingId,
+                                  @RequestBody MeetingPatchRequest request);
 }
\ No newline at end of file
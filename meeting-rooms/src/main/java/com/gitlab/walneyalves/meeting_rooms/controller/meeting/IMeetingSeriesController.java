@@ -0,0 +1,79 @@
+package com.gitlab.walneyalves.meeting_rooms.controller.meeting;
+
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingSeriesCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingSeriesSkipRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.ErrorResponse;
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.Occurrences;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Tag(name = "Meeting series", description = "APIs for managing recurring meetings")
+interface IMeetingSeriesController {
+
+    @PostMapping("/create/{roomId}")
+    @Operation(summary = "Create a recurring meeting in a room", description = "The first occurrence is given by the start and end dates, on the same day; the series repeats daily, weekly or monthly until a date or for a number of occurrences")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Meeting series created successfully"),
+            @ApiResponse(responseCode = "404", description = "Room not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid time range or recurrence, or room is unavailable for some occurrence", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<MeetingSeries> create(@RequestHeader("Host-Id") UUID host,
+                                         @PathVariable UUID roomId,
+                                         @RequestBody MeetingSeriesCreateRequest request);
+
+    @GetMapping("/list")
+    @Operation(summary = "Get the meeting series of a host")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "List of meeting series retrieved successfully"),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<List<MeetingSeries>> getAll(@RequestHeader("Host-Id") UUID host);
+
+    @GetMapping("/{seriesId}/occurrences")
+    @Operation(summary = "Get the occurrences of a meeting series that overlap a time range")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Occurrences retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Meeting series not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Insufficient privileges to see the meeting series", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<List<Occurrences.Occurrence>> getOccurrences(@RequestHeader("Host-Id") UUID host,
+                                                                @PathVariable UUID seriesId,
+                                                                @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+                                                                @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate);
+
+    @PutMapping("/cancel/{seriesId}")
+    @Operation(summary = "Cancel every remaining occurrence of a meeting series")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Meeting series canceled successfully"),
+            @ApiResponse(responseCode = "404", description = "Meeting series not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Insufficient privileges to cancel the meeting series", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid state for cancellation", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<?> cancel(@RequestHeader("Host-Id") UUID host,
+                             @PathVariable UUID seriesId);
+
+    @PutMapping("/update/{seriesId}/skip")
+    @Operation(summary = "Skip the occurrence of a meeting series on a date")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Occurrence skipped successfully"),
+            @ApiResponse(responseCode = "404", description = "Meeting series not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Insufficient privileges to update the meeting series", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "400", description = "No occurrence on this date, or invalid state for skipping it", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<MeetingSeries> skip(@RequestHeader("Host-Id") UUID host,
+                                       @PathVariable UUID seriesId,
+                                       @RequestBody MeetingSeriesSkipRequest request);
+}
@@ -1,7 +1,11 @@
 package com.gitlab.walneyalves.meeting_rooms.controller.meeting;
 
 import com.gitlab.walneyalves.meeting_rooms.domain.filter.MeetingFilter;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.Cursor;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.CursorPage;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingBulkCreateRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingPatchRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingUpdateDescriptionRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingUpdateDurationRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingUpdateTitleRequest;
@@ -10,22 +14,29 @@ import com.gitlab.walneyalves.meeting_rooms.domain.response.RoomResponse;
 import com.gitlab.walneyalves.meeting_rooms.exception.ExceptionAdvice;
 import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
 import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.reactive.ReactiveConfiguration;
 import com.gitlab.walneyalves.meeting_rooms.service.MeetingService;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.BookingMetrics;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.BookingMetrics.Outcome;
 import com.gitlab.walneyalves.meeting_rooms.service.room.RoomService;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
-import org.springframework.data.domain.Page;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @RequiredArgsConstructor
 @ExceptionAdvice
+@Profile("!" + ReactiveConfiguration.PROFILE)
 @RestController
 @RequestMapping("/meeting")
 public class MeetingController implements IMeetingController {
@@ -34,37 +45,63 @@ public class MeetingController implements IMeetingController {
 
     private final MeetingService meetingService;
 
+    private final BookingMetrics bookingMetrics;
+
     @Override
     public ResponseEntity<Meeting> create(UUID host,
                                           UUID roomId,
                                           MeetingCreateRequest request) {
-        val room = roomService.get(roomId).orElseThrow(() -> new MeetingRoomsException(RoomResponse.NOT_FOUND));
+        val booking = bookingMetrics.start();
+        val room = roomService.get(roomId)
+                .orElseThrow(() -> booking.rejected(Outcome.NOT_FOUND, RoomResponse.NOT_FOUND));
         if (request.startDate().isAfter(request.endDate())) {
-            throw new MeetingRoomsException(MeetingResponse.INVALID_TIME_RANGE);
+            throw booking.rejected(Outcome.INVALID_RANGE, MeetingResponse.INVALID_TIME_RANGE);
         }
         if (!roomService.isTimeRangeSupported(room, request.startDate(), request.endDate())) {
-            throw new MeetingRoomsException(MeetingResponse.INVALID_TIME_RANGE);
+            throw booking.rejected(Outcome.INVALID_RANGE, MeetingResponse.INVALID_TIME_RANGE);
         }
         if (!roomService.isAvailable(room.getId())) {
-            throw new MeetingRoomsException(RoomResponse.UNAVAILABLE);
-        }
-        if (meetingService.hasMeeting(room, request.startDate(), request.endDate())) {
-            throw new MeetingRoomsException(RoomResponse.UNAVAILABLE);
+            throw booking.rejected(Outcome.UNAVAILABLE, RoomResponse.UNAVAILABLE);
         }
-        val meeting = meetingService.create(request, room, host);
+        val meeting = meetingService.book(request, room, host)
+                .orElseThrow(() -> booking.rejected(Outcome.CONFLICT, RoomResponse.UNAVAILABLE));
+        booking.created();
         return ResponseEntity.status(HttpStatus.CREATED).body(meeting);
     }
 
     @Override
-    public ResponseEntity<Page<Meeting>> getMeetings(Pageable pageable,
-                                                     UUID host,
-                                                     LocalDateTime startDate,
-                                                     LocalDateTime endDate,
-                                                     Meeting.State... states) {
+    public ResponseEntity<List<Meeting>> createAll(UUID host,
+                                                   List<MeetingBulkCreateRequest> requests) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(meetingService.createAll(requests, host));
+    }
+
+    @Override
+    public ResponseEntity<Slice<Meeting>> getMeetings(Pageable pageable,
+                                                      UUID host,
+                                                      LocalDateTime startDate,
+                                                      LocalDateTime endDate,
+                                                      Boolean total,
+                                                      Meeting.State... states) {
         val filter = new MeetingFilter(startDate, endDate, states);
+        if (!total) {
+            return ResponseEntity.ok(meetingService.getMeetingsSlice(host, filter, pageable));
+        }
         return ResponseEntity.ok(meetingService.getMeetings(host, filter, pageable));
     }
 
+    @Override
+    public ResponseEntity<CursorPage<Meeting>> getMeetingsByCursor(UUID host,
+                                                                   String cursor,
+                                                                   Integer size,
+                                                                   LocalDateTime startDate,
+                                                                   LocalDateTime endDate,
+                                                                   Meeting.State... states) {
+        val after = Objects.isNull(cursor) ? null : Cursor.decode(cursor)
+                .orElseThrow(() -> new MeetingRoomsException(MeetingResponse.INVALID_CURSOR));
+        val filter = new MeetingFilter(startDate, endDate, states);
+        return ResponseEntity.ok(meetingService.getMeetingsAfter(host, filter, after, size));
+    }
+
     @Override
     public ResponseEntity<?> cancel(UUID host,
                                     UUID meetingId) {
@@ -81,22 +118,18 @@ public class MeetingController implements IMeetingController {
     public ResponseEntity<Meeting> updateTitle(UUID host,
                                                UUID meetingId,
                                                MeetingUpdateTitleRequest request) {
-        val meeting = meetingService.get(meetingId).orElseThrow(() -> new MeetingRoomsException(MeetingResponse.NOT_FOUND));
-        checkHost(meeting, host);
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(meetingService.updateTitle(meeting, request.title()));
+                .body(meetingService.updateTitle(meetingId, host, request.title()));
     }
 
     @Override
     public ResponseEntity<Meeting> updateDescription(UUID host,
                                                      UUID meetingId,
                                                      MeetingUpdateDescriptionRequest request) {
-        val meeting = meetingService.get(meetingId).orElseThrow(() -> new MeetingRoomsException(MeetingResponse.NOT_FOUND));
-        checkHost(meeting, host);
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(meetingService.updateDescription(meeting, request.description()));
+                .body(meetingService.updateDescription(meetingId, host, request.description()));
     }
 
     @Override
@@ -113,6 +146,17 @@ public class MeetingController implements IMeetingController {
                 .body(meetingService.updateDuration(meeting, request.startDate(), request.endDate()));
     }
 
+    @Override
+    public ResponseEntity<Meeting> patch(UUID host,
+                                         UUID meetingId,
+                                         MeetingPatchRequest request) {
+        val meeting = meetingService.get(meetingId).orElseThrow(() -> new MeetingRoomsException(MeetingResponse.NOT_FOUND));
+        checkHost(meeting, host);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(meetingService.patch(meeting, request));
+    }
+
     private void checkHost(Meeting meeting, UUID host) {
         if (!meeting.getHost().equals(host)) {
             throw new MeetingRoomsException(MeetingResponse.INSUFFICIENT_PRIVILEGES);
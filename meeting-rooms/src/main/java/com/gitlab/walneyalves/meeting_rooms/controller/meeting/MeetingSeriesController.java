@@ -0,0 +1,86 @@
+package com.gitlab.walneyalves.meeting_rooms.controller.meeting;
+
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingSeriesCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingSeriesSkipRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.MeetingSeriesResponse;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.RoomResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.ExceptionAdvice;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries;
+import com.gitlab.walneyalves.meeting_rooms.reactive.ReactiveConfiguration;
+import com.gitlab.walneyalves.meeting_rooms.service.MeetingSeriesService;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.Occurrences;
+import com.gitlab.walneyalves.meeting_rooms.service.room.RoomService;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@ExceptionAdvice
+@Profile("!" + ReactiveConfiguration.PROFILE)
+@RestController
+@RequestMapping("/meeting/series")
+public class MeetingSeriesController implements IMeetingSeriesController {
+
+    private final RoomService roomService;
+
+    private final MeetingSeriesService meetingSeriesService;
+
+    @Override
+    public ResponseEntity<MeetingSeries> create(UUID host,
+                                                UUID roomId,
+                                                MeetingSeriesCreateRequest request) {
+        val room = roomService.get(roomId).orElseThrow(() -> new MeetingRoomsException(RoomResponse.NOT_FOUND));
+        return ResponseEntity.status(HttpStatus.CREATED).body(meetingSeriesService.create(request, room, host));
+    }
+
+    @Override
+    public ResponseEntity<List<MeetingSeries>> getAll(UUID host) {
+        return ResponseEntity.ok(meetingSeriesService.getAll(host));
+    }
+
+    @Override
+    public ResponseEntity<List<Occurrences.Occurrence>> getOccurrences(UUID host,
+                                                                       UUID seriesId,
+                                                                       LocalDateTime startDate,
+                                                                       LocalDateTime endDate) {
+        val series = hostedSeries(seriesId, host);
+        return ResponseEntity.ok(meetingSeriesService.getOccurrences(series, startDate, endDate));
+    }
+
+    @Override
+    public ResponseEntity<?> cancel(UUID host,
+                                    UUID seriesId) {
+        val series = hostedSeries(seriesId, host);
+        if (!meetingSeriesService.canCancel(series)) {
+            throw new MeetingRoomsException(MeetingSeriesResponse.INVALID_STATE);
+        }
+        meetingSeriesService.cancel(series);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Override
+    public ResponseEntity<MeetingSeries> skip(UUID host,
+                                              UUID seriesId,
+                                              MeetingSeriesSkipRequest request) {
+        val series = hostedSeries(seriesId, host);
+        return ResponseEntity.ok(meetingSeriesService.skip(series, request.date()));
+    }
+
+    private MeetingSeries hostedSeries(UUID seriesId, UUID host) {
+        val series = meetingSeriesService.get(seriesId)
+                .orElseThrow(() -> new MeetingRoomsException(MeetingSeriesResponse.NOT_FOUND));
+        if (!series.getHost().equals(host)) {
+            throw new MeetingRoomsException(MeetingSeriesResponse.INSUFFICIENT_PRIVILEGES);
+        }
+        return series;
+    }
+}
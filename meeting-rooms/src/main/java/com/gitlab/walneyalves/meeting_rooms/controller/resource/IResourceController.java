@@ -1,6 +1,8 @@
 package com.gitlab.walneyalves.meeting_rooms.controller.resource;
 
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MergePatch;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.ResourceCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.ResourcePatchRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.ResourceUpdateNameRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.ResourceUpdateTypeRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.response.ErrorResponse;
@@ -13,6 +15,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -56,6 +59,15 @@ interface IResourceController {
     })
     ResponseEntity<Resource> updateType(@PathVariable UUID resourceId, @RequestBody ResourceUpdateTypeRequest request);
 
+    @PatchMapping(value = "/update/{resourceId}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Update several fields of a resource at once", description = "A JSON Merge Patch: the fields left out are kept")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resource updated successfully"),
+            @ApiResponse(responseCode = "404", description = "Resource not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid patch provided", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<Resource> patch(@PathVariable UUID resourceId, @RequestBody ResourcePatchRequest request);
+
     @DeleteMapping("/delete/{resourceId}")
     @Operation(summary = "Delete a resource")
     @ApiResponses(value = {
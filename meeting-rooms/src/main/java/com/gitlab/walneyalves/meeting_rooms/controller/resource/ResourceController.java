@@ -1,16 +1,19 @@
 package com.gitlab.walneyalves.meeting_rooms.controller.resource;
 
 import com.gitlab.walneyalves.meeting_rooms.domain.request.ResourceCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.ResourcePatchRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.ResourceUpdateNameRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.ResourceUpdateTypeRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.response.ResourceResponse;
 import com.gitlab.walneyalves.meeting_rooms.exception.ExceptionAdvice;
 import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
 import com.gitlab.walneyalves.meeting_rooms.model.Resource;
+import com.gitlab.walneyalves.meeting_rooms.reactive.ReactiveConfiguration;
 import com.gitlab.walneyalves.meeting_rooms.service.ResourceService;
 import com.gitlab.walneyalves.meeting_rooms.service.room.RoomResourceService;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -22,6 +25,7 @@ import java.util.UUID;
 
 @RequiredArgsConstructor
 @ExceptionAdvice
+@Profile("!" + ReactiveConfiguration.PROFILE)
 @RestController
 @RequestMapping("/resource")
 public class ResourceController implements IResourceController {
@@ -44,16 +48,17 @@ public class ResourceController implements IResourceController {
 
     @Override
     public ResponseEntity<Resource> updateName(UUID resourceId, ResourceUpdateNameRequest request) {
-        val resource = resourceService.get(resourceId)
-                .orElseThrow(() -> new MeetingRoomsException(ResourceResponse.NOT_FOUND));
-        return ResponseEntity.status(HttpStatus.OK).body(resourceService.updateName(resource, request.name()));
+        return ResponseEntity.status(HttpStatus.OK).body(resourceService.updateName(resourceId, request.name()));
     }
 
     @Override
     public ResponseEntity<Resource> updateType(UUID resourceId, ResourceUpdateTypeRequest request) {
-        val resource = resourceService.get(resourceId)
-                .orElseThrow(() -> new MeetingRoomsException(ResourceResponse.NOT_FOUND));
-        return ResponseEntity.status(HttpStatus.OK).body(resourceService.updateType(resource, request.type()));
+        return ResponseEntity.status(HttpStatus.OK).body(resourceService.updateType(resourceId, request.type()));
+    }
+
+    @Override
+    public ResponseEntity<Resource> patch(UUID resourceId, ResourcePatchRequest request) {
+        return ResponseEntity.status(HttpStatus.OK).body(resourceService.patch(resourceId, request));
     }
 
     @Override
@@ -1,6 +1,10 @@
 package com.gitlab.walneyalves.meeting_rooms.controller.room;
 
+import com.gitlab.walneyalves.meeting_rooms.domain.availability.AvailabilityGrid;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.CursorPage;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MergePatch;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.RoomCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.RoomPatchRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.RoomUpdateAvailabilityPeriodRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.RoomUpdateCapacityRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.RoomUpdateNameRequest;
@@ -13,12 +17,15 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.UUID;
@@ -36,17 +43,49 @@ public interface IRoomController {
     ResponseEntity<Room> create(@RequestBody RoomCreateRequest request);
 
     @GetMapping("/list")
-    @Operation(summary = "List rooms with optional filters")
+    @Operation(summary = "List rooms with optional filters", description = "Set total to false to skip counting the matching rooms and get a slice instead of a page")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "List of rooms retrieved successfully"),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    ResponseEntity<Page<Room>> getRooms(Pageable pageable,
-                                        @RequestParam(required = false) @Nullable Integer capacity,
-                                        @RequestParam(required = false) @Nullable Boolean available,
-                                        @RequestParam(required = false) @Schema(type = "string", format = "HH:mm:ss") @Nullable LocalTime initialAvailability,
-                                        @RequestParam(required = false) @Schema(type = "string", format = "HH:mm:ss") @Nullable LocalTime finalAvailability,
-                                        @RequestParam(required = false) @Nullable Resource.Type... types);
+    ResponseEntity<Slice<Room>> getRooms(Pageable pageable,
+                                         @RequestParam(required = false) @Nullable Integer capacity,
+                                         @RequestParam(required = false) @Nullable Boolean available,
+                                         @RequestParam(required = false) @Schema(type = "string", format = "HH:mm:ss") @Nullable LocalTime initialAvailability,
+                                         @RequestParam(required = false) @Schema(type = "string", format = "HH:mm:ss") @Nullable LocalTime finalAvailability,
+                                         @RequestParam(defaultValue = "true") Boolean total,
+                                         @RequestParam(required = false) @Nullable Resource.Type... types);
+
+    @GetMapping("/list/cursor")
+    @Operation(summary = "List rooms ordered by name, one page after another", description = "Pass the returned next cursor to fetch the following page; a null next cursor means there are no more rooms")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of rooms retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<CursorPage<Room>> getRoomsByCursor(@RequestParam(required = false) @Nullable String cursor,
+                                                      @RequestParam(defaultValue = "20") Integer size,
+                                                      @RequestParam(required = false) @Nullable Integer capacity,
+                                                      @RequestParam(required = false) @Nullable Boolean available,
+                                                      @RequestParam(required = false) @Schema(type = "string", format = "HH:mm:ss") @Nullable LocalTime initialAvailability,
+                                                      @RequestParam(required = false) @Schema(type = "string", format = "HH:mm:ss") @Nullable LocalTime finalAvailability,
+                                                      @RequestParam(required = false) @Nullable Resource.Type... types);
+
+    @GetMapping("/availability")
+    @Operation(summary = "Get the free/busy bitmap of the rooms over a time window", description = "The window is split in slots of granularity minutes; bit i of each room, least significant bit first in the Base64 bytes, is set when slot i can be booked")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Availability retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid availability window", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<AvailabilityGrid> getAvailability(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                     @RequestParam(defaultValue = "30") Integer granularity,
+                                                     @RequestParam(required = false) @Nullable Integer capacity,
+                                                     @RequestParam(required = false) @Nullable Boolean available,
+                                                     @RequestParam(required = false) @Schema(type = "string", format = "HH:mm:ss") @Nullable LocalTime initialAvailability,
+                                                     @RequestParam(required = false) @Schema(type = "string", format = "HH:mm:ss") @Nullable LocalTime finalAvailability,
+                                                     @RequestParam(required = false) @Nullable Resource.Type... types);
 
     @GetMapping("/list/{roomId}/resources")
     @Operation(summary = "Get resources of a specific room")
@@ -83,6 +122,15 @@ public interface IRoomController {
     })
     ResponseEntity<Room> updateAvailabilityPeriod(@PathVariable UUID roomId, @RequestBody RoomUpdateAvailabilityPeriodRequest request);
 
+    @PatchMapping(value = "/update/{roomId}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Update several fields of a room at once", description = "A JSON Merge Patch: the fields left out are kept")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Room updated successfully"),
+            @ApiResponse(responseCode = "404", description = "Room not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid patch provided", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<Room> patch(@PathVariable UUID roomId, @RequestBody RoomPatchRequest request);
+
     @PutMapping("/update/{roomId}/resources/add/{resourceId}")
     @Operation(summary = "Add a resource to a room")
     @ApiResponses(value = {
@@ -1,38 +1,51 @@
 package com.gitlab.walneyalves.meeting_rooms.controller.room;
 
+import com.gitlab.walneyalves.meeting_rooms.domain.availability.AvailabilityGrid;
 import com.gitlab.walneyalves.meeting_rooms.domain.filter.RoomFilter;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.Cursor;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.CursorPage;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.RoomCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.RoomPatchRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.RoomUpdateAvailabilityPeriodRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.RoomUpdateCapacityRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.RoomUpdateNameRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.response.ResourceResponse;
 import com.gitlab.walneyalves.meeting_rooms.domain.response.RoomResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.ExceptionAdvice;
 import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
 import com.gitlab.walneyalves.meeting_rooms.model.Resource;
 import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import com.gitlab.walneyalves.meeting_rooms.reactive.ReactiveConfiguration;
 import com.gitlab.walneyalves.meeting_rooms.service.ResourceService;
+import com.gitlab.walneyalves.meeting_rooms.service.room.RoomAvailabilityService;
 import com.gitlab.walneyalves.meeting_rooms.service.room.RoomResourceService;
 import com.gitlab.walneyalves.meeting_rooms.service.room.RoomService;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
-import org.springframework.data.domain.Page;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @RequiredArgsConstructor
+@ExceptionAdvice
+@Profile("!" + ReactiveConfiguration.PROFILE)
 @RestController
 @RequestMapping("/room")
 public class RoomController implements IRoomController {
 
     private final RoomService roomService;
     private final RoomResourceService roomResourceService;
+    private final RoomAvailabilityService roomAvailabilityService;
     private final ResourceService resourceService;
 
     @Override
@@ -52,16 +65,47 @@ public class RoomController implements IRoomController {
     }
 
     @Override
-    public ResponseEntity<Page<Room>> getRooms(Pageable pageable,
-                                               Integer capacity,
-                                               Boolean available,
-                                               LocalTime initialAvailability,
-                                               LocalTime finalAvailability,
-                                               Resource.Type... types) {
+    public ResponseEntity<Slice<Room>> getRooms(Pageable pageable,
+                                                Integer capacity,
+                                                Boolean available,
+                                                LocalTime initialAvailability,
+                                                LocalTime finalAvailability,
+                                                Boolean total,
+                                                Resource.Type... types) {
         val filter = new RoomFilter(capacity, available, initialAvailability, finalAvailability, types);
+        if (!total) {
+            return ResponseEntity.ok(roomService.getAllSlice(pageable, filter));
+        }
         return ResponseEntity.ok(roomService.getAll(pageable, filter));
     }
 
+    @Override
+    public ResponseEntity<CursorPage<Room>> getRoomsByCursor(String cursor,
+                                                             Integer size,
+                                                             Integer capacity,
+                                                             Boolean available,
+                                                             LocalTime initialAvailability,
+                                                             LocalTime finalAvailability,
+                                                             Resource.Type... types) {
+        val after = Objects.isNull(cursor) ? null : Cursor.decode(cursor)
+                .orElseThrow(() -> new MeetingRoomsException(RoomResponse.INVALID_CURSOR));
+        val filter = new RoomFilter(capacity, available, initialAvailability, finalAvailability, types);
+        return ResponseEntity.ok(roomService.getAllAfter(filter, after, size));
+    }
+
+    @Override
+    public ResponseEntity<AvailabilityGrid> getAvailability(LocalDateTime from,
+                                                            LocalDateTime to,
+                                                            Integer granularity,
+                                                            Integer capacity,
+                                                            Boolean available,
+                                                            LocalTime initialAvailability,
+                                                            LocalTime finalAvailability,
+                                                            Resource.Type... types) {
+        val filter = new RoomFilter(capacity, available, initialAvailability, finalAvailability, types);
+        return ResponseEntity.ok(roomAvailabilityService.getAvailability(filter, from, to, granularity));
+    }
+
     @Override
     public ResponseEntity<List<Resource>> getRoomResources(UUID roomId) {
         val room = roomService.get(roomId).orElseThrow(() -> new MeetingRoomsException(RoomResponse.NOT_FOUND));
@@ -70,22 +114,23 @@ public class RoomController implements IRoomController {
 
     @Override
     public ResponseEntity<Room> updateName(UUID roomId, RoomUpdateNameRequest request) {
-        val room = roomService.get(roomId).orElseThrow(() -> new MeetingRoomsException(RoomResponse.NOT_FOUND));
-        checkAvailability(room);
-        return ResponseEntity.ok(roomService.updateName(room, request.name()));
+        return ResponseEntity.ok(roomService.updateName(roomId, request.name()));
     }
 
     @Override
     public ResponseEntity<Room> updateCapacity(UUID roomId, RoomUpdateCapacityRequest request) {
-        val room = roomService.get(roomId).orElseThrow(() -> new MeetingRoomsException(RoomResponse.NOT_FOUND));
-        checkAvailability(room);
-        return ResponseEntity.ok(roomService.updateCapacity(room, request.capacity()));
+        return ResponseEntity.ok(roomService.updateCapacity(roomId, request.capacity()));
     }
 
     @Override
     public ResponseEntity<Room> updateAvailabilityPeriod(UUID roomId, RoomUpdateAvailabilityPeriodRequest request) {
+        return ResponseEntity.ok(roomService.updateAvailabilityPeriod(roomId, request.initialAvailability(), request.finalAvailability()));
+    }
+
+    @Override
+    public ResponseEntity<Room> patch(UUID roomId, RoomPatchRequest request) {
         val room = roomService.get(roomId).orElseThrow(() -> new MeetingRoomsException(RoomResponse.NOT_FOUND));
-        return ResponseEntity.ok(roomService.updateAvailabilityPeriod(room, request.initialAvailability(), request.finalAvailability()));
+        return ResponseEntity.ok(roomService.patch(room, request));
     }
 
     @Override
@@ -0,0 +1,19 @@
+package com.gitlab.walneyalves.meeting_rooms.domain.availability;
+
+import org.springframework.lang.NonNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bit {@code i} of a room, least significant bit first in the Base64 bytes, is set when slot {@code i} is free.
+ */
+public record AvailabilityGrid(@NonNull LocalDateTime from,
+                               @NonNull LocalDateTime to,
+                               @NonNull Integer granularity,
+                               @NonNull Integer slots,
+                               @NonNull List<Row> rooms) {
+
+    public record Row(@NonNull UUID roomId, @NonNull String name, @NonNull String free) { }
+}
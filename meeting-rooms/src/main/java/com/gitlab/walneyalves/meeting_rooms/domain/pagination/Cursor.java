@@ -0,0 +1,32 @@
+package com.gitlab.walneyalves.meeting_rooms.domain.pagination;
+
+import lombok.val;
+import org.springframework.lang.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+public record Cursor(@NonNull String key, @NonNull UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        val raw = key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Optional<Cursor> decode(@NonNull String token) {
+        try {
+            val raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            val separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                return Optional.empty();
+            }
+            return Optional.of(new Cursor(raw.substring(0, separator), UUID.fromString(raw.substring(separator + 1))));
+        } catch (IllegalArgumentException exception) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.gitlab.walneyalves.meeting_rooms.domain.pagination;
+
+import lombok.val;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(@NonNull List<T> content, @Nullable String next) {
+
+    public static final int MAX_SIZE = 2000;
+
+    /**
+     * Bounds the requested size to {@code 1..MAX_SIZE}, the bound Spring Data puts on offset pages.
+     */
+    public static int size(int requested) {
+        return Math.min(Math.max(requested, 1), MAX_SIZE);
+    }
+
+    public static <T> CursorPage<T> of(@NonNull List<T> items, int size, @NonNull Function<T, Cursor> cursor) {
+        if (items.size() <= size) {
+            return new CursorPage<>(items, null);
+        }
+        val content = items.subList(0, size);
+        return new CursorPage<>(content, cursor.apply(content.get(size - 1)).encode());
+    }
+}
@@ -0,0 +1,13 @@
+package com.gitlab.walneyalves.meeting_rooms.domain.request;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record MeetingBulkCreateRequest(@NonNull UUID roomId,
+                                       @NonNull String title,
+                                       @Nullable String description,
+                                       @NonNull LocalDateTime startDate,
+                                       @NonNull LocalDateTime endDate) { }
@@ -0,0 +1,26 @@
+package com.gitlab.walneyalves.meeting_rooms.domain.request;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Getter
+@Setter
+public class MeetingPatchRequest {
+
+    @Nullable
+    private Optional<String> title;
+
+    @Nullable
+    private Optional<String> description;
+
+    @Nullable
+    private Optional<LocalDateTime> startDate;
+
+    @Nullable
+    private Optional<LocalDateTime> endDate;
+
+}
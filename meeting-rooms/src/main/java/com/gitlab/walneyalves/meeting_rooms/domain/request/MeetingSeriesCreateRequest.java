@@ -0,0 +1,16 @@
+package com.gitlab.walneyalves.meeting_rooms.domain.request;
+
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+
+public record MeetingSeriesCreateRequest(@NonNull String title,
+                                         @Nullable String description,
+                                         @NonNull LocalDateTime startDate,
+                                         @NonNull LocalDateTime endDate,
+                                         @NonNull MeetingSeries.Frequency frequency,
+                                         @Nullable Integer interval,
+                                         @Nullable LocalDateTime until,
+                                         @Nullable Integer count) { }
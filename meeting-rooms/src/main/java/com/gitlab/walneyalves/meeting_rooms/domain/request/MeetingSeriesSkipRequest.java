@@ -0,0 +1,7 @@
+package com.gitlab.walneyalves.meeting_rooms.domain.request;
+
+import org.springframework.lang.NonNull;
+
+import java.time.LocalDate;
+
+public record MeetingSeriesSkipRequest(@NonNull LocalDate date) { }
@@ -0,0 +1,23 @@
+package com.gitlab.walneyalves.meeting_rooms.domain.request;
+
+import com.gitlab.walneyalves.meeting_rooms.domain.response.ResponseCode;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
+import org.springframework.lang.Nullable;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Merge Patch (RFC 7396) fields as optionals: null when left out, empty when set to null.
+ */
+public final class MergePatch {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private MergePatch() { }
+
+    @Nullable
+    public static <T> T required(@Nullable Optional<T> field, ResponseCode invalid) {
+        return Objects.isNull(field) ? null : field.orElseThrow(() -> new MeetingRoomsException(invalid));
+    }
+}
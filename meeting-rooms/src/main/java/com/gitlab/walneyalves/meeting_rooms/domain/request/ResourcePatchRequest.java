@@ -0,0 +1,20 @@
+package com.gitlab.walneyalves.meeting_rooms.domain.request;
+
+import com.gitlab.walneyalves.meeting_rooms.model.Resource;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.lang.Nullable;
+
+import java.util.Optional;
+
+@Getter
+@Setter
+public class ResourcePatchRequest {
+
+    @Nullable
+    private Optional<String> name;
+
+    @Nullable
+    private Optional<Resource.Type> type;
+
+}
@@ -0,0 +1,32 @@
+package com.gitlab.walneyalves.meeting_rooms.domain.request;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalTime;
+import java.util.Optional;
+
+@Getter
+@Setter
+public class RoomPatchRequest {
+
+    @Nullable
+    private Optional<String> name;
+
+    @Nullable
+    private Optional<Integer> capacity;
+
+    @Nullable
+    @JsonFormat(pattern = "HH:mm:ss")
+    @Schema(type = "string", format = "HH:mm:ss")
+    private Optional<LocalTime> initialAvailability;
+
+    @Nullable
+    @JsonFormat(pattern = "HH:mm:ss")
+    @Schema(type = "string", format = "HH:mm:ss")
+    private Optional<LocalTime> finalAvailability;
+
+}
@@ -1,7 +1,13 @@
 package com.gitlab.walneyalves.meeting_rooms.domain.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import org.springframework.http.HttpStatus;
 
+import java.util.List;
+
 @Builder
-public record ErrorResponse(Integer code, HttpStatus status, String message) { }
\ No newline at end of file
+public record ErrorResponse(Integer code,
+                            HttpStatus status,
+                            String message,
+                            @JsonInclude(JsonInclude.Include.NON_EMPTY) List<ItemError> errors) { }
@@ -0,0 +1,8 @@
+package com.gitlab.walneyalves.meeting_rooms.domain.response;
+
+public record ItemError(Integer index, Integer code, String message) {
+
+    public static ItemError of(int index, ResponseCode code) {
+        return new ItemError(index, code.getCode(), code.getMessage());
+    }
+}
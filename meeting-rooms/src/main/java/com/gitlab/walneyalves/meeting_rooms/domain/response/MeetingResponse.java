@@ -11,6 +11,12 @@ public enum MeetingResponse implements ResponseCode {
     NOT_FOUND(34041, HttpStatus.NOT_FOUND, "Meeting not found."),
     INSUFFICIENT_PRIVILEGES(34011, HttpStatus.FORBIDDEN, "Insufficient privileges to perform this action on this meeting."),
     INVALID_TIME_RANGE(34002, HttpStatus.BAD_REQUEST, "Invalid time range."),
+    INVALID_CURSOR(34003, HttpStatus.BAD_REQUEST, "Invalid page cursor."),
+    INVALID_BATCH(34004, HttpStatus.BAD_REQUEST, "Some meetings of the batch can not be created, none was."),
+    INVALID_BATCH_SIZE(34005, HttpStatus.BAD_REQUEST, "The batch is empty or has too many meetings."),
+    OVERLAPPING_BATCH(34006, HttpStatus.BAD_REQUEST, "Overlaps another meeting of the same batch."),
+    BOOKING_CONTENDED(34007, HttpStatus.CONFLICT, "The room is being booked by too many requests at once, try again."),
+    INVALID_PATCH(34008, HttpStatus.BAD_REQUEST, "The patch removes a field the meeting requires."),
     INVALID_STATE(34001, HttpStatus.BAD_REQUEST, "Can not perform this action while meeting is in this state.");
 
     private final Integer code;
@@ -0,0 +1,23 @@
+package com.gitlab.walneyalves.meeting_rooms.domain.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@AllArgsConstructor
+public enum MeetingSeriesResponse implements ResponseCode {
+
+    NOT_FOUND(44041, HttpStatus.NOT_FOUND, "Meeting series not found."),
+    INSUFFICIENT_PRIVILEGES(44011, HttpStatus.FORBIDDEN, "Insufficient privileges to perform this action on this meeting series."),
+    INVALID_RECURRENCE(44002, HttpStatus.BAD_REQUEST, "Invalid recurrence, or too many occurrences."),
+    NOT_AN_OCCURRENCE(44003, HttpStatus.BAD_REQUEST, "The series has no occurrence on this date."),
+    INVALID_STATE(44001, HttpStatus.BAD_REQUEST, "Can not perform this action while meeting series is in this state.");
+
+    private final Integer code;
+
+    private final HttpStatus status;
+
+    private final String message;
+
+}
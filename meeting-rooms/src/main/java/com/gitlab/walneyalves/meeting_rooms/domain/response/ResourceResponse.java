@@ -8,7 +8,8 @@ import org.springframework.http.HttpStatus;
 @AllArgsConstructor
 public enum ResourceResponse implements ResponseCode {
 
-    NOT_FOUND(14041, HttpStatus.NOT_FOUND, "Resource not found.");
+    NOT_FOUND(14041, HttpStatus.NOT_FOUND, "Resource not found."),
+    INVALID_PATCH(14002, HttpStatus.BAD_REQUEST, "The patch removes a field the resource requires.");
 
     private final Integer code;
 
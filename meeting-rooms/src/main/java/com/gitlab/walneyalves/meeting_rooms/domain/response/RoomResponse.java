@@ -11,7 +11,10 @@ public enum RoomResponse implements ResponseCode {
     NOT_FOUND(24041, HttpStatus.NOT_FOUND, "Room not found."),
     INVALID_CAPACITY(24002, HttpStatus.BAD_REQUEST, "Selected capacity is less than the minimum capacity allowed or is already defined in this value."),
     INVALID_AVAILABILITY_PERIOD(24003, HttpStatus.BAD_REQUEST, "Selected availability period is invalid (final time can not less than initial time)."),
-    UNAVAILABLE(24004, HttpStatus.BAD_REQUEST, "Can not perform this action while unavailable.");
+    UNAVAILABLE(24004, HttpStatus.BAD_REQUEST, "Can not perform this action while unavailable."),
+    INVALID_CURSOR(24005, HttpStatus.BAD_REQUEST, "Invalid page cursor."),
+    INVALID_AVAILABILITY_WINDOW(24006, HttpStatus.BAD_REQUEST, "Selected availability window is invalid (it must end after it starts and fit the maximum number of slots)."),
+    INVALID_PATCH(24007, HttpStatus.BAD_REQUEST, "The patch removes a field the room requires.");
 
     private final Integer code;
 
@@ -21,6 +21,19 @@ public class ExceptionHandleAdvice {
                         .build());
     }
 
+    @ExceptionHandler(MeetingRoomsBatchException.class)
+    public ResponseEntity<ErrorResponse> handleBatchException(final MeetingRoomsBatchException exception) {
+        return ResponseEntity
+                .status(exception.getStatus().value())
+                .body(ErrorResponse
+                        .builder()
+                        .status(exception.getStatus())
+                        .message(exception.getMessage())
+                        .code(exception.getCode())
+                        .errors(exception.getErrors())
+                        .build());
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleUnmappedException(final RuntimeException exception) {
         return ResponseEntity
@@ -0,0 +1,18 @@
+package com.gitlab.walneyalves.meeting_rooms.exception;
+
+import com.gitlab.walneyalves.meeting_rooms.domain.response.ItemError;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.ResponseCode;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class MeetingRoomsBatchException extends MeetingRoomsException {
+
+    private final List<ItemError> errors;
+
+    public MeetingRoomsBatchException(ResponseCode code, List<ItemError> errors) {
+        super(code);
+        this.errors = List.copyOf(errors);
+    }
+}
@@ -3,6 +3,8 @@ package com.gitlab.walneyalves.meeting_rooms.model;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
@@ -11,6 +13,12 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Document
+@CompoundIndexes({
+        @CompoundIndex(name = "room_state_period", def = "{'roomId': 1, 'state': 1, 'startDate': 1, 'endDate': 1}"),
+        @CompoundIndex(name = "state_start", def = "{'state': 1, 'startDate': 1}"),
+        @CompoundIndex(name = "state_end", def = "{'state': 1, 'endDate': 1}"),
+        @CompoundIndex(name = "host_start_id", def = "{'host': 1, 'startDate': 1, '_id': 1}")
+})
 @Setter
 @Getter
 @Builder
@@ -0,0 +1,111 @@
+package com.gitlab.walneyalves.meeting_rooms.model;
+
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Stored once; the state and next dates are those of the next (or current) occurrence.
+ */
+@Document
+@CompoundIndexes({
+        @CompoundIndex(name = "room_state_period", def = "{'roomId': 1, 'state': 1, 'startDate': 1, 'lastEndDate': 1}"),
+        @CompoundIndex(name = "state_next_start", def = "{'state': 1, 'nextStartDate': 1}"),
+        @CompoundIndex(name = "state_next_end", def = "{'state': 1, 'nextEndDate': 1}"),
+        @CompoundIndex(name = "host_start_id", def = "{'host': 1, 'startDate': 1, '_id': 1}")
+})
+@Setter
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+public class MeetingSeries {
+
+    @Id
+    @Setter(AccessLevel.NONE)
+    @NonNull
+    @Builder.Default
+    private UUID id = UUID.randomUUID();
+
+    @NonNull
+    private UUID host;
+
+    @NonNull
+    @Setter(AccessLevel.NONE)
+    private UUID roomId;
+
+    @NonNull
+    private String title;
+
+    @Nullable
+    private String description;
+
+    @NonNull
+    @Builder.Default
+    private Meeting.State state = Meeting.State.CREATED;
+
+    @NonNull
+    @Setter(AccessLevel.NONE)
+    private LocalDateTime startDate;
+
+    @NonNull
+    @Setter(AccessLevel.NONE)
+    private LocalDateTime endDate;
+
+    @NonNull
+    @Setter(AccessLevel.NONE)
+    private Recurrence recurrence;
+
+    @NonNull
+    @Builder.Default
+    private Set<LocalDate> exceptions = new HashSet<>();
+
+    @NonNull
+    @Setter(AccessLevel.NONE)
+    private LocalDateTime lastEndDate;
+
+    @Nullable
+    private LocalDateTime nextStartDate;
+
+    @Nullable
+    private LocalDateTime nextEndDate;
+
+    @NonNull
+    @CreatedDate
+    @Builder.Default
+    @Setter(AccessLevel.NONE)
+    private LocalDateTime createdDate = LocalDateTime.now();
+
+    /**
+     * Like an RRULE limited to a frequency, an interval and either an end date or a count.
+     */
+    public record Recurrence(@NonNull Frequency frequency,
+                             int interval,
+                             @Nullable LocalDateTime until,
+                             @Nullable Integer count) { }
+
+    /**
+     * A monthly occurrence on a day the month does not have falls on its last day.
+     */
+    @Getter
+    @AllArgsConstructor
+    public enum Frequency {
+        DAILY(ChronoUnit.DAYS),
+        WEEKLY(ChronoUnit.WEEKS),
+        MONTHLY(ChronoUnit.MONTHS);
+
+        private final ChronoUnit unit;
+    }
+}
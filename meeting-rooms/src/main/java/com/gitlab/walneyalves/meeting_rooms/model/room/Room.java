@@ -1,14 +1,20 @@
 package com.gitlab.walneyalves.meeting_rooms.model.room;
 
+import com.gitlab.walneyalves.meeting_rooms.model.Resource;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.lang.NonNull;
 
 import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 
 @Document
+@CompoundIndex(name = "name_id", def = "{'name': 1, '_id': 1}")
 @Setter
 @Getter
 @Builder
@@ -41,4 +47,8 @@ public class Room {
     @NonNull
     private LocalTime finalAvailability;
 
+    @Indexed
+    @Builder.Default
+    private Set<Resource.Type> resourceTypes = new HashSet<>();
+
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.gitlab.walneyalves.meeting_rooms.model.room;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.lang.NonNull;
+
+import java.util.UUID;
+
+/**
+ * Kept apart from {@link Room}, so that bookings do not evict the cached rooms.
+ */
+@Document
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+public class RoomBookingVersion {
+
+    @Id
+    @NonNull
+    private UUID roomId;
+
+    @NonNull
+    private Long version;
+
+}
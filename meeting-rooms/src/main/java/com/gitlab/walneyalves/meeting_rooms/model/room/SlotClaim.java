@@ -0,0 +1,44 @@
+package com.gitlab.walneyalves.meeting_rooms.model.room;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.lang.NonNull;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A slot of a room held by a meeting or series; the unique index lets a slot be claimed once.
+ */
+@Document
+@CompoundIndexes({
+        @CompoundIndex(name = "room_slot", def = "{'roomId': 1, 'slotStart': 1}", unique = true),
+        @CompoundIndex(name = "owner_slot", def = "{'ownerId': 1, 'slotStart': 1}")
+})
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+public class SlotClaim {
+
+    @Id
+    @NonNull
+    @Builder.Default
+    private UUID id = UUID.randomUUID();
+
+    @NonNull
+    private UUID roomId;
+
+    @NonNull
+    private LocalDateTime slotStart;
+
+    @NonNull
+    private UUID ownerId;
+
+}
@@ -0,0 +1,28 @@
+package com.gitlab.walneyalves.meeting_rooms.reactive;
+
+import com.gitlab.walneyalves.meeting_rooms.reactive.repository.ReactiveRoomRepository;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.ReactiveSortHandlerMethodArgumentResolver;
+import org.springframework.lang.NonNull;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+/**
+ * WebFlux variant of the API on the reactive driver; background jobs keep running on the blocking template.
+ */
+@Profile(ReactiveConfiguration.PROFILE)
+@Configuration(proxyBeanMethods = false)
+@EnableReactiveMongoRepositories(basePackageClasses = ReactiveRoomRepository.class)
+public class ReactiveConfiguration implements WebFluxConfigurer {
+
+    public static final String PROFILE = "reactive";
+
+    @Override
+    public void configureArgumentResolvers(@NonNull ArgumentResolverConfigurer configurer) {
+        configurer.addCustomResolver(new ReactiveSortHandlerMethodArgumentResolver(),
+                new ReactivePageableHandlerMethodArgumentResolver());
+    }
+}
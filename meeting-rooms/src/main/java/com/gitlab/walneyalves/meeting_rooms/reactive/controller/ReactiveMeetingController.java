@@ -0,0 +1,148 @@
+package com.gitlab.walneyalves.meeting_rooms.reactive.controller;
+
+import com.gitlab.walneyalves.meeting_rooms.domain.filter.MeetingFilter;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.Cursor;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.CursorPage;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingBulkCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingUpdateDescriptionRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingUpdateDurationRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingUpdateTitleRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.MeetingResponse;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.RoomResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.ExceptionAdvice;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
+import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.reactive.ReactiveConfiguration;
+import com.gitlab.walneyalves.meeting_rooms.reactive.service.ReactiveMeetingService;
+import com.gitlab.walneyalves.meeting_rooms.reactive.service.ReactiveRoomService;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.BookingMetrics;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.BookingMetrics.Outcome;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@ExceptionAdvice
+@Profile(ReactiveConfiguration.PROFILE)
+@RestController
+@RequestMapping("/meeting")
+public class ReactiveMeetingController {
+
+    private final ReactiveRoomService roomService;
+
+    private final ReactiveMeetingService meetingService;
+
+    private final BookingMetrics bookingMetrics;
+
+    @PostMapping("/create/{roomId}")
+    public Mono<ResponseEntity<Meeting>> create(@RequestHeader("Host-Id") UUID host,
+                                                @PathVariable UUID roomId,
+                                                @RequestBody MeetingCreateRequest request) {
+        val booking = bookingMetrics.start();
+        return roomService.get(roomId)
+                .switchIfEmpty(Mono.error(() -> booking.rejected(Outcome.NOT_FOUND, RoomResponse.NOT_FOUND)))
+                .flatMap(room -> {
+                    if (request.startDate().isAfter(request.endDate())
+                            || !roomService.isTimeRangeSupported(room, request.startDate(), request.endDate())) {
+                        return Mono.error(booking.rejected(Outcome.INVALID_RANGE, MeetingResponse.INVALID_TIME_RANGE));
+                    }
+                    return roomService.isAvailable(room).flatMap(available -> available
+                            ? meetingService.book(request, room, host)
+                                    .switchIfEmpty(Mono.error(() -> booking.rejected(Outcome.CONFLICT, RoomResponse.UNAVAILABLE)))
+                            : Mono.error(booking.rejected(Outcome.UNAVAILABLE, RoomResponse.UNAVAILABLE)));
+                })
+                .doOnNext(meeting -> booking.created())
+                .map(meeting -> ResponseEntity.status(HttpStatus.CREATED).body(meeting));
+    }
+
+    @PostMapping("/create/bulk")
+    public Mono<ResponseEntity<List<Meeting>>> createAll(@RequestHeader("Host-Id") UUID host,
+                                                         @RequestBody List<MeetingBulkCreateRequest> requests) {
+        return meetingService.createAll(requests, host)
+                .map(meetings -> ResponseEntity.status(HttpStatus.CREATED).body(meetings));
+    }
+
+    @GetMapping("/list")
+    public Mono<ResponseEntity<Slice<Meeting>>> getMeetings(Pageable pageable,
+                                                            @RequestHeader("Host-Id") UUID host,
+                                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @Nullable LocalDateTime startDate,
+                                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @Nullable LocalDateTime endDate,
+                                                            @RequestParam(defaultValue = "true") Boolean total,
+                                                            @RequestParam(required = false) @Nullable Meeting.State... states) {
+        val filter = new MeetingFilter(startDate, endDate, states);
+        if (!total) {
+            return meetingService.getMeetingsSlice(host, filter, pageable).map(ResponseEntity::ok);
+        }
+        return meetingService.getMeetings(host, filter, pageable).<ResponseEntity<Slice<Meeting>>>map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/list/cursor")
+    public Mono<ResponseEntity<CursorPage<Meeting>>> getMeetingsByCursor(@RequestHeader("Host-Id") UUID host,
+                                                                         @RequestParam(required = false) @Nullable String cursor,
+                                                                         @RequestParam(defaultValue = "20") Integer size,
+                                                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @Nullable LocalDateTime startDate,
+                                                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @Nullable LocalDateTime endDate,
+                                                                         @RequestParam(required = false) @Nullable Meeting.State... states) {
+        val after = Objects.isNull(cursor) ? null : Cursor.decode(cursor)
+                .orElseThrow(() -> new MeetingRoomsException(MeetingResponse.INVALID_CURSOR));
+        val filter = new MeetingFilter(startDate, endDate, states);
+        return meetingService.getMeetingsAfter(host, filter, after, size).map(ResponseEntity::ok);
+    }
+
+    @PutMapping("/cancel/{meetingId}")
+    public Mono<ResponseEntity<Object>> cancel(@RequestHeader("Host-Id") UUID host,
+                                               @PathVariable UUID meetingId) {
+        return hostedMeeting(meetingId, host)
+                .flatMap(meeting -> meetingService.canCancel(meeting)
+                        ? meetingService.cancel(meeting)
+                        : Mono.error(new MeetingRoomsException(MeetingResponse.INVALID_STATE)))
+                .thenReturn(ResponseEntity.noContent().build());
+    }
+
+    @PutMapping("/update/{meetingId}/title")
+    public Mono<ResponseEntity<Meeting>> updateTitle(@RequestHeader("Host-Id") UUID host,
+                                                     @PathVariable UUID meetingId,
+                                                     @RequestBody MeetingUpdateTitleRequest request) {
+        return meetingService.updateTitle(meetingId, host, request.title()).map(ResponseEntity::ok);
+    }
+
+    @PutMapping("/update/{meetingId}/description")
+    public Mono<ResponseEntity<Meeting>> updateDescription(@RequestHeader("Host-Id") UUID host,
+                                                           @PathVariable UUID meetingId,
+                                                           @RequestBody MeetingUpdateDescriptionRequest request) {
+        return meetingService.updateDescription(meetingId, host, request.description()).map(ResponseEntity::ok);
+    }
+
+    @PutMapping("/update/{meetingId}/duration")
+    public Mono<ResponseEntity<Meeting>> updateDuration(@RequestHeader("Host-Id") UUID host,
+                                                        @PathVariable UUID meetingId,
+                                                        @RequestBody MeetingUpdateDurationRequest request) {
+        return hostedMeeting(meetingId, host)
+                .flatMap(meeting -> meeting.getState().equals(Meeting.State.CREATED)
+                        ? meetingService.updateDuration(meeting, request.startDate(), request.endDate())
+                        : Mono.error(new MeetingRoomsException(MeetingResponse.INVALID_STATE)))
+                .map(ResponseEntity::ok);
+    }
+
+    private Mono<Meeting> hostedMeeting(UUID meetingId, UUID host) {
+        return meetingService.get(meetingId)
+                .switchIfEmpty(Mono.error(() -> new MeetingRoomsException(MeetingResponse.NOT_FOUND)))
+                .flatMap(meeting -> meeting.getHost().equals(host)
+                        ? Mono.just(meeting)
+                        : Mono.error(new MeetingRoomsException(MeetingResponse.INSUFFICIENT_PRIVILEGES)));
+    }
+}
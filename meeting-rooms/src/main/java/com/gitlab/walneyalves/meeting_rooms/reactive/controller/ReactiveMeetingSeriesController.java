@@ -0,0 +1,101 @@
+package com.gitlab.walneyalves.meeting_rooms.reactive.controller;
+
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingSeriesCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingSeriesSkipRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.MeetingSeriesResponse;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.RoomResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.ExceptionAdvice;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries;
+import com.gitlab.walneyalves.meeting_rooms.reactive.ReactiveConfiguration;
+import com.gitlab.walneyalves.meeting_rooms.reactive.service.ReactiveRoomService;
+import com.gitlab.walneyalves.meeting_rooms.service.MeetingSeriesService;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.Occurrences;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+/**
+ * Series are rarely written, so their operations are the blocking ones, on a worker thread.
+ */
+@RequiredArgsConstructor
+@ExceptionAdvice
+@Profile(ReactiveConfiguration.PROFILE)
+@RestController
+@RequestMapping("/meeting/series")
+public class ReactiveMeetingSeriesController {
+
+    private final ReactiveRoomService roomService;
+
+    private final MeetingSeriesService meetingSeriesService;
+
+    @PostMapping("/create/{roomId}")
+    public Mono<ResponseEntity<MeetingSeries>> create(@RequestHeader("Host-Id") UUID host,
+                                                      @PathVariable UUID roomId,
+                                                      @RequestBody MeetingSeriesCreateRequest request) {
+        return roomService.get(roomId)
+                .switchIfEmpty(Mono.error(() -> new MeetingRoomsException(RoomResponse.NOT_FOUND)))
+                .flatMap(room -> blocking(() -> meetingSeriesService.create(request, room, host)))
+                .map(series -> ResponseEntity.status(HttpStatus.CREATED).body(series));
+    }
+
+    @GetMapping("/list")
+    public Mono<ResponseEntity<List<MeetingSeries>>> getAll(@RequestHeader("Host-Id") UUID host) {
+        return blocking(() -> meetingSeriesService.getAll(host)).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{seriesId}/occurrences")
+    public Mono<ResponseEntity<List<Occurrences.Occurrence>>> getOccurrences(@RequestHeader("Host-Id") UUID host,
+                                                                             @PathVariable UUID seriesId,
+                                                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+                                                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+        return hostedSeries(seriesId, host)
+                .map(series -> meetingSeriesService.getOccurrences(series, startDate, endDate))
+                .map(ResponseEntity::ok);
+    }
+
+    @PutMapping("/cancel/{seriesId}")
+    public Mono<ResponseEntity<Object>> cancel(@RequestHeader("Host-Id") UUID host,
+                                               @PathVariable UUID seriesId) {
+        return hostedSeries(seriesId, host)
+                .flatMap(series -> meetingSeriesService.canCancel(series)
+                        ? blocking(() -> {
+                            meetingSeriesService.cancel(series);
+                            return series;
+                        })
+                        : Mono.error(new MeetingRoomsException(MeetingSeriesResponse.INVALID_STATE)))
+                .thenReturn(ResponseEntity.noContent().build());
+    }
+
+    @PutMapping("/update/{seriesId}/skip")
+    public Mono<ResponseEntity<MeetingSeries>> skip(@RequestHeader("Host-Id") UUID host,
+                                                    @PathVariable UUID seriesId,
+                                                    @RequestBody MeetingSeriesSkipRequest request) {
+        return hostedSeries(seriesId, host)
+                .flatMap(series -> blocking(() -> meetingSeriesService.skip(series, request.date())))
+                .map(ResponseEntity::ok);
+    }
+
+    private Mono<MeetingSeries> hostedSeries(UUID seriesId, UUID host) {
+        return blocking(() -> meetingSeriesService.get(seriesId))
+                .flatMap(Mono::justOrEmpty)
+                .switchIfEmpty(Mono.error(() -> new MeetingRoomsException(MeetingSeriesResponse.NOT_FOUND)))
+                .flatMap(series -> series.getHost().equals(host)
+                        ? Mono.just(series)
+                        : Mono.error(new MeetingRoomsException(MeetingSeriesResponse.INSUFFICIENT_PRIVILEGES)));
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,68 @@
+package com.gitlab.walneyalves.meeting_rooms.reactive.controller;
+
+import com.gitlab.walneyalves.meeting_rooms.domain.request.ResourceCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.ResourceUpdateNameRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.ResourceUpdateTypeRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.ResourceResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.ExceptionAdvice;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
+import com.gitlab.walneyalves.meeting_rooms.model.Resource;
+import com.gitlab.walneyalves.meeting_rooms.reactive.ReactiveConfiguration;
+import com.gitlab.walneyalves.meeting_rooms.reactive.service.ReactiveResourceService;
+import com.gitlab.walneyalves.meeting_rooms.reactive.service.ReactiveRoomResourceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@ExceptionAdvice
+@Profile(ReactiveConfiguration.PROFILE)
+@RestController
+@RequestMapping("/resource")
+public class ReactiveResourceController {
+
+    private final ReactiveResourceService resourceService;
+    private final ReactiveRoomResourceService roomResourceService;
+
+    @PostMapping("/create")
+    public Mono<ResponseEntity<Resource>> create(@RequestBody ResourceCreateRequest request) {
+        return resourceService.create(Resource.builder()
+                        .name(request.name())
+                        .type(request.type()))
+                .map(resource -> ResponseEntity.status(HttpStatus.CREATED).body(resource));
+    }
+
+    @GetMapping("/list")
+    public Mono<ResponseEntity<Page<Resource>>> getAll(Pageable pageable) {
+        return resourceService.getAll(pageable).map(ResponseEntity::ok);
+    }
+
+    @PutMapping("/update/{resourceId}/name")
+    public Mono<ResponseEntity<Resource>> updateName(@PathVariable UUID resourceId, @RequestBody ResourceUpdateNameRequest request) {
+        return resourceService.updateName(resourceId, request.name()).map(ResponseEntity::ok);
+    }
+
+    @PutMapping("/update/{resourceId}/type")
+    public Mono<ResponseEntity<Resource>> updateType(@PathVariable UUID resourceId, @RequestBody ResourceUpdateTypeRequest request) {
+        return resourceService.updateType(resourceId, request.type()).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/delete/{resourceId}")
+    public Mono<ResponseEntity<Object>> delete(@PathVariable UUID resourceId) {
+        return resource(resourceId)
+                .flatMap(resource -> roomResourceService.removeByResource(resource).then(resourceService.delete(resource)))
+                .thenReturn(ResponseEntity.noContent().build());
+    }
+
+    private Mono<Resource> resource(UUID resourceId) {
+        return resourceService.get(resourceId)
+                .switchIfEmpty(Mono.error(() -> new MeetingRoomsException(ResourceResponse.NOT_FOUND)));
+    }
+}
@@ -0,0 +1,182 @@
+package com.gitlab.walneyalves.meeting_rooms.reactive.controller;
+
+import com.gitlab.walneyalves.meeting_rooms.domain.availability.AvailabilityGrid;
+import com.gitlab.walneyalves.meeting_rooms.domain.filter.RoomFilter;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.Cursor;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.CursorPage;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.RoomCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.RoomUpdateAvailabilityPeriodRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.RoomUpdateCapacityRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.RoomUpdateNameRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.ResourceResponse;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.RoomResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.ExceptionAdvice;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
+import com.gitlab.walneyalves.meeting_rooms.model.Resource;
+import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import com.gitlab.walneyalves.meeting_rooms.reactive.ReactiveConfiguration;
+import com.gitlab.walneyalves.meeting_rooms.reactive.service.ReactiveResourceService;
+import com.gitlab.walneyalves.meeting_rooms.reactive.service.ReactiveRoomResourceService;
+import com.gitlab.walneyalves.meeting_rooms.reactive.service.ReactiveRoomService;
+import com.gitlab.walneyalves.meeting_rooms.service.room.RoomAvailabilityService;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@ExceptionAdvice
+@Profile(ReactiveConfiguration.PROFILE)
+@RestController
+@RequestMapping("/room")
+public class ReactiveRoomController {
+
+    private final ReactiveRoomService roomService;
+    private final ReactiveRoomResourceService roomResourceService;
+    private final ReactiveResourceService resourceService;
+    private final RoomAvailabilityService roomAvailabilityService;
+
+    @PostMapping("/create")
+    public Mono<ResponseEntity<Room>> create(@RequestBody RoomCreateRequest request) {
+        if (request.initialAvailability().isAfter(request.finalAvailability())) {
+            return Mono.error(new MeetingRoomsException(RoomResponse.INVALID_AVAILABILITY_PERIOD));
+        }
+        if (!roomService.isValidCapacity(request.capacity())) {
+            return Mono.error(new MeetingRoomsException(RoomResponse.INVALID_CAPACITY));
+        }
+        return roomService.create(Room.builder()
+                        .name(request.name())
+                        .initialAvailability(request.initialAvailability())
+                        .finalAvailability(request.finalAvailability())
+                        .capacity(request.capacity()))
+                .map(room -> ResponseEntity.status(HttpStatus.CREATED).body(room));
+    }
+
+    @GetMapping("/list")
+    public Mono<ResponseEntity<Slice<Room>>> getRooms(Pageable pageable,
+                                                      @RequestParam(required = false) @Nullable Integer capacity,
+                                                      @RequestParam(required = false) @Nullable Boolean available,
+                                                      @RequestParam(required = false) @Nullable LocalTime initialAvailability,
+                                                      @RequestParam(required = false) @Nullable LocalTime finalAvailability,
+                                                      @RequestParam(defaultValue = "true") Boolean total,
+                                                      @RequestParam(required = false) @Nullable Resource.Type... types) {
+        val filter = new RoomFilter(capacity, available, initialAvailability, finalAvailability, types);
+        if (!total) {
+            return roomService.getAllSlice(pageable, filter).map(ResponseEntity::ok);
+        }
+        return roomService.getAll(pageable, filter).<ResponseEntity<Slice<Room>>>map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/list/cursor")
+    public Mono<ResponseEntity<CursorPage<Room>>> getRoomsByCursor(@RequestParam(required = false) @Nullable String cursor,
+                                                                   @RequestParam(defaultValue = "20") Integer size,
+                                                                   @RequestParam(required = false) @Nullable Integer capacity,
+                                                                   @RequestParam(required = false) @Nullable Boolean available,
+                                                                   @RequestParam(required = false) @Nullable LocalTime initialAvailability,
+                                                                   @RequestParam(required = false) @Nullable LocalTime finalAvailability,
+                                                                   @RequestParam(required = false) @Nullable Resource.Type... types) {
+        val after = Objects.isNull(cursor) ? null : Cursor.decode(cursor)
+                .orElseThrow(() -> new MeetingRoomsException(RoomResponse.INVALID_CURSOR));
+        val filter = new RoomFilter(capacity, available, initialAvailability, finalAvailability, types);
+        return roomService.getAllAfter(filter, after, size).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/availability")
+    public Mono<ResponseEntity<AvailabilityGrid>> getAvailability(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                                  @RequestParam(defaultValue = "30") Integer granularity,
+                                                                  @RequestParam(required = false) @Nullable Integer capacity,
+                                                                  @RequestParam(required = false) @Nullable Boolean available,
+                                                                  @RequestParam(required = false) @Nullable LocalTime initialAvailability,
+                                                                  @RequestParam(required = false) @Nullable LocalTime finalAvailability,
+                                                                  @RequestParam(required = false) @Nullable Resource.Type... types) {
+        val filter = new RoomFilter(capacity, available, initialAvailability, finalAvailability, types);
+        return Mono.fromCallable(() -> roomAvailabilityService.getAvailability(filter, from, to, granularity))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/list/{roomId}/resources")
+    public Mono<ResponseEntity<Flux<Resource>>> getRoomResources(@PathVariable UUID roomId) {
+        return room(roomId).map(room -> ResponseEntity.ok(roomResourceService.getRoomResources(room)));
+    }
+
+    @PutMapping("/update/{roomId}/name")
+    public Mono<ResponseEntity<Room>> updateName(@PathVariable UUID roomId, @RequestBody RoomUpdateNameRequest request) {
+        return roomService.updateName(roomId, request.name()).map(ResponseEntity::ok);
+    }
+
+    @PutMapping("/update/{roomId}/capacity")
+    public Mono<ResponseEntity<Room>> updateCapacity(@PathVariable UUID roomId, @RequestBody RoomUpdateCapacityRequest request) {
+        return roomService.updateCapacity(roomId, request.capacity()).map(ResponseEntity::ok);
+    }
+
+    @PutMapping("/update/{roomId}/availability-period")
+    public Mono<ResponseEntity<Room>> updateAvailabilityPeriod(@PathVariable UUID roomId,
+                                                               @RequestBody RoomUpdateAvailabilityPeriodRequest request) {
+        return roomService.updateAvailabilityPeriod(roomId, request.initialAvailability(), request.finalAvailability())
+                .map(ResponseEntity::ok);
+    }
+
+    @PutMapping("/update/{roomId}/resources/add/{resourceId}")
+    public Mono<ResponseEntity<Room>> addResource(@PathVariable UUID roomId, @PathVariable UUID resourceId) {
+        return room(roomId)
+                .flatMap(room -> resource(resourceId)
+                        .flatMap(resource -> checkAvailability(room).then(roomResourceService.addResource(room, resource))))
+                .thenReturn(ResponseEntity.noContent().build());
+    }
+
+    @PutMapping("/update/{roomId}/resources/remove/{resourceId}")
+    public Mono<ResponseEntity<Room>> removeResource(@PathVariable UUID roomId, @PathVariable UUID resourceId) {
+        return room(roomId)
+                .flatMap(room -> resource(resourceId)
+                        .flatMap(resource -> checkAvailability(room).then(roomResourceService.removeResource(room, resource))))
+                .thenReturn(ResponseEntity.noContent().build());
+    }
+
+    @PutMapping("/update/{roomId}/resources/remove")
+    public Mono<ResponseEntity<Object>> removeResources(@PathVariable UUID roomId) {
+        return availableRoom(roomId)
+                .flatMap(roomResourceService::removeResources)
+                .thenReturn(ResponseEntity.noContent().build());
+    }
+
+    @DeleteMapping("/delete/{roomId}")
+    public Mono<ResponseEntity<Object>> delete(@PathVariable UUID roomId) {
+        return availableRoom(roomId)
+                .flatMap(roomService::delete)
+                .thenReturn(ResponseEntity.noContent().build());
+    }
+
+    private Mono<Room> room(UUID roomId) {
+        return roomService.get(roomId).switchIfEmpty(Mono.error(() -> new MeetingRoomsException(RoomResponse.NOT_FOUND)));
+    }
+
+    private Mono<Resource> resource(UUID resourceId) {
+        return resourceService.get(resourceId)
+                .switchIfEmpty(Mono.error(() -> new MeetingRoomsException(ResourceResponse.NOT_FOUND)));
+    }
+
+    private Mono<Room> availableRoom(UUID roomId) {
+        return room(roomId).flatMap(room -> checkAvailability(room).thenReturn(room));
+    }
+
+    private Mono<Void> checkAvailability(Room room) {
+        return roomService.isAvailable(room)
+                .flatMap(available -> available ? Mono.<Void>empty() : Mono.error(new MeetingRoomsException(RoomResponse.UNAVAILABLE)));
+    }
+}
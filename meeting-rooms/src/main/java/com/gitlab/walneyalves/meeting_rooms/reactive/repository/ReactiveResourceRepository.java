@@ -0,0 +1,16 @@
+package com.gitlab.walneyalves.meeting_rooms.reactive.repository;
+
+import com.gitlab.walneyalves.meeting_rooms.model.Resource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+@Repository
+public interface ReactiveResourceRepository extends ReactiveMongoRepository<Resource, UUID> {
+
+    Flux<Resource> findAllBy(Pageable pageable);
+
+}
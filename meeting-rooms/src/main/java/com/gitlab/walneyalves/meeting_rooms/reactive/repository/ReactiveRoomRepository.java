@@ -0,0 +1,12 @@
+package com.gitlab.walneyalves.meeting_rooms.reactive.repository;
+
+import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface ReactiveRoomRepository extends ReactiveMongoRepository<Room, UUID> {
+
+}
@@ -0,0 +1,24 @@
+package com.gitlab.walneyalves.meeting_rooms.reactive.repository;
+
+import com.gitlab.walneyalves.meeting_rooms.model.room.RoomResource;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Repository
+public interface ReactiveRoomResourceRepository extends ReactiveMongoRepository<RoomResource, UUID> {
+
+    Flux<RoomResource> findAllByRoomId(UUID roomId);
+
+    Flux<RoomResource> findAllByResourceId(UUID resourceId);
+
+    Mono<Void> deleteAllByRoomId(UUID roomId);
+
+    Mono<Void> deleteAllByResourceId(UUID resourceId);
+
+    Mono<Void> deleteByRoomIdAndResourceId(UUID roomId, UUID resourceId);
+
+}
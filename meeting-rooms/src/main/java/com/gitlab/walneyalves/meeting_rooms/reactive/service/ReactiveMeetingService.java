@@ -0,0 +1,124 @@
+package com.gitlab.walneyalves.meeting_rooms.reactive.service;
+
+import com.gitlab.walneyalves.meeting_rooms.domain.filter.MeetingFilter;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.Cursor;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.CursorPage;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingBulkCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.MeetingResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
+import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import com.gitlab.walneyalves.meeting_rooms.reactive.ReactiveConfiguration;
+import com.gitlab.walneyalves.meeting_rooms.reactive.repository.ReactiveMeetingRepository;
+import com.gitlab.walneyalves.meeting_rooms.repository.query.MeetingQueries;
+import com.gitlab.walneyalves.meeting_rooms.service.MeetingService;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Bookings, moves and cancellations go through the blocking {@link MeetingService} on worker threads.
+ */
+@Service
+@RequiredArgsConstructor
+@Profile(ReactiveConfiguration.PROFILE)
+public class ReactiveMeetingService {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    private final ReactiveMeetingRepository meetingRepository;
+
+    private final MeetingService meetingService;
+
+    public Mono<Meeting> book(MeetingCreateRequest request, Room room, UUID host) {
+        return Mono.fromCallable(() -> meetingService.book(request, room, host))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    public Mono<List<Meeting>> createAll(List<MeetingBulkCreateRequest> requests, UUID host) {
+        return Mono.fromCallable(() -> meetingService.createAll(requests, host))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public Mono<Meeting> get(UUID id) {
+        return meetingRepository.findById(id);
+    }
+
+    public Mono<Meeting> cancel(Meeting meeting) {
+        return Mono.fromCallable(() -> {
+            meetingService.cancel(meeting);
+            return meeting;
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public Boolean canCancel(Meeting meeting) {
+        return meetingService.canCancel(meeting);
+    }
+
+    public Mono<Page<Meeting>> getMeetings(UUID host, MeetingFilter filter, Pageable pageable) {
+        val query = MeetingQueries.query(host, filter);
+        return ReactivePages.page(reactiveMongoTemplate.find(Query.of(query).with(pageable), Meeting.class),
+                pageable, reactiveMongoTemplate.count(query, Meeting.class));
+    }
+
+    public Mono<Slice<Meeting>> getMeetingsSlice(UUID host, MeetingFilter filter, Pageable pageable) {
+        val query = MeetingQueries.query(host, filter).with(pageable);
+        if (pageable.isPaged()) {
+            query.limit(pageable.getPageSize() + 1);
+        }
+        return reactiveMongoTemplate.find(query, Meeting.class)
+                .collectList()
+                .map(meetings -> ReactivePages.slice(meetings, pageable));
+    }
+
+    public Mono<CursorPage<Meeting>> getMeetingsAfter(UUID host, MeetingFilter filter, @Nullable Cursor after, int size) {
+        val limit = CursorPage.size(size);
+        return Mono.fromSupplier(() -> MeetingQueries.query(host, filter, after).limit(limit + 1))
+                .flatMapMany(query -> reactiveMongoTemplate.find(query, Meeting.class))
+                .collectList()
+                .map(meetings -> CursorPage.of(meetings, limit,
+                        meeting -> new Cursor(meeting.getStartDate().toString(), meeting.getId())));
+    }
+
+    public Mono<Meeting> updateTitle(@NonNull UUID id, @NonNull UUID host, @NonNull String title) {
+        return update(id, host, Update.update("title", title));
+    }
+
+    public Mono<Meeting> updateDescription(@NonNull UUID id, @NonNull UUID host, @Nullable String description) {
+        return update(id, host, Objects.isNull(description) ? new Update().unset("description") : Update.update("description", description));
+    }
+
+    private Mono<Meeting> update(UUID id, UUID host, Update update) {
+        return reactiveMongoTemplate.findAndModify(Query.query(Criteria.where("id").is(id).and("host").is(host)), update,
+                        FindAndModifyOptions.options().returnNew(true), Meeting.class)
+                .switchIfEmpty(Mono.defer(() -> meetingRepository.existsById(id))
+                        .flatMap(exists -> Mono.error(new MeetingRoomsException(exists
+                                ? MeetingResponse.INSUFFICIENT_PRIVILEGES
+                                : MeetingResponse.NOT_FOUND))));
+    }
+
+    public Mono<Meeting> updateDuration(@NonNull Meeting meeting, @NonNull LocalDateTime start, @NonNull LocalDateTime end) {
+        return Mono.fromCallable(() -> meetingService.updateDuration(meeting, start, end))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
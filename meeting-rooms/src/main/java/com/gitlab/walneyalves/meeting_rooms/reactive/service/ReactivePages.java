@@ -0,0 +1,43 @@
+package com.gitlab.walneyalves.meeting_rooms.reactive.service;
+
+import lombok.val;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Reactive counterpart of {@code PageableExecutionUtils}: the count only runs when the content does not tell it.
+ */
+final class ReactivePages {
+
+    private ReactivePages() { }
+
+    static <T> Mono<Page<T>> page(Flux<T> content, Pageable pageable, Mono<Long> count) {
+        return content.collectList().flatMap(items -> {
+            if (pageable.isUnpaged()) {
+                return Mono.just(new PageImpl<>(items, pageable, items.size()));
+            }
+            if (!items.isEmpty() && items.size() < pageable.getPageSize()) {
+                return Mono.just(new PageImpl<>(items, pageable, pageable.getOffset() + items.size()));
+            }
+            if (items.isEmpty() && pageable.getOffset() == 0) {
+                return Mono.just(new PageImpl<>(items, pageable, 0));
+            }
+            return count.map(total -> new PageImpl<>(items, pageable, total));
+        });
+    }
+
+    static <T> Slice<T> slice(List<T> items, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(items, pageable, false);
+        }
+        val hasNext = items.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? items.subList(0, pageable.getPageSize()) : items, pageable, hasNext);
+    }
+}
@@ -0,0 +1,100 @@
+package com.gitlab.walneyalves.meeting_rooms.reactive.service;
+
+import com.gitlab.walneyalves.meeting_rooms.configuration.CacheConfiguration;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.ResourceResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
+import com.gitlab.walneyalves.meeting_rooms.model.Resource;
+import com.gitlab.walneyalves.meeting_rooms.reactive.ReactiveConfiguration;
+import com.gitlab.walneyalves.meeting_rooms.reactive.repository.ReactiveResourceRepository;
+import com.gitlab.walneyalves.meeting_rooms.service.room.RoomResourceTypes;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Profile(ReactiveConfiguration.PROFILE)
+public class ReactiveResourceService {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    private final ReactiveResourceRepository resourceRepository;
+
+    private final RoomResourceTypes roomResourceTypes;
+
+    private final CacheManager cacheManager;
+
+    public Mono<Resource> create(@NonNull Resource.ResourceBuilder builder) {
+        return resourceRepository.save(builder.build());
+    }
+
+    public Mono<Resource> get(@NonNull UUID id) {
+        val cache = cacheManager.getCache(CacheConfiguration.RESOURCES);
+        if (Objects.isNull(cache)) {
+            return resourceRepository.findById(id);
+        }
+        return Mono.fromSupplier(() -> cache.get(id, Resource.class))
+                .switchIfEmpty(Mono.defer(() -> resourceRepository.findById(id)).doOnNext(resource -> cache.put(id, resource)));
+    }
+
+    public Mono<Page<Resource>> getAll(@NonNull Pageable pageable) {
+        return ReactivePages.page(resourceRepository.findAllBy(pageable), pageable, resourceRepository.count());
+    }
+
+    public Flux<Resource> getAll(@NonNull Collection<UUID> ids) {
+        return ids.isEmpty() ? Flux.empty() : resourceRepository.findAllById(ids);
+    }
+
+    public Mono<Resource> updateName(@NonNull UUID id, @NonNull String name) {
+        return update(id, Update.update("name", name)).doOnNext(resource -> resource.setName(name));
+    }
+
+    public Mono<Resource> updateType(@NonNull UUID id, @NonNull Resource.Type type) {
+        return update(id, Update.update("type", type)).flatMap(resource -> {
+            val changed = resource.getType() != type;
+            resource.setType(type);
+            return changed ? refreshRooms(id).thenReturn(resource) : Mono.just(resource);
+        });
+    }
+
+    public Mono<Void> delete(@NonNull Resource resource) {
+        return resourceRepository.deleteById(resource.getId())
+                .then(Mono.fromRunnable(() -> evict(resource.getId())))
+                .then(refreshRooms(resource.getId()));
+    }
+
+    private Mono<Resource> update(UUID id, Update update) {
+        return reactiveMongoTemplate.findAndModify(Query.query(Criteria.where("id").is(id)), update, Resource.class)
+                .doOnSuccess(resource -> evict(id))
+                .switchIfEmpty(Mono.error(() -> new MeetingRoomsException(ResourceResponse.NOT_FOUND)));
+    }
+
+    /**
+     * The fan-out to the linked rooms is rare and stays on the blocking implementation.
+     */
+    private Mono<Void> refreshRooms(UUID resourceId) {
+        return Mono.<Void>fromRunnable(() -> roomResourceTypes.refreshByResource(resourceId))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private void evict(UUID id) {
+        Optional.ofNullable(cacheManager.getCache(CacheConfiguration.RESOURCES)).ifPresent(cache -> cache.evict(id));
+    }
+}
@@ -0,0 +1,99 @@
+package com.gitlab.walneyalves.meeting_rooms.reactive.service;
+
+import com.gitlab.walneyalves.meeting_rooms.configuration.CacheConfiguration;
+import com.gitlab.walneyalves.meeting_rooms.model.Resource;
+import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import com.gitlab.walneyalves.meeting_rooms.model.room.RoomResource;
+import com.gitlab.walneyalves.meeting_rooms.reactive.ReactiveConfiguration;
+import com.gitlab.walneyalves.meeting_rooms.reactive.repository.ReactiveRoomResourceRepository;
+import com.gitlab.walneyalves.meeting_rooms.service.room.RoomResourceTypes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Profile(ReactiveConfiguration.PROFILE)
+public class ReactiveRoomResourceService {
+
+    private static final String RESOURCE_TYPES = "resourceTypes";
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    private final ReactiveResourceService resourceService;
+
+    private final ReactiveRoomResourceRepository roomResourceRepository;
+
+    private final RoomResourceTypes roomResourceTypes;
+
+    private final CacheManager cacheManager;
+
+    public Flux<Resource> getRoomResources(@NonNull Room room) {
+        return roomResourceRepository.findAllByRoomId(room.getId())
+                .collectList()
+                .flatMapMany(links -> resourceService
+                        .getAll(links.stream().map(RoomResource::getResourceId).collect(Collectors.toSet()))
+                        .collectMap(Resource::getId)
+                        .flatMapIterable(resources -> links.stream()
+                                .map(link -> resources.get(link.getResourceId()))
+                                .filter(Objects::nonNull)
+                                .toList()));
+    }
+
+    public Mono<Void> addResource(@NonNull Room room, @NonNull Resource resource) {
+        return roomResourceRepository.save(RoomResource.builder()
+                        .roomId(room.getId())
+                        .resourceId(resource.getId())
+                        .build())
+                .then(updateTypes(room.getId(), new Update().addToSet(RESOURCE_TYPES, resource.getType())));
+    }
+
+    public Mono<Void> removeResource(@NonNull Room room, @NonNull Resource resource) {
+        return roomResourceRepository.deleteByRoomIdAndResourceId(room.getId(), resource.getId())
+                .then(refresh(List.of(room.getId())));
+    }
+
+    public Mono<Void> removeResources(@NonNull Room room) {
+        return roomResourceRepository.deleteAllByRoomId(room.getId())
+                .then(updateTypes(room.getId(), new Update().set(RESOURCE_TYPES, List.of())));
+    }
+
+    public Mono<Void> removeByResource(@NonNull Resource resource) {
+        return roomResourceRepository.findAllByResourceId(resource.getId())
+                .map(RoomResource::getRoomId)
+                .collect(Collectors.toSet())
+                .flatMap(roomIds -> roomResourceRepository.deleteAllByResourceId(resource.getId())
+                        .then(refresh(roomIds)));
+    }
+
+    private Mono<Void> updateTypes(UUID roomId, Update update) {
+        return reactiveMongoTemplate.updateFirst(Query.query(Criteria.where("id").is(roomId)), update, Room.class)
+                .then(Mono.fromRunnable(() -> evict(Set.of(roomId))));
+    }
+
+    private Mono<Void> refresh(Collection<UUID> roomIds) {
+        return Mono.<Void>fromRunnable(() -> roomResourceTypes.refresh(roomIds))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private void evict(Collection<UUID> roomIds) {
+        Optional.ofNullable(cacheManager.getCache(CacheConfiguration.ROOMS)).ifPresent(cache -> roomIds.forEach(cache::evict));
+    }
+}
@@ -0,0 +1,189 @@
+package com.gitlab.walneyalves.meeting_rooms.reactive.service;
+
+import com.gitlab.walneyalves.meeting_rooms.configuration.CacheConfiguration;
+import com.gitlab.walneyalves.meeting_rooms.domain.filter.RoomFilter;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.Cursor;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.CursorPage;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.ResponseCode;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.RoomResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
+import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries;
+import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import com.gitlab.walneyalves.meeting_rooms.reactive.ReactiveConfiguration;
+import com.gitlab.walneyalves.meeting_rooms.reactive.repository.ReactiveRoomRepository;
+import com.gitlab.walneyalves.meeting_rooms.repository.query.RoomQueries;
+import com.gitlab.walneyalves.meeting_rooms.service.room.RoomService;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Profile(ReactiveConfiguration.PROFILE)
+public class ReactiveRoomService {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    private final ReactiveRoomRepository roomRepository;
+
+    private final RoomService roomService;
+
+    private final CacheManager cacheManager;
+
+    public Mono<Room> create(@NonNull Room.RoomBuilder builder) {
+        return roomRepository.save(builder.build());
+    }
+
+    /**
+     * Reads through the rooms cache shared with the blocking services.
+     */
+    public Mono<Room> get(@NonNull UUID id) {
+        val cache = cacheManager.getCache(CacheConfiguration.ROOMS);
+        if (Objects.isNull(cache)) {
+            return roomRepository.findById(id);
+        }
+        return Mono.fromSupplier(() -> cache.get(id, Room.class))
+                .switchIfEmpty(Mono.defer(() -> roomRepository.findById(id)).doOnNext(room -> cache.put(id, room)));
+    }
+
+    public Mono<Page<Room>> getAll(@NonNull Pageable pageable, @NonNull RoomFilter filter) {
+        return criteria(filter, null).flatMap(criteria -> ReactivePages.page(
+                reactiveMongoTemplate.find(Query.query(criteria).with(pageable), Room.class),
+                pageable, reactiveMongoTemplate.count(Query.query(criteria), Room.class)));
+    }
+
+    public Mono<Slice<Room>> getAllSlice(@NonNull Pageable pageable, @NonNull RoomFilter filter) {
+        return criteria(filter, null).flatMap(criteria -> {
+            val query = Query.query(criteria).with(pageable.getSort());
+            if (pageable.isPaged()) {
+                query.skip(pageable.getOffset()).limit(pageable.getPageSize() + 1);
+            }
+            return reactiveMongoTemplate.find(query, Room.class)
+                    .collectList()
+                    .map(rooms -> ReactivePages.slice(rooms, pageable));
+        });
+    }
+
+    public Mono<CursorPage<Room>> getAllAfter(@NonNull RoomFilter filter, @Nullable Cursor after, int size) {
+        val limit = CursorPage.size(size);
+        return criteria(filter, after).flatMap(criteria -> reactiveMongoTemplate
+                .find(Query.query(criteria).with(RoomQueries.CURSOR_ORDER).limit(limit + 1), Room.class)
+                .collectList()
+                .map(rooms -> CursorPage.of(rooms, limit, room -> new Cursor(room.getName(), room.getId()))));
+    }
+
+    private Mono<Criteria> criteria(RoomFilter filter, @Nullable Cursor after) {
+        if (Objects.isNull(filter.available())) {
+            return Mono.just(RoomQueries.criteria(filter, after));
+        }
+        return takingPlace(null).map(inUse -> RoomQueries.criteria(filter, after, inUse));
+    }
+
+    public Mono<Boolean> isAvailable(@NonNull Room room) {
+        if (!room.getAvailable()) {
+            return Mono.just(false);
+        }
+        return takingPlace(List.of(room.getId())).map(Set::isEmpty);
+    }
+
+    private Mono<Set<UUID>> takingPlace(@Nullable Collection<UUID> ids) {
+        val now = LocalDateTime.now();
+        return Flux.merge(
+                        reactiveMongoTemplate.findDistinct(Query.query(RoomQueries.takingPlace(ids, now, "startDate", "endDate")),
+                                "roomId", Meeting.class, UUID.class),
+                        reactiveMongoTemplate.findDistinct(Query.query(RoomQueries.takingPlace(ids, now, "nextStartDate", "nextEndDate")),
+                                "roomId", MeetingSeries.class, UUID.class))
+                .collect(Collectors.toSet());
+    }
+
+    public Boolean isTimeRangeSupported(@NonNull Room room,
+                                        @NonNull LocalDateTime start,
+                                        @NonNull LocalDateTime end) {
+        return roomService.isTimeRangeSupported(room, start, end);
+    }
+
+    public Boolean isValidCapacity(Integer capacity) {
+        return roomService.isValidCapacity(capacity);
+    }
+
+    public Mono<Room> updateName(@NonNull UUID id, @NonNull String name) {
+        return updateWhileAvailable(id, null, Update.update("name", name), RoomResponse.UNAVAILABLE);
+    }
+
+    public Mono<Room> updateAvailabilityPeriod(@NonNull UUID id,
+                                               @NonNull LocalTime initialAvailability,
+                                               @NonNull LocalTime finalAvailability) {
+        if (initialAvailability.isAfter(finalAvailability)) {
+            return Mono.error(new MeetingRoomsException(RoomResponse.INVALID_AVAILABILITY_PERIOD));
+        }
+        return update(id, Query.query(Criteria.where("id").is(id)),
+                Update.update("initialAvailability", initialAvailability).set("finalAvailability", finalAvailability))
+                .switchIfEmpty(Mono.error(() -> new MeetingRoomsException(RoomResponse.NOT_FOUND)));
+    }
+
+    public Mono<Room> updateCapacity(@NonNull UUID id, @NonNull Integer capacity) {
+        if (!isValidCapacity(capacity)) {
+            return Mono.error(new MeetingRoomsException(RoomResponse.INVALID_CAPACITY));
+        }
+        return updateWhileAvailable(id, Criteria.where("capacity").ne(capacity), Update.update("capacity", capacity),
+                RoomResponse.INVALID_CAPACITY);
+    }
+
+    public Mono<Void> delete(@NonNull Room room) {
+        return roomRepository.deleteById(room.getId())
+                .then(Mono.fromRunnable(() -> evict(room.getId())));
+    }
+
+    /**
+     * Evicts the cached copy rather than writing back a room that could be stale.
+     */
+    private Mono<Room> update(UUID id, Query query, Update update) {
+        return reactiveMongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), Room.class)
+                .doOnSuccess(room -> evict(id));
+    }
+
+    /**
+     * Guarded as {@link RoomService} does; only read on a miss.
+     */
+    private Mono<Room> updateWhileAvailable(UUID id, @Nullable Criteria criteria, Update update, ResponseCode unmet) {
+        val query = Query.query(Criteria.where("id").is(id).and("available").is(true));
+        Optional.ofNullable(criteria).ifPresent(query::addCriteria);
+        return takingPlace(List.of(id))
+                .flatMap(inUse -> !inUse.isEmpty()
+                        ? Mono.error(new MeetingRoomsException(RoomResponse.UNAVAILABLE))
+                        : update(id, query, update)
+                                .switchIfEmpty(Mono.defer(() -> roomRepository.findById(id))
+                                        .map(found -> found.getAvailable() ? unmet : RoomResponse.UNAVAILABLE)
+                                        .defaultIfEmpty(RoomResponse.NOT_FOUND)
+                                        .flatMap(response -> Mono.error(new MeetingRoomsException(response)))));
+    }
+
+    private void evict(UUID id) {
+        Optional.ofNullable(cacheManager.getCache(CacheConfiguration.ROOMS)).ifPresent(cache -> cache.evict(id));
+    }
+}
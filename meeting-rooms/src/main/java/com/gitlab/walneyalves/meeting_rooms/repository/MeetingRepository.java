@@ -1,9 +1,12 @@
 package com.gitlab.walneyalves.meeting_rooms.repository;
 
 import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import org.springframework.data.mongodb.repository.ExistsQuery;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -13,4 +16,19 @@ public interface MeetingRepository extends MongoRepository<Meeting, UUID> {
 
     Stream<Meeting> findAllByStateIsIn(Collection<Meeting.State> states);
 
+    Stream<Meeting> findAllByRoomIdAndStateIsIn(UUID roomId, Collection<Meeting.State> states);
+
+    Stream<Meeting> findAllByStateAndStartDateLessThanEqual(Meeting.State state, LocalDateTime startDate);
+
+    Stream<Meeting> findAllByStateAndEndDateLessThanEqual(Meeting.State state, LocalDateTime endDate);
+
+    @ExistsQuery("{ 'roomId': ?0, 'state': { $in: ?1 }, 'startDate': { $lte: ?3 }, 'endDate': { $gte: ?2 } }")
+    boolean existsOverlapping(UUID roomId, Collection<Meeting.State> states, LocalDateTime start, LocalDateTime end);
+
+    @ExistsQuery("{ '_id': { $ne: ?0 }, 'roomId': ?1, 'state': { $in: ?2 }, 'startDate': { $lte: ?4 }, 'endDate': { $gte: ?3 } }")
+    boolean existsOverlappingOther(UUID id, UUID roomId, Collection<Meeting.State> states, LocalDateTime start, LocalDateTime end);
+
+    @Query("{ 'roomId': { $in: ?0 }, 'state': { $in: ?1 }, 'startDate': { $lte: ?3 }, 'endDate': { $gte: ?2 } }")
+    Stream<Meeting> findAllOverlapping(Collection<UUID> roomIds, Collection<Meeting.State> states, LocalDateTime start, LocalDateTime end);
+
 }
\ No newline at end of file
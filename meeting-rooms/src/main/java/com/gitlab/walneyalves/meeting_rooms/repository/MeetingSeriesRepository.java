@@ -0,0 +1,34 @@
+package com.gitlab.walneyalves.meeting_rooms.repository;
+
+import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public interface MeetingSeriesRepository extends MongoRepository<MeetingSeries, UUID> {
+
+    List<MeetingSeries> findAllByHostOrderByStartDate(UUID host);
+
+    Stream<MeetingSeries> findAllByStateIsIn(Collection<Meeting.State> states);
+
+    Stream<MeetingSeries> findAllByRoomIdAndStateIsIn(UUID roomId, Collection<Meeting.State> states);
+
+    Stream<MeetingSeries> findAllByStateAndNextStartDateLessThanEqual(Meeting.State state, LocalDateTime nextStartDate);
+
+    Stream<MeetingSeries> findAllByStateAndNextEndDateLessThanEqual(Meeting.State state, LocalDateTime nextEndDate);
+
+    /**
+     * Series whose occurrences span the range; whether one overlaps is up to the caller.
+     */
+    @Query("{ 'roomId': { $in: ?0 }, 'state': { $in: ?1 }, 'startDate': { $lte: ?3 }, 'lastEndDate': { $gte: ?2 } }")
+    Stream<MeetingSeries> findAllSpanning(Collection<UUID> roomIds, Collection<Meeting.State> states, LocalDateTime start, LocalDateTime end);
+
+}
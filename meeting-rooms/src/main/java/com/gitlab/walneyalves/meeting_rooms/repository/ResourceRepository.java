@@ -1,10 +1,30 @@
 package com.gitlab.walneyalves.meeting_rooms.repository;
 
+import com.gitlab.walneyalves.meeting_rooms.configuration.CacheConfiguration;
 import com.gitlab.walneyalves.meeting_rooms.model.Resource;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ResourceRepository extends MongoRepository<Resource, UUID> { }
\ No newline at end of file
+public interface ResourceRepository extends MongoRepository<Resource, UUID> {
+
+    @NonNull
+    @Override
+    @Cacheable(CacheConfiguration.RESOURCES)
+    Optional<Resource> findById(@NonNull UUID id);
+
+    @NonNull
+    @Override
+    @CacheEvict(value = CacheConfiguration.RESOURCES, key = "#p0.id")
+    <S extends Resource> S save(@NonNull S resource);
+
+    @Override
+    @CacheEvict(CacheConfiguration.RESOURCES)
+    void deleteById(@NonNull UUID id);
+}
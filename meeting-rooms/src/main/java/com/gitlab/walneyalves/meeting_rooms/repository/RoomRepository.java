@@ -1,10 +1,30 @@
 package com.gitlab.walneyalves.meeting_rooms.repository;
 
+import com.gitlab.walneyalves.meeting_rooms.configuration.CacheConfiguration;
 import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface RoomRepository extends MongoRepository<Room, UUID> { }
\ No newline at end of file
+public interface RoomRepository extends MongoRepository<Room, UUID> {
+
+    @NonNull
+    @Override
+    @Cacheable(CacheConfiguration.ROOMS)
+    Optional<Room> findById(@NonNull UUID id);
+
+    @NonNull
+    @Override
+    @CacheEvict(value = CacheConfiguration.ROOMS, key = "#p0.id")
+    <S extends Room> S save(@NonNull S room);
+
+    @Override
+    @CacheEvict(CacheConfiguration.ROOMS)
+    void deleteById(@NonNull UUID id);
+}
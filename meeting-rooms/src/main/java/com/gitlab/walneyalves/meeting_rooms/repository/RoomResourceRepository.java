@@ -4,14 +4,22 @@ import com.gitlab.walneyalves.meeting_rooms.model.room.RoomResource;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface RoomResourceRepository extends MongoRepository<RoomResource, UUID> {
 
     List<RoomResource> findAllByRoomId(UUID roomId);
 
+    List<RoomResource> findAllByRoomIdIn(Collection<UUID> roomIds);
+
+    List<RoomResource> findAllByResourceId(UUID resourceId);
+
+    Stream<RoomResource> streamAllBy();
+
     void deleteAllByRoomId(UUID roomId);
 
     void deleteAllByResourceId(UUID resourceId);
@@ -0,0 +1,63 @@
+package com.gitlab.walneyalves.meeting_rooms.repository.query;
+
+import com.gitlab.walneyalves.meeting_rooms.domain.filter.MeetingFilter;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.Cursor;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.MeetingResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
+import lombok.val;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+
+public final class MeetingQueries {
+
+    public static final Sort CURSOR_ORDER = Sort.by("startDate", "id");
+
+    private MeetingQueries() { }
+
+    public static Query query(@NonNull UUID host, @NonNull MeetingFilter filter) {
+        val query = new Query();
+        val endDateFilter = filter.endDate();
+        val startDateFilter = filter.startDate();
+        val states = filter.states();
+        query.addCriteria(Criteria.where("host").is(host));
+        if (Objects.nonNull(endDateFilter) && Objects.nonNull(startDateFilter)) {
+            query.addCriteria(new Criteria().andOperator(
+                    Criteria.where("startDate").lte(endDateFilter),
+                    Criteria.where("endDate").gte(startDateFilter))
+            );
+        }
+        if (Objects.nonNull(states)) {
+            query.addCriteria(Criteria.where("state").in(Arrays.asList(states)));
+        }
+        return query;
+    }
+
+    public static Query query(@NonNull UUID host, @NonNull MeetingFilter filter, @Nullable Cursor after) {
+        val query = query(host, filter);
+        if (Objects.nonNull(after)) {
+            val startDate = cursorStartDate(after);
+            query.addCriteria(new Criteria().orOperator(
+                    Criteria.where("startDate").gt(startDate),
+                    Criteria.where("startDate").is(startDate).and("id").gt(after.id()))
+            );
+        }
+        return query.with(CURSOR_ORDER);
+    }
+
+    private static LocalDateTime cursorStartDate(Cursor cursor) {
+        try {
+            return LocalDateTime.parse(cursor.key());
+        } catch (DateTimeParseException exception) {
+            throw new MeetingRoomsException(MeetingResponse.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.gitlab.walneyalves.meeting_rooms.repository.query;
+
+import com.gitlab.walneyalves.meeting_rooms.domain.filter.RoomFilter;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.Cursor;
+import com.gitlab.walneyalves.meeting_rooms.service.MeetingService;
+import lombok.val;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+public final class RoomQueries {
+
+    public static final Sort CURSOR_ORDER = Sort.by("name", "_id");
+
+    private RoomQueries() { }
+
+    public static Criteria criteria(@NonNull RoomFilter filter, @Nullable Cursor after) {
+        return criteria(filter, after, Set.of());
+    }
+
+    public static Criteria criteria(@NonNull RoomFilter filter, @Nullable Cursor after, @NonNull Collection<UUID> inUse) {
+        val criteria = new ArrayList<Criteria>();
+        val availableFilter = filter.available();
+        val endDateFilter = filter.finalAvailability();
+        val startDateFilter = filter.initialAvailability();
+        val capacityFilter = filter.capacity();
+        val typesFilter = filter.types();
+        if (Objects.nonNull(availableFilter) && inUse.isEmpty()) {
+            criteria.add(Criteria.where("available").is(availableFilter));
+        } else if (Objects.nonNull(availableFilter)) {
+            criteria.add(availableFilter
+                    ? Criteria.where("available").is(true).and("id").nin(inUse)
+                    : new Criteria().orOperator(Criteria.where("available").is(false), Criteria.where("id").in(inUse)));
+        }
+        if (Objects.nonNull(endDateFilter) && Objects.nonNull(startDateFilter)) {
+            criteria.add(Criteria.where("initialAvailability").lte(endDateFilter));
+            criteria.add(Criteria.where("finalAvailability").gte(startDateFilter));
+        }
+        if (Objects.nonNull(capacityFilter)) {
+            criteria.add(Criteria.where("capacity").is(capacityFilter));
+        }
+        if (Objects.nonNull(typesFilter) && typesFilter.length > 0) {
+            val types = EnumSet.copyOf(Arrays.asList(typesFilter));
+            val excluded = EnumSet.complementOf(types).stream().map(Enum::name).toList();
+            criteria.add(Criteria.where("resourceTypes").nin(excluded));
+        }
+        if (Objects.nonNull(after)) {
+            criteria.add(new Criteria().orOperator(
+                    Criteria.where("name").gt(after.key()),
+                    Criteria.where("name").is(after.key()).and("id").gt(after.id()))
+            );
+        }
+        return criteria.isEmpty() ? new Criteria() : new Criteria().andOperator(criteria);
+    }
+
+    public static Criteria takingPlace(@Nullable Collection<UUID> ids,
+                                       @NonNull LocalDateTime date,
+                                       @NonNull String startField,
+                                       @NonNull String endField) {
+        val criteria = Criteria.where("state").in(MeetingService.ACTIVE_STATES).and(startField).lte(date).and(endField).gte(date);
+        return Objects.isNull(ids) ? criteria : criteria.and("roomId").in(ids);
+    }
+}
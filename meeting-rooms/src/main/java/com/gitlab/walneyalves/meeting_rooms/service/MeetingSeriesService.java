@@ -0,0 +1,339 @@
+package com.gitlab.walneyalves.meeting_rooms.service;
+
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingSeriesCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.MeetingResponse;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.MeetingSeriesResponse;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.RoomResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
+import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries;
+import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import com.gitlab.walneyalves.meeting_rooms.repository.MeetingRepository;
+import com.gitlab.walneyalves.meeting_rooms.repository.MeetingSeriesRepository;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.MeetingIndex;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.MeetingScheduler;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.MeetingSeriesTransitionEvent;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.Occurrences;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.OptimisticBooking;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.RoomLocks;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.SlotClaims;
+import com.gitlab.walneyalves.meeting_rooms.service.room.RoomService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * One document per series; conflict checks expand only the occurrences within the range they look at.
+ */
+@Service
+@RequiredArgsConstructor
+public class MeetingSeriesService {
+
+    private final MongoTemplate mongoTemplate;
+
+    private final MeetingSeriesRepository meetingSeriesRepository;
+
+    private final MeetingRepository meetingRepository;
+
+    private final MeetingIndex meetingIndex;
+
+    private final MeetingScheduler meetingScheduler;
+
+    private final MeterRegistry meterRegistry;
+
+    private final RoomService roomService;
+
+    private final OptimisticBooking optimisticBooking;
+
+    private final RoomLocks roomLocks;
+
+    private final SlotClaims slotClaims;
+
+    @Value("${meeting-rooms.scheduler.batch-size:500}")
+    private int transitionBatchSize = 500;
+
+    @Value("${meeting-rooms.series.max-occurrences:1000}")
+    private int maxOccurrences = 1000;
+
+    @EventListener
+    public void onTransition(MeetingSeriesTransitionEvent event) {
+        val ids = event.seriesIds();
+        for (var from = 0; from < ids.size(); from += transitionBatchSize) {
+            val batch = ids.subList(from, Math.min(from + transitionBatchSize, ids.size()));
+            switch (event.kind()) {
+                case START -> start(dueSeries(batch, Meeting.State.CREATED, MeetingSeries::getNextStartDate));
+                case END -> end(dueSeries(batch, Meeting.State.IN_PROGRESS, MeetingSeries::getNextEndDate));
+            }
+        }
+    }
+
+    /**
+     * Booked from its first occurrence not ended yet, each occurrence checked as {@link MeetingService#book} does.
+     */
+    @Transactional
+    public MeetingSeries create(@NonNull MeetingSeriesCreateRequest request, @NonNull Room room, @NonNull UUID host) {
+        if (request.startDate().isAfter(request.endDate())
+                || !request.startDate().toLocalDate().equals(request.endDate().toLocalDate())
+                || !roomService.isTimeRangeSupported(room, request.startDate(), request.endDate())) {
+            throw new MeetingRoomsException(MeetingResponse.INVALID_TIME_RANGE);
+        }
+        if (!room.getAvailable() || roomService.isInUse(room.getId())) {
+            throw new MeetingRoomsException(RoomResponse.UNAVAILABLE);
+        }
+        val recurrence = new MeetingSeries.Recurrence(request.frequency(),
+                Objects.requireNonNullElse(request.interval(), 1), request.until(), request.count());
+        val series = MeetingSeries
+                .builder()
+                .description(request.description())
+                .host(host)
+                .title(request.title())
+                .startDate(request.startDate())
+                .endDate(request.endDate())
+                .recurrence(recurrence)
+                .lastEndDate(lastEnd(request.startDate(), request.endDate(), recurrence)
+                        .orElseThrow(() -> new MeetingRoomsException(MeetingSeriesResponse.INVALID_RECURRENCE)))
+                .roomId(room.getId())
+                .build();
+        val next = Occurrences.next(series, LocalDateTime.now())
+                .orElseThrow(() -> new MeetingRoomsException(MeetingResponse.INVALID_TIME_RANGE));
+        series.setNextStartDate(next.startDate());
+        series.setNextEndDate(next.endDate());
+        Supplier<Optional<MeetingSeries>> attempt = () -> {
+            if (hasConflict(series, next.startDate())) {
+                return Optional.empty();
+            }
+            val saved = meetingSeriesRepository.save(series);
+            meetingIndex.put(saved);
+            return Optional.of(saved);
+        };
+        Consumer<MeetingSeries> undo = saved -> {
+            meetingSeriesRepository.delete(saved);
+            meetingIndex.remove(saved);
+        };
+        val created = roomLocks.withRoom(room.getId(), () -> slotClaims.isEnabled()
+                ? slotClaims.book(attempt, saved -> Occurrences.between(saved, next.startDate(), saved.getLastEndDate())
+                        .map(occurrence -> new SlotClaims.Claim(saved.getId(), saved.getRoomId(), occurrence.startDate(), occurrence.endDate()))
+                        .toList(), undo)
+                : optimisticBooking.book(List.of(room.getId()), attempt, undo)).orElseThrow(() -> new MeetingRoomsException(RoomResponse.UNAVAILABLE));
+        meetingScheduler.register(created);
+        return created;
+    }
+
+    private Optional<LocalDateTime> lastEnd(LocalDateTime start, LocalDateTime end, MeetingSeries.Recurrence recurrence) {
+        if (recurrence.interval() < 1
+                || Objects.isNull(recurrence.until()) == Objects.isNull(recurrence.count())
+                || (Objects.nonNull(recurrence.count()) && recurrence.count() < 1)
+                || (Objects.nonNull(recurrence.until()) && recurrence.until().isBefore(start))
+                || Occurrences.size(start, recurrence) > maxOccurrences) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Occurrences.lastEnd(start, end, recurrence));
+        } catch (DateTimeException | ArithmeticException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private boolean hasConflict(MeetingSeries series, LocalDateTime from) {
+        val roomId = series.getRoomId();
+        val until = series.getLastEndDate();
+        if (meetingIndex.isReady() && Occurrences.between(series, from, until)
+                .anyMatch(occurrence -> meetingIndex.hasOverlap(roomId, occurrence.startDate(), occurrence.endDate()))) {
+            return true;
+        }
+        try (val meetings = meetingRepository.findAllOverlapping(List.of(roomId), MeetingService.ACTIVE_STATES, from, until)) {
+            if (meetings.anyMatch(meeting -> Occurrences.overlaps(series, meeting.getStartDate(), meeting.getEndDate()))) {
+                return true;
+            }
+        }
+        try (val others = meetingSeriesRepository.findAllSpanning(List.of(roomId), MeetingService.ACTIVE_STATES, from, until)) {
+            return others.anyMatch(other -> Occurrences.between(series, from, until)
+                    .anyMatch(occurrence -> Occurrences.overlaps(other, occurrence.startDate(), occurrence.endDate())));
+        }
+    }
+
+    public Optional<MeetingSeries> get(UUID id) {
+        return meetingSeriesRepository.findById(id);
+    }
+
+    public List<MeetingSeries> getAll(UUID host) {
+        return meetingSeriesRepository.findAllByHostOrderByStartDate(host);
+    }
+
+    public List<Occurrences.Occurrence> getOccurrences(@NonNull MeetingSeries series,
+                                                       @NonNull LocalDateTime start,
+                                                       @NonNull LocalDateTime end) {
+        return Occurrences.between(series, start, end).toList();
+    }
+
+    public Boolean canCancel(MeetingSeries series) {
+        return MeetingService.ACTIVE_STATES.contains(series.getState());
+    }
+
+    @Transactional
+    public void cancel(MeetingSeries series) {
+        modify(Query.query(Criteria.where("id").is(series.getId()).and("state").in(MeetingService.ACTIVE_STATES)),
+                Update.update("state", Meeting.State.CANCELLED).set("nextStartDate", null).set("nextEndDate", null));
+        slotClaims.release(List.of(series.getId()));
+    }
+
+    @Transactional
+    public MeetingSeries skip(@NonNull MeetingSeries series, @NonNull LocalDate date) {
+        if (!canCancel(series)) {
+            throw new MeetingRoomsException(MeetingSeriesResponse.INVALID_STATE);
+        }
+        val occurrence = Occurrences.between(series, date.atStartOfDay(), date.atTime(LocalTime.MAX))
+                .filter(each -> each.startDate().toLocalDate().equals(date))
+                .findFirst()
+                .orElseThrow(() -> new MeetingRoomsException(MeetingSeriesResponse.NOT_AN_OCCURRENCE));
+        val isNext = occurrence.startDate().equals(series.getNextStartDate());
+        if (isNext && Meeting.State.IN_PROGRESS.equals(series.getState())) {
+            throw new MeetingRoomsException(MeetingSeriesResponse.INVALID_STATE);
+        }
+        val query = Query.query(Criteria.where("id").is(series.getId()).and("state").is(series.getState())
+                .and("nextStartDate").is(series.getNextStartDate()));
+        val update = new Update().addToSet("exceptions", date);
+        if (isNext) {
+            series.getExceptions().add(date);
+            advance(series, occurrence.startDate());
+            update.set("state", series.getState())
+                    .set("nextStartDate", series.getNextStartDate())
+                    .set("nextEndDate", series.getNextEndDate());
+        }
+        val skipped = modify(query, update);
+        slotClaims.release(series.getId(), occurrence.startDate(), occurrence.endDate());
+        return skipped;
+    }
+
+    @Transactional
+    protected void start(List<MeetingSeries> series) {
+        transition(series, Meeting.State.CREATED, MeetingSeries::getNextStartDate,
+                each -> each.setState(Meeting.State.IN_PROGRESS));
+    }
+
+    @Transactional
+    protected void end(List<MeetingSeries> series) {
+        val ended = transition(series, Meeting.State.IN_PROGRESS, MeetingSeries::getNextEndDate,
+                each -> advance(each, each.getNextStartDate()));
+        // The slots of the occurrences that ended; the following ones start later.
+        slotClaims.releaseBefore(ended.stream().map(MeetingSeries::getId).toList(), LocalDateTime.now());
+    }
+
+    private void advance(MeetingSeries series, LocalDateTime current) {
+        Occurrences.after(series, current).ifPresentOrElse(next -> {
+            series.setState(Meeting.State.CREATED);
+            series.setNextStartDate(next.startDate());
+            series.setNextEndDate(next.endDate());
+        }, () -> {
+            series.setState(Meeting.State.ENDED);
+            series.setNextStartDate(null);
+            series.setNextEndDate(null);
+        });
+    }
+
+    private List<MeetingSeries> dueSeries(List<UUID> ids,
+                                          Meeting.State state,
+                                          Function<MeetingSeries, LocalDateTime> dueDate) {
+        val now = LocalDateTime.now();
+        val due = new ArrayList<MeetingSeries>();
+        meetingSeriesRepository.findAllById(ids).forEach(series -> {
+            if (!state.equals(series.getState()) || Objects.isNull(dueDate.apply(series))) {
+                return;
+            }
+            if (dueDate.apply(series).isAfter(now)) {
+                meetingScheduler.register(series);
+                return;
+            }
+            due.add(series);
+        });
+        return due;
+    }
+
+    /**
+     * Only the series read back in their new state, still at the occurrence read, are changed in memory.
+     */
+    private List<MeetingSeries> transition(List<MeetingSeries> series,
+                                           Meeting.State from,
+                                           Function<MeetingSeries, LocalDateTime> dueDate,
+                                           Consumer<MeetingSeries> apply) {
+        if (series.isEmpty()) {
+            return List.of();
+        }
+        val sample = Timer.start(meterRegistry);
+        val now = LocalDateTime.now();
+        val lags = new HashMap<UUID, Duration>();
+        val operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, MeetingSeries.class);
+        series.forEach(each -> {
+            lags.put(each.getId(), Duration.between(dueDate.apply(each), now));
+            val matches = Criteria.where("id").is(each.getId()).and("state").is(from)
+                    .and("nextStartDate").is(each.getNextStartDate());
+            apply.accept(each);
+            operations.updateOne(Query.query(matches),
+                    Update.update("state", each.getState())
+                            .set("nextStartDate", each.getNextStartDate())
+                            .set("nextEndDate", each.getNextEndDate()));
+        });
+        operations.execute();
+        val applied = series.stream()
+                .collect(Collectors.groupingBy(MeetingSeries::getState, Collectors.mapping(MeetingSeries::getId, Collectors.toList())))
+                .entrySet()
+                .stream()
+                .map(entry -> Criteria.where("id").in(entry.getValue()).and("state").is(entry.getKey()))
+                .toArray(Criteria[]::new);
+        val changedIds = new HashSet<>(mongoTemplate.findDistinct(
+                Query.query(new Criteria().orOperator(applied)), "id", MeetingSeries.class, UUID.class));
+        val changed = series.stream().filter(each -> changedIds.contains(each.getId())).toList();
+        changed.forEach(each -> {
+            meetingIndex.put(each);
+            meetingScheduler.register(each);
+        });
+        val state = from.equals(Meeting.State.CREATED) ? "in_progress" : "ended";
+        sample.stop(meterRegistry.timer("meeting.series.transition.batch.duration", "state", state));
+        meterRegistry.summary("meeting.series.transition.batch.size", "state", state).record(changed.size());
+        val lag = meterRegistry.timer("meeting.series.transition.lag", "state", state);
+        changed.forEach(each -> lag.record(lags.get(each.getId())));
+        return changed;
+    }
+
+    /**
+     * A miss means a transition or another request changed the series since it was read.
+     */
+    private MeetingSeries modify(Query query, Update update) {
+        val modified = mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), MeetingSeries.class);
+        if (Objects.isNull(modified)) {
+            throw new MeetingRoomsException(MeetingSeriesResponse.INVALID_STATE);
+        }
+        meetingIndex.put(modified);
+        meetingScheduler.register(modified);
+        return modified;
+    }
+}
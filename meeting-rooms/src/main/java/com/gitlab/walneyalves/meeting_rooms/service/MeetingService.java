@@ -1,31 +1,71 @@
 package com.gitlab.walneyalves.meeting_rooms.service;
 
 import com.gitlab.walneyalves.meeting_rooms.domain.filter.MeetingFilter;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.Cursor;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.CursorPage;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingBulkCreateRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingPatchRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MergePatch;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.ItemError;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.MeetingResponse;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.ResponseCode;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.RoomResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsBatchException;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
 import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
 import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
 import com.gitlab.walneyalves.meeting_rooms.repository.MeetingRepository;
+import com.gitlab.walneyalves.meeting_rooms.repository.MeetingSeriesRepository;
+import com.gitlab.walneyalves.meeting_rooms.repository.query.MeetingQueries;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.MeetingIndex;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.MeetingScheduler;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.MeetingTransitionEvent;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.OptimisticBooking;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.Occurrences;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.OverlapSweep;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.RoomLocks;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.SlotClaims;
 import com.gitlab.walneyalves.meeting_rooms.service.room.RoomService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.stream;
@@ -34,42 +74,187 @@ import static java.util.Arrays.stream;
 @RequiredArgsConstructor
 public class MeetingService {
 
+    public static final String CONFLICT_CHECK = "meeting.conflict.check";
+
+    public static final List<Meeting.State> ACTIVE_STATES = List.of(Meeting.State.CREATED, Meeting.State.IN_PROGRESS);
+
     private final MongoTemplate mongoTemplate;
 
+    private final MeetingRepository meetingRepository;
+
+    private final MeetingIndex meetingIndex;
+
+    private final MeetingScheduler meetingScheduler;
+
+    private final MeterRegistry meterRegistry;
+
     private final RoomService roomService;
 
-    private final MeetingRepository meetingRepository;
+    private final MeetingSeriesRepository meetingSeriesRepository;
 
-    @Async
-    @Scheduled(cron = "0/3 * * * * *")
-    public void startMeetingsTask() {
-        val now = LocalDateTime.now();
-        getMeetings(Meeting.State.CREATED)
-                .filter(meeting -> !meeting.getStartDate().isAfter(now))
-                .forEach(this::start);
+    private final OptimisticBooking optimisticBooking;
+
+    private final RoomLocks roomLocks;
+
+    private final SlotClaims slotClaims;
+
+    @Value("${meeting-rooms.scheduler.batch-size:500}")
+    private int transitionBatchSize = 500;
+
+    @Value("${meeting-rooms.bulk.max-size:500}")
+    private int bulkMaxSize = 500;
+
+    @EventListener
+    public void onTransition(MeetingTransitionEvent event) {
+        val ids = event.meetingIds();
+        for (var from = 0; from < ids.size(); from += transitionBatchSize) {
+            val batch = ids.subList(from, Math.min(from + transitionBatchSize, ids.size()));
+            switch (event.kind()) {
+                case START -> start(dueMeetings(batch, Meeting.State.CREATED, Meeting::getStartDate));
+                case END -> end(dueMeetings(batch, Meeting.State.IN_PROGRESS, Meeting::getEndDate));
+            }
+        }
     }
 
-    @Async
-    @Scheduled(cron = "0/3 * * * * *")
-    public void endMeetingsTask() {
-        val now = LocalDateTime.now();
-        getMeetings(Meeting.State.IN_PROGRESS)
-                .filter(meeting -> meeting.getEndDate().isBefore(now))
-                .forEach(this::end);
+    /**
+     * Serialized per room by {@link RoomLocks}, and across nodes by {@link SlotClaims} or {@link OptimisticBooking}.
+     */
+    public Optional<Meeting> book(MeetingCreateRequest request, Room room, UUID host) {
+        Supplier<Optional<Meeting>> attempt = () -> {
+            if (hasMeeting(room, request.startDate(), request.endDate())) {
+                return Optional.empty();
+            }
+            val created = meetingRepository.save(Meeting
+                    .builder()
+                    .description(request.description())
+                    .host(host)
+                    .title(request.title())
+                    .startDate(request.startDate())
+                    .endDate(request.endDate())
+                    .roomId(room.getId())
+                    .build());
+            meetingIndex.put(created);
+            return Optional.of(created);
+        };
+        Consumer<Meeting> undo = meeting -> {
+            meetingRepository.delete(meeting);
+            meetingIndex.remove(meeting);
+        };
+        return roomLocks.withRoom(room.getId(), () -> slotClaims.isEnabled()
+                ? slotClaims.book(attempt, meeting -> List.of(SlotClaims.Claim.of(meeting)), undo)
+                : optimisticBooking.book(List.of(room.getId()), attempt, undo)).map(created -> {
+            meetingScheduler.register(created);
+            return created;
+        });
+    }
+
+    private Stream<Map.Entry<UUID, Occurrences.Occurrence>> seriesOverlapping(Collection<UUID> roomIds,
+                                                                              LocalDateTime start,
+                                                                              LocalDateTime end) {
+        return meetingSeriesRepository.findAllSpanning(roomIds, ACTIVE_STATES, start, end)
+                .flatMap(series -> Occurrences.between(series, start, end)
+                        .map(occurrence -> Map.entry(series.getRoomId(), occurrence)));
     }
 
+    /**
+     * Creates every meeting of the batch or none, checking each room with one {@link OverlapSweep}.
+     */
     @Transactional
-    public Meeting create(MeetingCreateRequest request, Room room, UUID host) {
-        val meeting = Meeting
-                .builder()
-                .description(request.description())
-                .host(host)
-                .title(request.title())
-                .startDate(request.startDate())
-                .endDate(request.endDate())
-                .roomId(room.getId())
-                .build();
-        return meetingRepository.save(meeting);
+    public List<Meeting> createAll(@NonNull List<MeetingBulkCreateRequest> requests, @NonNull UUID host) {
+        if (requests.isEmpty() || requests.size() > bulkMaxSize) {
+            throw new MeetingRoomsException(MeetingResponse.INVALID_BATCH_SIZE);
+        }
+        val rooms = roomService.getAll(requests.stream().map(MeetingBulkCreateRequest::roomId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Room::getId, Function.identity()));
+        val inUse = roomService.getInUse(rooms.keySet());
+        val invalid = new TreeMap<Integer, ResponseCode>();
+        val ranges = new HashMap<UUID, List<OverlapSweep.Range>>();
+        for (var index = 0; index < requests.size(); index++) {
+            val request = requests.get(index);
+            val room = rooms.get(request.roomId());
+            if (Objects.isNull(room)) {
+                invalid.put(index, RoomResponse.NOT_FOUND);
+            } else if (request.startDate().isAfter(request.endDate())
+                    || !roomService.isTimeRangeSupported(room, request.startDate(), request.endDate())) {
+                invalid.put(index, MeetingResponse.INVALID_TIME_RANGE);
+            } else if (!room.getAvailable() || inUse.contains(room.getId())) {
+                invalid.put(index, RoomResponse.UNAVAILABLE);
+            } else {
+                ranges.computeIfAbsent(room.getId(), roomId -> new ArrayList<>())
+                        .add(new OverlapSweep.Range(index, request.startDate(), request.endDate()));
+            }
+        }
+        Supplier<Optional<List<Meeting>>> attempt = () -> {
+            val errors = new TreeMap<>(invalid);
+            val stored = storedRanges(ranges);
+            ranges.forEach((roomId, requested) -> OverlapSweep
+                    .overlaps(requested, stored.getOrDefault(roomId, List.of()))
+                    .forEach((index, overlap) -> errors.put(index, overlap == OverlapSweep.Overlap.STORED
+                            ? RoomResponse.UNAVAILABLE
+                            : MeetingResponse.OVERLAPPING_BATCH)));
+            if (!errors.isEmpty()) {
+                throw new MeetingRoomsBatchException(MeetingResponse.INVALID_BATCH, errors.entrySet()
+                        .stream()
+                        .map(error -> ItemError.of(error.getKey(), error.getValue()))
+                        .toList());
+            }
+            val meetings = requests.stream()
+                    .map(request -> Meeting
+                            .builder()
+                            .description(request.description())
+                            .host(host)
+                            .title(request.title())
+                            .startDate(request.startDate())
+                            .endDate(request.endDate())
+                            .roomId(request.roomId())
+                            .build())
+                    .toList();
+            val inserted = List.copyOf(mongoTemplate.insertAll(meetings));
+            inserted.forEach(meetingIndex::put);
+            return Optional.of(inserted);
+        };
+        Consumer<List<Meeting>> undo = inserted -> {
+            mongoTemplate.remove(Query.query(Criteria.where("id").in(inserted.stream().map(Meeting::getId).toList())), Meeting.class);
+            inserted.forEach(meetingIndex::remove);
+        };
+        val created = roomLocks.withRooms(ranges.keySet(), () -> slotClaims.isEnabled()
+                ? claimAll(attempt, undo)
+                : optimisticBooking.book(ranges.keySet(), attempt, undo).orElseThrow());
+        created.forEach(meetingScheduler::register);
+        return created;
+    }
+
+    private List<Meeting> claimAll(Supplier<Optional<List<Meeting>>> attempt, Consumer<List<Meeting>> undo) {
+        val inserted = attempt.get().orElseThrow();
+        val taken = slotClaims.claim(inserted.stream().map(SlotClaims.Claim::of).toList());
+        if (!taken.isEmpty()) {
+            undo.accept(inserted);
+            throw new MeetingRoomsBatchException(MeetingResponse.INVALID_BATCH, taken.stream()
+                    .sorted()
+                    .map(index -> ItemError.of(index, RoomResponse.UNAVAILABLE))
+                    .toList());
+        }
+        return inserted;
+    }
+
+    private Map<UUID, List<OverlapSweep.Range>> storedRanges(Map<UUID, List<OverlapSweep.Range>> requested) {
+        if (requested.isEmpty()) {
+            return Map.of();
+        }
+        val ranges = requested.values().stream().flatMap(List::stream).toList();
+        val start = ranges.stream().map(OverlapSweep.Range::start).min(Comparator.naturalOrder()).orElseThrow();
+        val end = ranges.stream().map(OverlapSweep.Range::end).max(Comparator.naturalOrder()).orElseThrow();
+        val stored = new HashMap<UUID, List<OverlapSweep.Range>>();
+        try (val meetings = meetingRepository.findAllOverlapping(requested.keySet(), ACTIVE_STATES, start, end)) {
+            meetings.forEach(meeting -> stored.computeIfAbsent(meeting.getRoomId(), roomId -> new ArrayList<>())
+                    .add(new OverlapSweep.Range(-1, meeting.getStartDate(), meeting.getEndDate())));
+        }
+        try (val occurrences = seriesOverlapping(requested.keySet(), start, end)) {
+            occurrences.forEach(occurrence -> stored.computeIfAbsent(occurrence.getKey(), roomId -> new ArrayList<>())
+                    .add(new OverlapSweep.Range(-1, occurrence.getValue().startDate(), occurrence.getValue().endDate())));
+        }
+        return stored;
     }
 
     public Optional<Meeting> get(UUID id) {
@@ -77,17 +262,14 @@ public class MeetingService {
     }
 
     @Transactional
-    protected void start(Meeting meeting) {
-        updateState(meeting, Meeting.State.IN_PROGRESS);
-        val room = roomService.get(meeting.getRoomId()).orElseThrow();
-        roomService.updateAvailable(room, false);
+    protected void start(List<Meeting> meetings) {
+        transition(meetings, Meeting.State.CREATED, Meeting.State.IN_PROGRESS, "startDate", Meeting::getStartDate);
     }
 
     @Transactional
-    protected void end(Meeting meeting) {
-        updateState(meeting, Meeting.State.ENDED);
-        val room = roomService.get(meeting.getRoomId()).orElseThrow();
-        roomService.updateAvailable(room, true);
+    protected void end(List<Meeting> meetings) {
+        val ended = transition(meetings, Meeting.State.IN_PROGRESS, Meeting.State.ENDED, "endDate", Meeting::getEndDate);
+        slotClaims.release(ended.stream().map(Meeting::getId).toList());
     }
 
     @Transactional
@@ -101,35 +283,61 @@ public class MeetingService {
                 .anyMatch(state -> state.equals(meeting.getState()));
     }
 
+    /**
+     * The {@link MeetingIndex} can only reject: it learns of other nodes' bookings late.
+     */
     public Boolean hasMeeting(Room room, LocalDateTime start, LocalDateTime end) {
-        return getMeetings(Meeting.State.CREATED, Meeting.State.IN_PROGRESS)
-                .filter(meeting -> meeting.getRoomId().equals(room.getId()))
-                .anyMatch(meeting -> {
-                    val startDate = meeting.getStartDate();
-                    val endDate = meeting.getEndDate();
-                    return !(end.isBefore(startDate) || start.isAfter(endDate));
-                });
+        return hasIndexedMeeting(room.getId(), start, end) || hasStoredMeeting(room.getId(), start, end);
+    }
+
+    private boolean hasIndexedMeeting(UUID roomId, LocalDateTime start, LocalDateTime end) {
+        if (!meetingIndex.isReady()) {
+            return false;
+        }
+        val sample = Timer.start(meterRegistry);
+        val overlap = meetingIndex.hasOverlap(roomId, start, end);
+        sample.stop(meterRegistry.timer(CONFLICT_CHECK, "source", "index"));
+        return overlap;
+    }
+
+    private boolean hasStoredMeeting(UUID roomId, LocalDateTime start, LocalDateTime end) {
+        return hasStoredMeeting(roomId, null, start, end);
+    }
+
+    private boolean hasStoredMeeting(UUID roomId, @Nullable UUID excluded, LocalDateTime start, LocalDateTime end) {
+        val sample = Timer.start(meterRegistry);
+        var overlap = Objects.isNull(excluded)
+                ? meetingRepository.existsOverlapping(roomId, ACTIVE_STATES, start, end)
+                : meetingRepository.existsOverlappingOther(excluded, roomId, ACTIVE_STATES, start, end);
+        if (!overlap) {
+            try (val occurrences = seriesOverlapping(List.of(roomId), start, end)) {
+                overlap = occurrences.findAny().isPresent();
+            }
+        }
+        sample.stop(meterRegistry.timer(CONFLICT_CHECK, "source", "database"));
+        return overlap;
     }
 
     public Page<Meeting> getMeetings(UUID host, MeetingFilter filter, Pageable pageable) {
-        val query = new Query();
-        val endDateFilter = filter.endDate();
-        val startDateFilter = filter.startDate();
-        val states = filter.states();
-        query.addCriteria(Criteria.where("host").is(host));
-        if (Objects.nonNull(endDateFilter) && Objects.nonNull(startDateFilter)) {
-            query.addCriteria(new Criteria().andOperator(
-                    Criteria.where("startDate").lte(endDateFilter),
-                    Criteria.where("endDate").gte(startDateFilter))
-            );
-        }
-        if (Objects.nonNull(states)) {
-            query.addCriteria(Criteria.where("state").in(Arrays.asList(states)));
-        }
-        val meetings = mongoTemplate.find(query, Meeting.class);
-        val start = (int) pageable.getOffset();
-        val end = Math.min((start + pageable.getPageSize()), meetings.size());
-        return new PageImpl<>(meetings.subList(start, end), pageable, meetings.size());
+        val query = MeetingQueries.query(host, filter);
+        val meetings = mongoTemplate.find(Query.of(query).with(pageable), Meeting.class);
+        return PageableExecutionUtils.getPage(meetings, pageable, () -> mongoTemplate.count(query, Meeting.class));
+    }
+
+    public Slice<Meeting> getMeetingsSlice(UUID host, MeetingFilter filter, Pageable pageable) {
+        val query = MeetingQueries.query(host, filter).with(pageable);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(mongoTemplate.find(query, Meeting.class), pageable, false);
+        }
+        val meetings = mongoTemplate.find(query.limit(pageable.getPageSize() + 1), Meeting.class);
+        val hasNext = meetings.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? meetings.subList(0, pageable.getPageSize()) : meetings, pageable, hasNext);
+    }
+
+    public CursorPage<Meeting> getMeetingsAfter(UUID host, MeetingFilter filter, @Nullable Cursor after, int size) {
+        val limit = CursorPage.size(size);
+        val meetings = mongoTemplate.find(MeetingQueries.query(host, filter, after).limit(limit + 1), Meeting.class);
+        return CursorPage.of(meetings, limit, meeting -> new Cursor(meeting.getStartDate().toString(), meeting.getId()));
     }
 
     public Stream<Meeting> getMeetings(Meeting.State... includedStates) {
@@ -137,27 +345,166 @@ public class MeetingService {
     }
 
     @Transactional
-    public Meeting updateTitle(@NonNull Meeting meeting, @NonNull String title) {
-        meeting.setTitle(title);
-        return meetingRepository.save(meeting);
+    public Meeting updateTitle(@NonNull UUID id, @NonNull UUID host, @NonNull String title) {
+        return update(id, host, Update.update("title", title));
     }
 
     @Transactional
-    public Meeting updateDescription(@NonNull Meeting meeting, @Nullable String description) {
-        meeting.setDescription(description);
-        return meetingRepository.save(meeting);
+    public Meeting updateDescription(@NonNull UUID id, @NonNull UUID host, @Nullable String description) {
+        return update(id, host, describe(new Update(), description));
     }
 
     @Transactional
     public Meeting updateDuration(@NonNull Meeting meeting, @NonNull LocalDateTime start, @NonNull LocalDateTime end) {
-        meeting.setStartDate(start);
-        meeting.setEndDate(end);
-        return meetingRepository.save(meeting);
+        return reschedule(meeting, start, end, new Update());
+    }
+
+    @Transactional
+    public Meeting patch(@NonNull Meeting meeting, @NonNull MeetingPatchRequest patch) {
+        val update = new Update();
+        Optional.ofNullable(MergePatch.required(patch.getTitle(), MeetingResponse.INVALID_PATCH))
+                .ifPresent(title -> update.set("title", title));
+        Optional.ofNullable(patch.getDescription())
+                .ifPresent(description -> describe(update, description.orElse(null)));
+        val startDate = MergePatch.required(patch.getStartDate(), MeetingResponse.INVALID_PATCH);
+        val endDate = MergePatch.required(patch.getEndDate(), MeetingResponse.INVALID_PATCH);
+        if (Objects.isNull(startDate) && Objects.isNull(endDate)) {
+            return update.getUpdateObject().isEmpty() ? meeting : update(meeting.getId(), meeting.getHost(), update);
+        }
+        if (!Meeting.State.CREATED.equals(meeting.getState())) {
+            throw new MeetingRoomsException(MeetingResponse.INVALID_STATE);
+        }
+        val start = Objects.requireNonNullElse(startDate, meeting.getStartDate());
+        val end = Objects.requireNonNullElse(endDate, meeting.getEndDate());
+        return reschedule(meeting, start, end, update);
+    }
+
+    private static Update describe(Update update, @Nullable String description) {
+        return Objects.isNull(description) ? update.unset("description") : update.set("description", description);
+    }
+
+    private Meeting update(UUID id, UUID host, Update update) {
+        val meeting = mongoTemplate.findAndModify(Query.query(Criteria.where("id").is(id).and("host").is(host)), update,
+                FindAndModifyOptions.options().returnNew(true), Meeting.class);
+        if (Objects.nonNull(meeting)) {
+            return meeting;
+        }
+        throw new MeetingRoomsException(get(id).isPresent() ? MeetingResponse.INSUFFICIENT_PRIVILEGES : MeetingResponse.NOT_FOUND);
+    }
+
+    /**
+     * Checks and writes the move as {@link #book} does; the undo restores the fields it changed.
+     */
+    private Meeting reschedule(Meeting meeting, LocalDateTime start, LocalDateTime end, Update update) {
+        if (start.isAfter(end)) {
+            throw new MeetingRoomsException(MeetingResponse.INVALID_TIME_RANGE);
+        }
+        update.set("startDate", start).set("endDate", end);
+        Supplier<Optional<Meeting>> attempt = () -> hasStoredMeeting(meeting.getRoomId(), meeting.getId(), start, end)
+                ? Optional.empty()
+                : Optional.of(move(meeting.getId(), update));
+        Consumer<Meeting> undo = moved -> mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(meeting.getId())),
+                restore(meeting, update), Meeting.class);
+        return roomLocks.withRoom(meeting.getRoomId(), () -> {
+            val room = roomService.get(meeting.getRoomId())
+                    .orElseThrow(() -> new MeetingRoomsException(RoomResponse.NOT_FOUND));
+            if (!roomService.isTimeRangeSupported(room, start, end)) {
+                throw new MeetingRoomsException(MeetingResponse.INVALID_TIME_RANGE);
+            }
+            val moved = (slotClaims.isEnabled()
+                    ? attempt.get().filter(written -> {
+                        if (slotClaims.move(SlotClaims.Claim.of(written))) {
+                            return true;
+                        }
+                        undo.accept(written);
+                        return false;
+                    })
+                    : optimisticBooking.book(List.of(room.getId()), attempt, undo))
+                    .orElseThrow(() -> new MeetingRoomsException(RoomResponse.UNAVAILABLE));
+            meetingIndex.put(moved);
+            meetingScheduler.register(moved);
+            return moved;
+        });
+    }
+
+    private Meeting move(UUID id, Update update) {
+        val moved = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("id").is(id).and("state").is(Meeting.State.CREATED)), update,
+                FindAndModifyOptions.options().returnNew(true), Meeting.class);
+        if (Objects.isNull(moved)) {
+            throw new MeetingRoomsException(MeetingResponse.INVALID_STATE);
+        }
+        return moved;
+    }
+
+    private static Update restore(Meeting meeting, Update update) {
+        val restored = Update.update("startDate", meeting.getStartDate()).set("endDate", meeting.getEndDate());
+        if (update.modifies("title")) {
+            restored.set("title", meeting.getTitle());
+        }
+        return update.modifies("description") ? describe(restored, meeting.getDescription()) : restored;
+    }
+
+    private List<Meeting> dueMeetings(List<UUID> ids,
+                                      Meeting.State state,
+                                      Function<Meeting, LocalDateTime> dueDate) {
+        val now = LocalDateTime.now();
+        val due = new ArrayList<Meeting>();
+        meetingRepository.findAllById(ids).forEach(meeting -> {
+            if (!state.equals(meeting.getState())) {
+                return;
+            }
+            if (dueDate.apply(meeting).isAfter(now)) {
+                meetingScheduler.register(meeting);
+                return;
+            }
+            due.add(meeting);
+        });
+        return due;
+    }
+
+    /**
+     * Only the meetings read back in the new state, not cancelled or moved meanwhile, are changed in memory.
+     */
+    private List<Meeting> transition(List<Meeting> meetings,
+                                     Meeting.State from,
+                                     Meeting.State to,
+                                     String dueField,
+                                     Function<Meeting, LocalDateTime> dueDate) {
+        if (meetings.isEmpty()) {
+            return List.of();
+        }
+        val sample = Timer.start(meterRegistry);
+        val now = LocalDateTime.now();
+        val meetingIds = meetings.stream().map(Meeting::getId).toList();
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Meeting.class)
+                .updateMulti(Query.query(Criteria.where("id").in(meetingIds).and("state").is(from).and(dueField).lte(now)),
+                        Update.update("state", to))
+                .execute();
+        val changedIds = new HashSet<>(mongoTemplate.findDistinct(
+                Query.query(Criteria.where("id").in(meetingIds).and("state").is(to)), "id", Meeting.class, UUID.class));
+        val changed = meetings.stream().filter(meeting -> changedIds.contains(meeting.getId())).toList();
+        changed.forEach(meeting -> {
+            meeting.setState(to);
+            meetingIndex.put(meeting);
+            meetingScheduler.register(meeting);
+        });
+        val state = to.name().toLowerCase();
+        sample.stop(meterRegistry.timer("meeting.transition.batch.duration", "state", state));
+        meterRegistry.summary("meeting.transition.batch.size", "state", state).record(changed.size());
+        val lag = meterRegistry.timer("meeting.transition.lag", "state", state);
+        changed.forEach(meeting -> lag.record(Duration.between(dueDate.apply(meeting), now)));
+        return changed;
     }
 
     @Transactional
     protected void updateState(@NonNull Meeting meeting, @NonNull Meeting.State state) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(meeting.getId())), Update.update("state", state), Meeting.class);
         meeting.setState(state);
-        meetingRepository.save(meeting);
+        meetingIndex.put(meeting);
+        meetingScheduler.register(meeting);
+        if (!ACTIVE_STATES.contains(state)) {
+            slotClaims.release(List.of(meeting.getId()));
+        }
     }
 }
\ No newline at end of file
@@ -1,14 +1,30 @@
 package com.gitlab.walneyalves.meeting_rooms.service;
 
+import com.gitlab.walneyalves.meeting_rooms.configuration.CacheConfiguration;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MergePatch;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.ResourcePatchRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.ResourceResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
 import com.gitlab.walneyalves.meeting_rooms.model.Resource;
 import com.gitlab.walneyalves.meeting_rooms.repository.ResourceRepository;
+import com.gitlab.walneyalves.meeting_rooms.service.room.RoomResourceTypes;
 import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,8 +32,14 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ResourceService {
 
+    private final MongoTemplate mongoTemplate;
+
     private final ResourceRepository resourceRepository;
 
+    private final RoomResourceTypes roomResourceTypes;
+
+    private final CacheManager cacheManager;
+
     @Transactional
     public Resource create(@NonNull Resource.ResourceBuilder builder) {
         return resourceRepository.save(builder.build());
@@ -31,20 +53,52 @@ public class ResourceService {
         return resourceRepository.findAll(pageable);
     }
 
+    public List<Resource> getAll(@NonNull Collection<UUID> ids) {
+        return ids.isEmpty() ? List.of() : resourceRepository.findAllById(ids);
+    }
+
     @Transactional
-    public Resource updateName(@NonNull Resource resource, @NonNull String name) {
-        resource.setName(name);
-        return resourceRepository.save(resource);
+    public Resource updateName(@NonNull UUID id, @NonNull String name) {
+        return update(id, name, null);
     }
 
     @Transactional
-    public Resource updateType(@NonNull Resource resource, @NonNull Resource.Type type) {
-        resource.setType(type);
-        return resourceRepository.save(resource);
+    public Resource updateType(@NonNull UUID id, @NonNull Resource.Type type) {
+        return update(id, null, type);
+    }
+
+    @Transactional
+    public Resource patch(@NonNull UUID id, @NonNull ResourcePatchRequest patch) {
+        return update(id,
+                MergePatch.required(patch.getName(), ResourceResponse.INVALID_PATCH),
+                MergePatch.required(patch.getType(), ResourceResponse.INVALID_PATCH));
+    }
+
+    /**
+     * Returns the resource as it was, which tells whether the type changed.
+     */
+    private Resource update(UUID id, @Nullable String name, @Nullable Resource.Type type) {
+        val update = new Update();
+        Optional.ofNullable(name).ifPresent(value -> update.set("name", value));
+        Optional.ofNullable(type).ifPresent(value -> update.set("type", value));
+        if (update.getUpdateObject().isEmpty()) {
+            return get(id).orElseThrow(() -> new MeetingRoomsException(ResourceResponse.NOT_FOUND));
+        }
+        val resource = Optional.ofNullable(mongoTemplate.findAndModify(Query.query(Criteria.where("id").is(id)), update, Resource.class))
+                .orElseThrow(() -> new MeetingRoomsException(ResourceResponse.NOT_FOUND));
+        Optional.ofNullable(cacheManager.getCache(CacheConfiguration.RESOURCES)).ifPresent(cache -> cache.evict(id));
+        val typeChanged = Objects.nonNull(type) && resource.getType() != type;
+        Optional.ofNullable(name).ifPresent(resource::setName);
+        Optional.ofNullable(type).ifPresent(resource::setType);
+        if (typeChanged) {
+            roomResourceTypes.refreshByResource(id);
+        }
+        return resource;
     }
 
     @Transactional
     public void delete(@NonNull Resource resource) {
         resourceRepository.deleteById(resource.getId());
+        roomResourceTypes.refreshByResource(resource.getId());
     }
 }
\ No newline at end of file
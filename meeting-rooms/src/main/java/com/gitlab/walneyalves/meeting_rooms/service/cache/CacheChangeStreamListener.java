@@ -0,0 +1,250 @@
+package com.gitlab.walneyalves.meeting_rooms.service.cache;
+
+import com.gitlab.walneyalves.meeting_rooms.configuration.CacheConfiguration;
+import com.gitlab.walneyalves.meeting_rooms.model.Resource;
+import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import com.gitlab.walneyalves.meeting_rooms.model.room.RoomResource;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoException;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.UuidRepresentation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.ChangeStreamOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Evicts this node's cache entries on any node's change, resuming from a checkpointed token after a restart.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "meeting-rooms.cache.change-stream.enabled", havingValue = "true")
+public class CacheChangeStreamListener implements SmartLifecycle {
+
+    public static final String CHECKPOINT_COLLECTION = "changeStreamCheckpoint";
+
+    // ChangeStreamHistoryLost, and ChangeStreamFatalError, raised instead by servers before 4.2.
+    private static final Set<Integer> HISTORY_LOST = Set.of(286, 280);
+
+    private final MongoTemplate mongoTemplate;
+
+    private final CacheManager cacheManager;
+
+    @Value("${meeting-rooms.cache.change-stream.node-id:local}")
+    private String nodeId = "local";
+
+    private volatile MessageListenerContainer container;
+
+    private volatile Subscription subscription;
+
+    private volatile BsonDocument lastToken;
+
+    private volatile BsonDocument savedToken;
+
+    @Nullable
+    private volatile Throwable failure;
+
+    public void onChange(@NonNull Message<ChangeStreamDocument<Document>, Document> message) {
+        val event = message.getRaw();
+        if (Objects.isNull(event)) {
+            return;
+        }
+        switch (event.getOperationType()) {
+            case INVALIDATE, DROP, DROP_DATABASE, RENAME -> clear();
+            default -> evict(event);
+        }
+        if (Objects.nonNull(event.getResumeToken())) {
+            lastToken = event.getResumeToken();
+        }
+    }
+
+    /**
+     * The caches are only cleared when the stream can not be resumed, as the changes in between are lost.
+     */
+    @Scheduled(fixedDelayString = "${meeting-rooms.cache.change-stream.checkpoint-interval:PT1S}")
+    public void checkpoint() {
+        if (!isRunning()) {
+            return;
+        }
+        val error = failure;
+        if (Objects.isNull(error)) {
+            saveToken();
+            return;
+        }
+        failure = null;
+        val token = Optional.ofNullable(lastToken).orElse(savedToken);
+        if (Objects.nonNull(token) && !historyLost(error)) {
+            log.info("Cache change stream of node {} resuming after its last change", nodeId);
+            subscribe(token);
+            return;
+        }
+        log.warn("Cache change stream of node {} could not be resumed, clearing the local caches", nodeId);
+        mongoTemplate.remove(Query.query(Criteria.where("_id").is(nodeId)), CHECKPOINT_COLLECTION);
+        lastToken = null;
+        savedToken = null;
+        clear();
+        subscribe(null);
+    }
+
+    private static boolean historyLost(Throwable error) {
+        for (Throwable cause = error; Objects.nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof MongoException exception && HISTORY_LOST.contains(exception.getCode())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void saveToken() {
+        val token = lastToken;
+        if (Objects.isNull(token) || token.equals(savedToken)) {
+            return;
+        }
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(nodeId)),
+                Update.update("token", token).set("updatedAt", Instant.now()), CHECKPOINT_COLLECTION);
+        savedToken = token;
+    }
+
+    private void evict(ChangeStreamDocument<Document> event) {
+        val collection = Objects.isNull(event.getNamespace()) ? null : event.getNamespace().getCollectionName();
+        if (mongoTemplate.getCollectionName(Room.class).equals(collection)) {
+            evict(CacheConfiguration.ROOMS, id(event.getDocumentKey()));
+        } else if (mongoTemplate.getCollectionName(Resource.class).equals(collection)) {
+            evict(CacheConfiguration.RESOURCES, id(event.getDocumentKey()));
+        } else if (mongoTemplate.getCollectionName(RoomResource.class).equals(collection)
+                && Objects.nonNull(event.getFullDocument())) {
+            // Unlinking a resource only carries the link id; the room itself is rewritten with its new resource types.
+            evict(CacheConfiguration.ROOMS, event.getFullDocument().get("roomId"));
+        }
+    }
+
+    private void evict(String cacheName, @Nullable Object id) {
+        val cache = cacheManager.getCache(cacheName);
+        if (Objects.isNull(cache)) {
+            return;
+        }
+        if (Objects.isNull(id)) {
+            cache.clear();
+            return;
+        }
+        cache.evict(id);
+    }
+
+    private void clear() {
+        cacheManager.getCacheNames()
+                .stream()
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .forEach(Cache::clear);
+    }
+
+    @Nullable
+    private static UUID id(@Nullable BsonDocument documentKey) {
+        val id = Optional.ofNullable(documentKey).map(key -> key.get("_id")).orElse(null);
+        if (Objects.isNull(id) || !id.isBinary()) {
+            return null;
+        }
+        return uuid(id.asBinary());
+    }
+
+    @Nullable
+    private static UUID uuid(BsonBinary binary) {
+        if (binary.getType() == BsonBinarySubType.UUID_STANDARD.getValue()) {
+            return binary.asUuid();
+        }
+        if (binary.getType() == BsonBinarySubType.UUID_LEGACY.getValue()) {
+            return binary.asUuid(UuidRepresentation.JAVA_LEGACY);
+        }
+        return null;
+    }
+
+    private void subscribe(@Nullable BsonValue resumeToken) {
+        val current = subscription;
+        if (Objects.nonNull(current)) {
+            container.remove(current);
+        }
+        val collections = List.of(
+                mongoTemplate.getCollectionName(Room.class),
+                mongoTemplate.getCollectionName(Resource.class),
+                mongoTemplate.getCollectionName(RoomResource.class));
+        val options = ChangeStreamOptions.builder()
+                .filter(Aggregation.newAggregation(Aggregation.match(Criteria.where("ns.coll").in(collections))));
+        if (Objects.nonNull(resumeToken)) {
+            options.resumeAfter(resumeToken);
+        }
+        // No collection name: a single database-wide stream, so one resume token covers the three collections.
+        val request = new ChangeStreamRequest<>(this::onChange,
+                new ChangeStreamRequest.ChangeStreamRequestOptions(mongoTemplate.getDb().getName(), null, options.build()));
+        subscription = container.register(request, Document.class, error -> {
+            log.warn("Cache change stream of node {} failed", nodeId, error);
+            failure = error;
+        });
+    }
+
+    @Nullable
+    private BsonDocument loadToken() {
+        val checkpoint = mongoTemplate.findById(nodeId, Document.class, CHECKPOINT_COLLECTION);
+        if (Objects.isNull(checkpoint) || !(checkpoint.get("token") instanceof Document token)) {
+            return null;
+        }
+        return token.toBsonDocument(Document.class, MongoClientSettings.getDefaultCodecRegistry());
+    }
+
+    @Override
+    public void start() {
+        container = new DefaultMessageListenerContainer(mongoTemplate);
+        container.start();
+        val token = loadToken();
+        savedToken = token;
+        subscribe(token);
+        log.info("Cache change stream of node {} started {}", nodeId, Objects.isNull(token) ? "from now" : "from checkpoint");
+    }
+
+    @Override
+    public void stop() {
+        val current = container;
+        if (Objects.nonNull(current)) {
+            current.stop();
+        }
+        container = null;
+        subscription = null;
+        saveToken();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return Objects.nonNull(container) && container.isRunning();
+    }
+}
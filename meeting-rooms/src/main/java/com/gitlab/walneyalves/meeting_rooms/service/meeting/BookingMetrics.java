@@ -0,0 +1,47 @@
+package com.gitlab.walneyalves.meeting_rooms.service.meeting;
+
+import com.gitlab.walneyalves.meeting_rooms.domain.response.ResponseCode;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times bookings tagged by outcome, so a latency spike can be told from a burst of conflicts.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingMetrics {
+
+    public static final String BOOKING = "meeting.booking";
+
+    private final MeterRegistry meterRegistry;
+
+    public Booking start() {
+        return new Booking(Timer.start(meterRegistry));
+    }
+
+    public enum Outcome {
+        CREATED, CONFLICT, INVALID_RANGE, UNAVAILABLE, NOT_FOUND
+    }
+
+    @RequiredArgsConstructor
+    public final class Booking {
+
+        private final Timer.Sample sample;
+
+        public void created() {
+            stop(Outcome.CREATED);
+        }
+
+        public MeetingRoomsException rejected(Outcome outcome, ResponseCode code) {
+            stop(outcome);
+            return new MeetingRoomsException(code);
+        }
+
+        private void stop(Outcome outcome) {
+            sample.stop(meterRegistry.timer(BOOKING, "outcome", outcome.name().toLowerCase()));
+        }
+    }
+}
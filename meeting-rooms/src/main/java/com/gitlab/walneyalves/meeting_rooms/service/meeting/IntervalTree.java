@@ -0,0 +1,152 @@
+package com.gitlab.walneyalves.meeting_rooms.service.meeting;
+
+import lombok.val;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Treap of closed ranges ordered by start, each node holding the latest end of its subtree. Not thread safe.
+ */
+final class IntervalTree {
+
+    private static final Comparator<Node> ORDER = Comparator
+            .comparing((Node node) -> node.start)
+            .thenComparing(node -> node.id);
+
+    @Nullable
+    private Node root;
+
+    record Search(boolean overlap, int compared) { }
+
+    void add(UUID id, LocalDateTime start, LocalDateTime end) {
+        root = add(root, new Node(id, start, end, ThreadLocalRandom.current().nextInt()));
+    }
+
+    void remove(UUID id, LocalDateTime start) {
+        root = remove(root, new Node(id, start, start, 0));
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    Search search(LocalDateTime start, LocalDateTime end) {
+        var compared = 0;
+        var node = root;
+        while (node != null && !node.maxEnd.isBefore(start)) {
+            compared++;
+            if (!node.start.isAfter(end) && !node.end.isBefore(start)) {
+                return new Search(true, compared);
+            }
+            node = node.left != null && !node.left.maxEnd.isBefore(start) ? node.left : node.right;
+        }
+        return new Search(false, compared);
+    }
+
+    private static Node add(@Nullable Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (ORDER.compare(added, node) < 0) {
+            node.left = add(node.left, added);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = add(node.right, added);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        return node.update();
+    }
+
+    @Nullable
+    private static Node remove(@Nullable Node node, Node removed) {
+        if (node == null) {
+            return null;
+        }
+        val order = ORDER.compare(removed, node);
+        if (order == 0) {
+            return merge(node.left, node.right);
+        }
+        if (order < 0) {
+            node.left = remove(node.left, removed);
+        } else {
+            node.right = remove(node.right, removed);
+        }
+        return node.update();
+    }
+
+    @Nullable
+    private static Node merge(@Nullable Node left, @Nullable Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return left.update();
+        }
+        right.left = merge(left, right.left);
+        return right.update();
+    }
+
+    private static Node rotateRight(Node node) {
+        val left = node.left;
+        node.left = left.right;
+        left.right = node.update();
+        return left.update();
+    }
+
+    private static Node rotateLeft(Node node) {
+        val right = node.right;
+        node.right = right.left;
+        right.left = node.update();
+        return right.update();
+    }
+
+    private static final class Node {
+
+        private final UUID id;
+
+        private final LocalDateTime start;
+
+        private final LocalDateTime end;
+
+        private final int priority;
+
+        private LocalDateTime maxEnd;
+
+        @Nullable
+        private Node left;
+
+        @Nullable
+        private Node right;
+
+        Node(UUID id, LocalDateTime start, LocalDateTime end, int priority) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        Node update() {
+            maxEnd = end;
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.gitlab.walneyalves.meeting_rooms.service.meeting;
+
+import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries;
+import com.gitlab.walneyalves.meeting_rooms.repository.MeetingRepository;
+import com.gitlab.walneyalves.meeting_rooms.repository.MeetingSeriesRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Active meetings in an {@link IntervalTree} per room, and active series kept whole, for the conflict checks.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingIndex {
+
+    private static final List<Meeting.State> ACTIVE_STATES = List.of(Meeting.State.CREATED, Meeting.State.IN_PROGRESS);
+
+    private final MeetingRepository meetingRepository;
+
+    private final MeetingSeriesRepository meetingSeriesRepository;
+
+    private final MeterRegistry meterRegistry;
+
+    private final RoomLocks roomLocks;
+
+    private final Map<UUID, RoomTimeline> timelines = new ConcurrentHashMap<>();
+
+    @Value("${meeting-rooms.index.enabled:true}")
+    private boolean enabled = true;
+
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        try (val meetings = meetingRepository.findAllByStateIsIn(ACTIVE_STATES)) {
+            meetings.forEach(this::put);
+        }
+        try (val series = meetingSeriesRepository.findAllByStateIsIn(ACTIVE_STATES)) {
+            series.forEach(this::put);
+        }
+        ready = true;
+        log.info("Meeting index loaded with {} active meetings and {} active series", size(), seriesSize());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void put(@NonNull Meeting meeting) {
+        if (!ACTIVE_STATES.contains(meeting.getState())) {
+            remove(meeting);
+            return;
+        }
+        timelines.computeIfAbsent(meeting.getRoomId(), roomId -> new RoomTimeline())
+                .put(new Slot(meeting.getId(), meeting.getStartDate(), meeting.getEndDate()));
+    }
+
+    public void remove(@NonNull Meeting meeting) {
+        val timeline = timelines.get(meeting.getRoomId());
+        if (Objects.nonNull(timeline)) {
+            timeline.remove(meeting.getId());
+        }
+    }
+
+    public void put(@NonNull MeetingSeries series) {
+        if (!ACTIVE_STATES.contains(series.getState())) {
+            remove(series);
+            return;
+        }
+        timelines.computeIfAbsent(series.getRoomId(), roomId -> new RoomTimeline()).put(series);
+    }
+
+    public void remove(@NonNull MeetingSeries series) {
+        val timeline = timelines.get(series.getRoomId());
+        if (Objects.nonNull(timeline)) {
+            timeline.removeSeries(series.getId());
+        }
+    }
+
+    public boolean hasOverlap(@NonNull UUID roomId, @NonNull LocalDateTime start, @NonNull LocalDateTime end) {
+        val timeline = timelines.get(roomId);
+        val scan = Objects.isNull(timeline) ? Scan.NONE : timeline.scan(start, end);
+        meterRegistry.summary("meeting.conflict.scanned").record(scan.scanned());
+        return scan.overlap();
+    }
+
+    public int size() {
+        return timelines.values().stream().mapToInt(RoomTimeline::size).sum();
+    }
+
+    public int seriesSize() {
+        return timelines.values().stream().mapToInt(RoomTimeline::seriesSize).sum();
+    }
+
+    /**
+     * Rebuilds the rooms that diverge from Mongo, read again under their {@link RoomLocks} lock before rebuilding.
+     */
+    @Scheduled(fixedDelayString = "${meeting-rooms.index.verify-interval:PT5M}",
+            initialDelayString = "${meeting-rooms.index.verify-interval:PT5M}")
+    public int verify() {
+        if (!ready) {
+            return 0;
+        }
+        val expected = new HashMap<UUID, Map<UUID, Slot>>();
+        try (val meetings = meetingRepository.findAllByStateIsIn(ACTIVE_STATES)) {
+            meetings.forEach(meeting -> expected
+                    .computeIfAbsent(meeting.getRoomId(), roomId -> new HashMap<>())
+                    .put(meeting.getId(), new Slot(meeting.getId(), meeting.getStartDate(), meeting.getEndDate())));
+        }
+        val expectedSeries = new HashMap<UUID, Map<UUID, MeetingSeries>>();
+        try (val series = meetingSeriesRepository.findAllByStateIsIn(ACTIVE_STATES)) {
+            series.forEach(each -> expectedSeries
+                    .computeIfAbsent(each.getRoomId(), roomId -> new HashMap<>())
+                    .put(each.getId(), each));
+        }
+        var mismatches = 0;
+        val roomIds = new HashSet<UUID>(expected.keySet());
+        roomIds.addAll(expectedSeries.keySet());
+        roomIds.addAll(timelines.keySet());
+        for (val roomId : roomIds) {
+            val timeline = timelines.computeIfAbsent(roomId, id -> new RoomTimeline());
+            if (timeline.diff(expected.getOrDefault(roomId, Map.of()), expectedSeries.getOrDefault(roomId, Map.of())) > 0) {
+                mismatches += roomLocks.withRoom(roomId, () -> rebuild(roomId, timeline));
+            }
+        }
+        meterRegistry.counter("meeting.index.mismatches").increment(mismatches);
+        if (mismatches > 0) {
+            log.warn("Meeting index diverged from the database in {} meetings or series and was rebuilt", mismatches);
+        }
+        return mismatches;
+    }
+
+    private int rebuild(UUID roomId, RoomTimeline timeline) {
+        val stored = new HashMap<UUID, Slot>();
+        try (val meetings = meetingRepository.findAllByRoomIdAndStateIsIn(roomId, ACTIVE_STATES)) {
+            meetings.forEach(meeting -> stored.put(meeting.getId(),
+                    new Slot(meeting.getId(), meeting.getStartDate(), meeting.getEndDate())));
+        }
+        val storedSeries = new HashMap<UUID, MeetingSeries>();
+        try (val series = meetingSeriesRepository.findAllByRoomIdAndStateIsIn(roomId, ACTIVE_STATES)) {
+            series.forEach(each -> storedSeries.put(each.getId(), each));
+        }
+        val diverged = timeline.diff(stored, storedSeries);
+        if (diverged > 0) {
+            timeline.reset(stored.values(), storedSeries.values());
+        }
+        return diverged;
+    }
+
+    private record Slot(UUID id, LocalDateTime start, LocalDateTime end) { }
+
+    private record Pattern(LocalDateTime start, LocalDateTime end, MeetingSeries.Recurrence recurrence, Set<LocalDate> exceptions) {
+
+        static Pattern of(MeetingSeries series) {
+            return Objects.isNull(series) ? null : new Pattern(series.getStartDate(), series.getEndDate(),
+                    series.getRecurrence(), series.getExceptions());
+        }
+    }
+
+    private record Scan(boolean overlap, int scanned) {
+
+        private static final Scan NONE = new Scan(false, 0);
+    }
+
+    private static final class RoomTimeline {
+
+        private final IntervalTree ranges = new IntervalTree();
+
+        private final Map<UUID, Slot> byId = new HashMap<>();
+
+        private final Map<UUID, MeetingSeries> series = new HashMap<>();
+
+        synchronized void put(Slot slot) {
+            if (slot.equals(byId.get(slot.id()))) {
+                return;
+            }
+            remove(slot.id());
+            ranges.add(slot.id(), slot.start(), slot.end());
+            byId.put(slot.id(), slot);
+        }
+
+        synchronized void remove(UUID id) {
+            val slot = byId.remove(id);
+            if (Objects.nonNull(slot)) {
+                ranges.remove(slot.id(), slot.start());
+            }
+        }
+
+        synchronized void put(MeetingSeries each) {
+            series.put(each.getId(), each);
+        }
+
+        synchronized void removeSeries(UUID id) {
+            series.remove(id);
+        }
+
+        synchronized Scan scan(LocalDateTime start, LocalDateTime end) {
+            val search = ranges.search(start, end);
+            var scanned = search.compared();
+            if (search.overlap()) {
+                return new Scan(true, scanned);
+            }
+            for (val each : series.values()) {
+                scanned++;
+                if (Occurrences.overlaps(each, start, end)) {
+                    return new Scan(true, scanned);
+                }
+            }
+            return new Scan(false, scanned);
+        }
+
+        synchronized int size() {
+            return byId.size();
+        }
+
+        synchronized int seriesSize() {
+            return series.size();
+        }
+
+        synchronized int diff(Map<UUID, Slot> stored, Map<UUID, MeetingSeries> storedSeries) {
+            var diverged = (int) byId.keySet().stream().filter(id -> !stored.containsKey(id)).count();
+            for (val slot : stored.values()) {
+                if (!slot.equals(byId.get(slot.id()))) {
+                    diverged++;
+                }
+            }
+            diverged += (int) series.keySet().stream().filter(id -> !storedSeries.containsKey(id)).count();
+            for (val each : storedSeries.values()) {
+                if (!Objects.equals(Pattern.of(each), Pattern.of(series.get(each.getId())))) {
+                    diverged++;
+                }
+            }
+            return diverged;
+        }
+
+        synchronized void reset(Collection<Slot> slots, Collection<MeetingSeries> storedSeries) {
+            ranges.clear();
+            byId.clear();
+            series.clear();
+            slots.forEach(this::put);
+            storedSeries.forEach(this::put);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.gitlab.walneyalves.meeting_rooms.service.meeting;
+
+import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries;
+import com.gitlab.walneyalves.meeting_rooms.repository.MeetingRepository;
+import com.gitlab.walneyalves.meeting_rooms.repository.MeetingSeriesRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps in memory only the transitions due within the lookahead window, refilled from Mongo periodically.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingScheduler implements SmartLifecycle {
+
+    private final MeetingRepository meetingRepository;
+
+    private final MeetingSeriesRepository meetingSeriesRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final MeterRegistry meterRegistry;
+
+    private final DelayQueue<Transition> queue = new DelayQueue<>();
+
+    private final Map<Key, Transition> pending = new ConcurrentHashMap<>();
+
+    @Value("${meeting-rooms.scheduler.lookahead:PT15M}")
+    private Duration lookahead = Duration.ofMinutes(15);
+
+    private volatile LocalDateTime horizon = LocalDateTime.MIN;
+
+    private volatile Thread worker;
+
+    @Scheduled(fixedDelayString = "${meeting-rooms.scheduler.refill-interval:PT5M}")
+    public void refill() {
+        horizon = LocalDateTime.now().plus(lookahead);
+        Consumer<Meeting> meeting = this::register;
+        Consumer<MeetingSeries> series = this::register;
+        val loaded = registerAll(meetingRepository.findAllByStateAndStartDateLessThanEqual(Meeting.State.CREATED, horizon), meeting)
+                + registerAll(meetingRepository.findAllByStateAndEndDateLessThanEqual(Meeting.State.IN_PROGRESS, horizon), meeting)
+                + registerAll(meetingSeriesRepository.findAllByStateAndNextStartDateLessThanEqual(Meeting.State.CREATED, horizon), series)
+                + registerAll(meetingSeriesRepository.findAllByStateAndNextEndDateLessThanEqual(Meeting.State.IN_PROGRESS, horizon), series);
+        meterRegistry.summary("meeting.scheduler.refill.size").record(loaded);
+    }
+
+    /**
+     * Replaces any transition scheduled for the meeting; those beyond the window wait for a {@link #refill()}.
+     */
+    public void register(@NonNull Meeting meeting) {
+        switch (meeting.getState()) {
+            case CREATED -> {
+                pending.remove(new Key(meeting.getId(), MeetingTransitionEvent.Kind.END, false));
+                schedule(new Key(meeting.getId(), MeetingTransitionEvent.Kind.START, false), meeting.getStartDate());
+            }
+            case IN_PROGRESS -> {
+                pending.remove(new Key(meeting.getId(), MeetingTransitionEvent.Kind.START, false));
+                schedule(new Key(meeting.getId(), MeetingTransitionEvent.Kind.END, false), meeting.getEndDate());
+            }
+            default -> unregister(meeting);
+        }
+    }
+
+    public void register(@NonNull MeetingSeries series) {
+        switch (series.getState()) {
+            case CREATED -> {
+                pending.remove(new Key(series.getId(), MeetingTransitionEvent.Kind.END, true));
+                schedule(new Key(series.getId(), MeetingTransitionEvent.Kind.START, true), series.getNextStartDate());
+            }
+            case IN_PROGRESS -> {
+                pending.remove(new Key(series.getId(), MeetingTransitionEvent.Kind.START, true));
+                schedule(new Key(series.getId(), MeetingTransitionEvent.Kind.END, true), series.getNextEndDate());
+            }
+            default -> unregister(series);
+        }
+    }
+
+    private <T> int registerAll(Stream<T> items, Consumer<T> register) {
+        try (items) {
+            var registered = 0;
+            for (val item : (Iterable<T>) items::iterator) {
+                register.accept(item);
+                registered++;
+            }
+            return registered;
+        }
+    }
+
+    public void unregister(@NonNull Meeting meeting) {
+        unregister(meeting.getId(), false);
+    }
+
+    public void unregister(@NonNull MeetingSeries series) {
+        unregister(series.getId(), true);
+    }
+
+    private void unregister(UUID id, boolean series) {
+        for (val kind : MeetingTransitionEvent.Kind.values()) {
+            pending.remove(new Key(id, kind, series));
+        }
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    public int fireDue() {
+        val due = new ArrayList<Transition>();
+        queue.drainTo(due);
+        return publish(due);
+    }
+
+    private void schedule(Key key, @Nullable LocalDateTime due) {
+        if (Objects.isNull(due) || due.isAfter(horizon)) {
+            pending.remove(key);
+            return;
+        }
+        val transition = new Transition(key, due.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        if (!transition.equals(pending.put(key, transition))) {
+            queue.put(transition);
+        }
+    }
+
+    private int publish(List<Transition> due) {
+        val live = due.stream()
+                .filter(transition -> pending.remove(transition.key(), transition))
+                .collect(Collectors.partitioningBy(transition -> transition.key().series(),
+                        Collectors.groupingBy(transition -> transition.key().kind(),
+                                () -> new EnumMap<>(MeetingTransitionEvent.Kind.class),
+                                Collectors.mapping(transition -> transition.key().id(), Collectors.toList()))));
+        live.get(false).forEach((kind, meetingIds) -> eventPublisher.publishEvent(new MeetingTransitionEvent(kind, meetingIds)));
+        live.get(true).forEach((kind, seriesIds) -> eventPublisher.publishEvent(new MeetingSeriesTransitionEvent(kind, seriesIds)));
+        val fired = live.values().stream().flatMap(kinds -> kinds.values().stream()).mapToInt(List::size).sum();
+        if (!due.isEmpty()) {
+            meterRegistry.summary("meeting.scheduler.fired").record(fired);
+        }
+        return fired;
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                val due = new ArrayList<Transition>();
+                due.add(queue.take());
+                queue.drainTo(due);
+                publish(due);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException exception) {
+                log.error("Failed to fire meeting transitions", exception);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        Gauge.builder("meeting.scheduler.pending", pending, Map::size)
+                .description("Transitions waiting in the lookahead window")
+                .register(meterRegistry);
+        worker = Thread.ofVirtual().name("meeting-scheduler").start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        val thread = worker;
+        worker = null;
+        if (Objects.nonNull(thread)) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return Objects.nonNull(worker);
+    }
+
+    private record Key(UUID id, MeetingTransitionEvent.Kind kind, boolean series) { }
+
+    private record Transition(Key key, long dueMillis) implements Delayed {
+
+        @Override
+        public long getDelay(@NonNull TimeUnit unit) {
+            return unit.convert(dueMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(@NonNull Delayed other) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.gitlab.walneyalves.meeting_rooms.service.meeting;
+
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+import java.util.UUID;
+
+public record MeetingSeriesTransitionEvent(@NonNull MeetingTransitionEvent.Kind kind, @NonNull List<UUID> seriesIds) { }
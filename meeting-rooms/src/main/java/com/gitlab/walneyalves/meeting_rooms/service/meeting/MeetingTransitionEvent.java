@@ -0,0 +1,14 @@
+package com.gitlab.walneyalves.meeting_rooms.service.meeting;
+
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+import java.util.UUID;
+
+public record MeetingTransitionEvent(@NonNull Kind kind, @NonNull List<UUID> meetingIds) {
+
+    public enum Kind {
+        START,
+        END,
+    }
+}
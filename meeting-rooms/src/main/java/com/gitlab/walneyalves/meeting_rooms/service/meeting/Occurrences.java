@@ -0,0 +1,78 @@
+package com.gitlab.walneyalves.meeting_rooms.service.meeting;
+
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries;
+import lombok.val;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Occurrences before a window are skipped by arithmetic, so a lookup costs only what the window holds.
+ */
+public final class Occurrences {
+
+    private Occurrences() { }
+
+    public static Stream<Occurrence> between(@NonNull MeetingSeries series,
+                                             @NonNull LocalDateTime from,
+                                             @NonNull LocalDateTime to) {
+        val recurrence = series.getRecurrence();
+        val length = length(series);
+        // The first occurrence that can still end at or after from.
+        val first = Math.max(0, recurrence.frequency().getUnit().between(series.getStartDate(), from.minus(length))
+                / recurrence.interval());
+        return LongStream.iterate(first, index -> index + 1)
+                .takeWhile(index -> Objects.isNull(recurrence.count()) || index < recurrence.count())
+                .mapToObj(index -> occurrence(series.getStartDate(), recurrence, index, length))
+                .takeWhile(occurrence -> !occurrence.startDate().isAfter(to)
+                        && (Objects.isNull(recurrence.until()) || !occurrence.startDate().isAfter(recurrence.until())))
+                .filter(occurrence -> !occurrence.endDate().isBefore(from)
+                        && !series.getExceptions().contains(occurrence.startDate().toLocalDate()));
+    }
+
+    public static boolean overlaps(@NonNull MeetingSeries series, @NonNull LocalDateTime start, @NonNull LocalDateTime end) {
+        return between(series, start, end).findAny().isPresent();
+    }
+
+    public static Optional<Occurrence> next(@NonNull MeetingSeries series, @NonNull LocalDateTime date) {
+        return between(series, date, series.getLastEndDate()).findFirst();
+    }
+
+    public static Optional<Occurrence> after(@NonNull MeetingSeries series, @NonNull LocalDateTime date) {
+        return between(series, date, series.getLastEndDate())
+                .filter(occurrence -> occurrence.startDate().isAfter(date))
+                .findFirst();
+    }
+
+    /**
+     * Counts the skipped occurrences too.
+     */
+    public static long size(@NonNull LocalDateTime start, @NonNull MeetingSeries.Recurrence recurrence) {
+        if (Objects.nonNull(recurrence.count())) {
+            return recurrence.count();
+        }
+        return recurrence.frequency().getUnit().between(start, recurrence.until()) / recurrence.interval() + 1;
+    }
+
+    public static LocalDateTime lastEnd(@NonNull LocalDateTime start,
+                                        @NonNull LocalDateTime end,
+                                        @NonNull MeetingSeries.Recurrence recurrence) {
+        return occurrence(start, recurrence, size(start, recurrence) - 1, Duration.between(start, end)).endDate();
+    }
+
+    private static Occurrence occurrence(LocalDateTime first, MeetingSeries.Recurrence recurrence, long index, Duration length) {
+        val start = first.plus(index * recurrence.interval(), recurrence.frequency().getUnit());
+        return new Occurrence(start, start.plus(length));
+    }
+
+    private static Duration length(MeetingSeries series) {
+        return Duration.between(series.getStartDate(), series.getEndDate());
+    }
+
+    public record Occurrence(@NonNull LocalDateTime startDate, @NonNull LocalDateTime endDate) { }
+}
@@ -0,0 +1,81 @@
+package com.gitlab.walneyalves.meeting_rooms.service.meeting;
+
+import com.gitlab.walneyalves.meeting_rooms.domain.response.MeetingResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
+import com.gitlab.walneyalves.meeting_rooms.model.room.RoomBookingVersion;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Undoes and retries a write when the booking version of its rooms moved meanwhile; the check must read Mongo.
+ */
+@Component
+@RequiredArgsConstructor
+public class OptimisticBooking {
+
+    private final MongoTemplate mongoTemplate;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${meeting-rooms.booking.max-retries:5}")
+    private int maxRetries = 5;
+
+    public <T> Optional<T> book(@NonNull Collection<UUID> roomIds,
+                                @NonNull Supplier<Optional<T>> attempt,
+                                @NonNull Consumer<T> undo) {
+        for (var retries = 0; ; retries++) {
+            val versions = versions(roomIds);
+            val written = attempt.get();
+            if (written.isEmpty() || versions.entrySet().stream().allMatch(version -> claim(version.getKey(), version.getValue()))) {
+                meterRegistry.summary("meeting.booking.retries").record(retries);
+                return written;
+            }
+            undo.accept(written.get());
+            meterRegistry.counter("meeting.booking.conflicts").increment();
+            if (retries == maxRetries) {
+                meterRegistry.summary("meeting.booking.retries").record(retries);
+                throw new MeetingRoomsException(MeetingResponse.BOOKING_CONTENDED);
+            }
+        }
+    }
+
+    private Map<UUID, Long> versions(Collection<UUID> roomIds) {
+        val versions = new HashMap<UUID, Long>();
+        roomIds.forEach(roomId -> versions.put(roomId, 0L));
+        mongoTemplate.find(Query.query(Criteria.where("roomId").in(roomIds)), RoomBookingVersion.class)
+                .forEach(version -> versions.put(version.getRoomId(), version.getVersion()));
+        return versions;
+    }
+
+    private boolean claim(UUID roomId, long version) {
+        try {
+            val claimed = mongoTemplate.findAndModify(
+                    Query.query(Criteria.where("roomId").is(roomId).and("version").is(version)),
+                    new Update().inc("version", 1),
+                    FindAndModifyOptions.options().upsert(true).returnNew(true),
+                    RoomBookingVersion.class);
+            return Objects.nonNull(claimed);
+        } catch (DuplicateKeyException exception) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.gitlab.walneyalves.meeting_rooms.service.meeting;
+
+import lombok.val;
+import org.springframework.lang.NonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * One pass over the ranges of a room ordered by start, finding the requested ones that overlap.
+ */
+public final class OverlapSweep {
+
+    private OverlapSweep() { }
+
+    /**
+     * A stored overlap wins over a requested one.
+     */
+    public static Map<Integer, Overlap> overlaps(@NonNull Collection<Range> requested, @NonNull Collection<Range> stored) {
+        val events = new ArrayList<Event>(requested.size() + stored.size());
+        requested.forEach(range -> events.add(new Event(range, false)));
+        stored.forEach(range -> events.add(new Event(range, true)));
+        events.sort(Comparator.comparing(event -> event.range().start()));
+        val overlaps = new HashMap<Integer, Overlap>();
+        // Requested ranges that may still overlap a later one, the earliest ending first.
+        val open = new PriorityQueue<Range>(Comparator.comparing(Range::end));
+        LocalDateTime storedEnd = null;
+        for (val event : events) {
+            val range = event.range();
+            while (!open.isEmpty() && open.peek().end().isBefore(range.start())) {
+                open.poll();
+            }
+            if (event.stored()) {
+                open.forEach(overlapping -> overlaps.put(overlapping.index(), Overlap.STORED));
+                storedEnd = Objects.isNull(storedEnd) || range.end().isAfter(storedEnd) ? range.end() : storedEnd;
+                continue;
+            }
+            if (Objects.nonNull(storedEnd) && !storedEnd.isBefore(range.start())) {
+                overlaps.put(range.index(), Overlap.STORED);
+            }
+            if (!open.isEmpty()) {
+                overlaps.putIfAbsent(range.index(), Overlap.REQUESTED);
+                open.forEach(overlapping -> overlaps.putIfAbsent(overlapping.index(), Overlap.REQUESTED));
+            }
+            open.add(range);
+        }
+        return overlaps;
+    }
+
+    public enum Overlap {
+        STORED,
+        REQUESTED,
+    }
+
+    public record Range(int index, @NonNull LocalDateTime start, @NonNull LocalDateTime end) { }
+
+    private record Event(Range range, boolean stored) { }
+}
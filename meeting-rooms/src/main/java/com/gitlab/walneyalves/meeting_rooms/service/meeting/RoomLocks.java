@@ -0,0 +1,76 @@
+package com.gitlab.walneyalves.meeting_rooms.service.meeting;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.val;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Striped {@link ReentrantLock}s serializing the bookings of a room on this node; they do not pin virtual threads.
+ */
+@Component
+public class RoomLocks {
+
+    public static final int STRIPES = 1024;
+
+    public static final String LOCK_WAIT = "meeting.booking.lock.wait";
+
+    private final ReentrantLock[] stripes = Stream.generate(ReentrantLock::new).limit(STRIPES).toArray(ReentrantLock[]::new);
+
+    private final Timer lockWait;
+
+    public RoomLocks(MeterRegistry meterRegistry) {
+        this.lockWait = meterRegistry.timer(LOCK_WAIT);
+    }
+
+    public <T> T withRoom(@NonNull UUID roomId, @NonNull Supplier<T> action) {
+        val lock = stripes[stripe(roomId)];
+        lock(lock);
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stripes are taken in ascending order, so batches sharing rooms can not deadlock.
+     */
+    public <T> T withRooms(@NonNull Collection<UUID> roomIds, @NonNull Supplier<T> action) {
+        val held = roomIds.stream().mapToInt(RoomLocks::stripe).distinct().sorted().toArray();
+        var locked = 0;
+        try {
+            for (; locked < held.length; locked++) {
+                lock(stripes[held[locked]]);
+            }
+            return action.get();
+        } finally {
+            while (locked > 0) {
+                stripes[held[--locked]].unlock();
+            }
+        }
+    }
+
+    private void lock(ReentrantLock lock) {
+        if (lock.tryLock()) {
+            lockWait.record(0, TimeUnit.NANOSECONDS);
+            return;
+        }
+        val waiting = System.nanoTime();
+        lock.lock();
+        lockWait.record(System.nanoTime() - waiting, TimeUnit.NANOSECONDS);
+    }
+
+    private static int stripe(UUID roomId) {
+        val hash = roomId.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+}
@@ -0,0 +1,232 @@
+package com.gitlab.walneyalves.meeting_rooms.service.meeting;
+
+import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries;
+import com.gitlab.walneyalves.meeting_rooms.model.room.SlotClaim;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Books by claiming each slot a range touches under a unique index; {@link #backfill()} claims older bookings.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlotClaims implements SmartInitializingSingleton {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private static final int BACKFILL_BATCH = 1000;
+
+    private static final List<Meeting.State> ACTIVE_STATES = List.of(Meeting.State.CREATED, Meeting.State.IN_PROGRESS);
+
+    private final MongoTemplate mongoTemplate;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${meeting-rooms.booking.slot-claims.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${meeting-rooms.booking.slot-claims.slot:PT15M}")
+    private Duration slot = Duration.ofMinutes(15);
+
+    public record Claim(UUID ownerId, UUID roomId, LocalDateTime start, LocalDateTime end) {
+
+        public static Claim of(Meeting meeting) {
+            return new Claim(meeting.getId(), meeting.getRoomId(), meeting.getStartDate(), meeting.getEndDate());
+        }
+    }
+
+    @PostConstruct
+    void checkSlot() {
+        if (!slot.isPositive() || Duration.ofDays(1).toNanos() % slot.toNanos() != 0) {
+            throw new IllegalStateException("meeting-rooms.booking.slot-claims.slot must divide a day: " + slot);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (enabled) {
+            backfill();
+        }
+    }
+
+    /**
+     * Claims the slots of every active meeting and series, leaving those already held, so it can run again.
+     */
+    public int backfill() {
+        val indexOperations = mongoTemplate.indexOps(SlotClaim.class);
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(SlotClaim.class)
+                .forEach(indexOperations::ensureIndex);
+        val now = LocalDateTime.now();
+        val active = Query.query(Criteria.where("state").in(ACTIVE_STATES));
+        var claimed = 0;
+        try (val meetings = mongoTemplate.stream(active, Meeting.class);
+             val series = mongoTemplate.stream(active, MeetingSeries.class)) {
+            val slots = Stream.concat(meetings.map(Claim::of), series.flatMap(each -> Occurrences
+                            .between(each, now, each.getLastEndDate())
+                            .map(occurrence -> new Claim(each.getId(), each.getRoomId(), occurrence.startDate(), occurrence.endDate()))))
+                    .flatMap(claim -> slots(claim.start(), claim.end()).map(start -> Pair.<Query, Update>of(
+                            Query.query(Criteria.where("roomId").is(claim.roomId()).and("slotStart").is(start)),
+                            new Update().setOnInsert("id", UUID.randomUUID()).setOnInsert("ownerId", claim.ownerId()))))
+                    .iterator();
+            var batch = new ArrayList<Pair<Query, Update>>(BACKFILL_BATCH);
+            while (slots.hasNext()) {
+                batch.add(slots.next());
+                if (batch.size() == BACKFILL_BATCH || !slots.hasNext()) {
+                    claimed += upsert(batch);
+                    batch = new ArrayList<>(BACKFILL_BATCH);
+                }
+            }
+        }
+        log.info("Slot claims backfilled with {} slots", claimed);
+        return claimed;
+    }
+
+    private int upsert(List<Pair<Query, Update>> slots) {
+        try {
+            return mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SlotClaim.class).upsert(slots).execute().getUpserts().size();
+        } catch (BulkOperationException exception) {
+            if (exception.getErrors().stream().anyMatch(error -> error.getCode() != DUPLICATE_KEY)) {
+                throw exception;
+            }
+            return exception.getResult().getUpserts().size();
+        }
+    }
+
+    /**
+     * Undoes the write of the attempt when one of its slots is taken.
+     */
+    public <T> Optional<T> book(@NonNull Supplier<Optional<T>> attempt,
+                                @NonNull Function<T, List<Claim>> claims,
+                                @NonNull Consumer<T> undo) {
+        return attempt.get().filter(written -> {
+            if (claim(claims.apply(written)).isEmpty()) {
+                return true;
+            }
+            undo.accept(written);
+            return false;
+        });
+    }
+
+    /**
+     * Returns the indexes of the claims that found a slot taken, whose inserted slots are deleted again.
+     */
+    public Set<Integer> claim(@NonNull List<Claim> claims) {
+        val slots = new ArrayList<SlotClaim>();
+        val owners = new ArrayList<Integer>();
+        for (var index = 0; index < claims.size(); index++) {
+            val claim = claims.get(index);
+            for (val start : slots(claim.start(), claim.end()).toList()) {
+                slots.add(SlotClaim.builder().roomId(claim.roomId()).slotStart(start).ownerId(claim.ownerId()).build());
+                owners.add(index);
+            }
+        }
+        return insert(slots).stream().map(owners::get).collect(Collectors.toSet());
+    }
+
+    /**
+     * Claims only the slots of the new range not held yet; when one is taken the meeting keeps its old slots.
+     */
+    public boolean move(@NonNull Claim claim) {
+        val held = mongoTemplate.find(Query.query(Criteria.where("ownerId").is(claim.ownerId())), SlotClaim.class)
+                .stream()
+                .map(SlotClaim::getSlotStart)
+                .collect(Collectors.toSet());
+        val wanted = slots(claim.start(), claim.end()).toList();
+        val missing = wanted.stream()
+                .filter(start -> !held.contains(start))
+                .map(start -> SlotClaim.builder().roomId(claim.roomId()).slotStart(start).ownerId(claim.ownerId()).build())
+                .toList();
+        if (!insert(missing).isEmpty()) {
+            return false;
+        }
+        mongoTemplate.remove(Query.query(Criteria.where("ownerId").is(claim.ownerId()).and("slotStart").nin(wanted)), SlotClaim.class);
+        return true;
+    }
+
+    public void release(@NonNull Collection<UUID> ownerIds) {
+        if (enabled && !ownerIds.isEmpty()) {
+            mongoTemplate.remove(Query.query(Criteria.where("ownerId").in(ownerIds)), SlotClaim.class);
+        }
+    }
+
+    public void releaseBefore(@NonNull Collection<UUID> ownerIds, @NonNull LocalDateTime date) {
+        if (enabled && !ownerIds.isEmpty()) {
+            mongoTemplate.remove(Query.query(Criteria.where("ownerId").in(ownerIds).and("slotStart").lt(date)), SlotClaim.class);
+        }
+    }
+
+    public void release(@NonNull UUID ownerId, @NonNull LocalDateTime start, @NonNull LocalDateTime end) {
+        if (enabled) {
+            mongoTemplate.remove(Query.query(Criteria.where("ownerId").is(ownerId).and("slotStart").in(slots(start, end).toList())), SlotClaim.class);
+        }
+    }
+
+    private Set<Integer> insert(List<SlotClaim> slots) {
+        if (slots.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SlotClaim.class).insert(slots).execute();
+            return Set.of();
+        } catch (BulkOperationException exception) {
+            if (exception.getErrors().stream().anyMatch(error -> error.getCode() != DUPLICATE_KEY)) {
+                throw exception;
+            }
+            val taken = new HashSet<Integer>();
+            exception.getErrors().forEach(error -> taken.add(error.getIndex()));
+            val inserted = new ArrayList<UUID>();
+            for (var index = 0; index < slots.size(); index++) {
+                if (!taken.contains(index)) {
+                    inserted.add(slots.get(index).getId());
+                }
+            }
+            mongoTemplate.remove(Query.query(Criteria.where("id").in(inserted)), SlotClaim.class);
+            meterRegistry.counter("meeting.booking.slot.conflicts").increment();
+            return taken;
+        }
+    }
+
+    private Stream<LocalDateTime> slots(LocalDateTime start, LocalDateTime end) {
+        val step = slot.toNanos();
+        val time = start.toLocalTime().toNanoOfDay();
+        val first = start.toLocalDate().atStartOfDay().plusNanos(time - time % step);
+        return Stream.iterate(first, slotStart -> !slotStart.isAfter(end), slotStart -> slotStart.plusNanos(step));
+    }
+}
@@ -0,0 +1,107 @@
+package com.gitlab.walneyalves.meeting_rooms.service.room;
+
+import com.gitlab.walneyalves.meeting_rooms.domain.availability.AvailabilityGrid;
+import com.gitlab.walneyalves.meeting_rooms.domain.filter.RoomFilter;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.RoomResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
+import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import com.gitlab.walneyalves.meeting_rooms.repository.MeetingRepository;
+import com.gitlab.walneyalves.meeting_rooms.repository.MeetingSeriesRepository;
+import com.gitlab.walneyalves.meeting_rooms.repository.query.RoomQueries;
+import com.gitlab.walneyalves.meeting_rooms.service.MeetingService;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.Occurrences;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class RoomAvailabilityService {
+
+    public static final int MAX_GRANULARITY = 24 * 60;
+
+    private final MongoTemplate mongoTemplate;
+
+    private final MeetingRepository meetingRepository;
+
+    private final MeetingSeriesRepository meetingSeriesRepository;
+
+    @Value("${meeting-rooms.availability.max-slots:2880}")
+    private int maxSlots = 2880;
+
+    /**
+     * A slot is free under the same rule a booking is accepted by.
+     */
+    public AvailabilityGrid getAvailability(@NonNull RoomFilter filter,
+                                            @NonNull LocalDateTime from,
+                                            @NonNull LocalDateTime to,
+                                            int granularity) {
+        if (granularity < 1 || granularity > MAX_GRANULARITY || !from.isBefore(to)
+                || Duration.between(from, to).compareTo(Duration.ofMinutes((long) granularity * maxSlots)) > 0) {
+            throw new MeetingRoomsException(RoomResponse.INVALID_AVAILABILITY_WINDOW);
+        }
+        val step = Duration.ofMinutes(granularity).toNanos();
+        val slots = (int) Math.ceilDiv(Duration.between(from, to).toNanos(), step);
+        val rooms = mongoTemplate.find(Query.query(RoomQueries.criteria(filter, null)).with(RoomQueries.CURSOR_ORDER), Room.class);
+        val periods = new HashMap<List<LocalTime>, BitSet>();
+        val grid = rooms.stream().collect(Collectors.toMap(Room::getId, room -> !room.getAvailable() ? new BitSet() : (BitSet) periods
+                .computeIfAbsent(List.of(room.getInitialAvailability(), room.getFinalAvailability()),
+                        period -> period(room, from, to, step, slots))
+                .clone()));
+        // Rooms without a free slot, unavailable or closed for the whole window, have nothing left to occupy.
+        val open = grid.keySet().stream().filter(roomId -> !grid.get(roomId).isEmpty()).toList();
+        if (!open.isEmpty()) {
+            try (val meetings = meetingRepository.findAllOverlapping(open, MeetingService.ACTIVE_STATES, from, to)) {
+                meetings.forEach(meeting -> occupy(grid.get(meeting.getRoomId()), from, step, slots,
+                        meeting.getStartDate(), meeting.getEndDate()));
+            }
+            try (val series = meetingSeriesRepository.findAllSpanning(open, MeetingService.ACTIVE_STATES, from, to)) {
+                series.forEach(each -> Occurrences.between(each, from, to)
+                        .forEach(occurrence -> occupy(grid.get(each.getRoomId()), from, step, slots,
+                                occurrence.startDate(), occurrence.endDate())));
+            }
+        }
+        val bytes = (slots + Byte.SIZE - 1) / Byte.SIZE;
+        val encoder = Base64.getEncoder();
+        return new AvailabilityGrid(from, to, granularity, slots, rooms.stream()
+                .map(room -> new AvailabilityGrid.Row(room.getId(), room.getName(),
+                        encoder.encodeToString(Arrays.copyOf(grid.get(room.getId()).toByteArray(), bytes))))
+                .toList());
+    }
+
+    private static BitSet period(Room room, LocalDateTime from, LocalDateTime to, long step, int slots) {
+        val bits = new BitSet(slots);
+        for (int slot = 0; slot < slots; slot++) {
+            val start = from.plusNanos(step * slot);
+            val end = slot == slots - 1 ? to : start.plusNanos(step);
+            if (start.toLocalDate().equals(end.toLocalDate())
+                    && !start.toLocalTime().isBefore(room.getInitialAvailability())
+                    && !end.toLocalTime().isAfter(room.getFinalAvailability())) {
+                bits.set(slot);
+            }
+        }
+        return bits;
+    }
+
+    private static void occupy(BitSet free, LocalDateTime from, long step, int slots, LocalDateTime start, LocalDateTime end) {
+        val first = Math.max(Math.ceilDiv(Duration.between(from, start).toNanos() - step, step), 0);
+        val last = Math.min(Math.floorDiv(Duration.between(from, end).toNanos(), step), slots - 1);
+        if (first <= last) {
+            free.clear((int) first, (int) last + 1);
+        }
+    }
+}
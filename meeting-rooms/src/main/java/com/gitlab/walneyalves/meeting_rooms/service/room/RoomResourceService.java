@@ -11,8 +11,15 @@ import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -22,14 +29,29 @@ public class RoomResourceService {
 
     private final RoomResourceRepository roomResourceRepository;
 
+    private final RoomResourceTypes roomResourceTypes;
+
     public List<Resource> getRoomResources(@NonNull Room room) {
-        return roomResourceRepository.findAllByRoomId(room.getId())
+        return getRoomResources(List.of(room)).getOrDefault(room.getId(), List.of());
+    }
+
+    public Map<UUID, List<Resource>> getRoomResources(@NonNull Collection<Room> rooms) {
+        if (rooms.isEmpty()) {
+            return Map.of();
+        }
+        val links = roomResourceRepository.findAllByRoomIdIn(rooms.stream().map(Room::getId).toList());
+        val resources = resourceService.getAll(links.stream().map(RoomResource::getResourceId).collect(Collectors.toSet()))
                 .stream()
-                .map(RoomResource::getResourceId)
-                .map(resourceService::get)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .toList();
+                .collect(Collectors.toMap(Resource::getId, Function.identity()));
+        val byRoom = new LinkedHashMap<UUID, List<Resource>>();
+        rooms.forEach(room -> byRoom.put(room.getId(), new ArrayList<>()));
+        links.forEach(link -> {
+            val resource = resources.get(link.getResourceId());
+            if (Objects.nonNull(resource)) {
+                byRoom.get(link.getRoomId()).add(resource);
+            }
+        });
+        return byRoom;
     }
 
     @Transactional
@@ -39,20 +61,28 @@ public class RoomResourceService {
                 .resourceId(resource.getId())
                 .build();
         roomResourceRepository.save(build);
+        roomResourceTypes.add(room.getId(), resource.getType());
     }
 
     @Transactional
     public void removeResource(@NonNull Room room, @NonNull Resource resource) {
         roomResourceRepository.deleteByRoomIdAndResourceId(room.getId(), resource.getId());
+        roomResourceTypes.refresh(List.of(room.getId()));
     }
 
     @Transactional
     public void removeResources(@NonNull Room room) {
         roomResourceRepository.deleteAllByRoomId(room.getId());
+        roomResourceTypes.clear(room.getId());
     }
 
     @Transactional
     public void removeByResource(@NonNull Resource resource) {
+        val roomIds = roomResourceRepository.findAllByResourceId(resource.getId())
+                .stream()
+                .map(RoomResource::getRoomId)
+                .collect(Collectors.toSet());
         roomResourceRepository.deleteAllByResourceId(resource.getId());
+        roomResourceTypes.refresh(roomIds);
     }
 }
\ No newline at end of file
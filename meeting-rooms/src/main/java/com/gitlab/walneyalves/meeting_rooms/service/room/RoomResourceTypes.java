@@ -0,0 +1,141 @@
+package com.gitlab.walneyalves.meeting_rooms.service.room;
+
+import com.gitlab.walneyalves.meeting_rooms.configuration.CacheConfiguration;
+import com.gitlab.walneyalves.meeting_rooms.model.Resource;
+import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import com.gitlab.walneyalves.meeting_rooms.model.room.RoomResource;
+import com.gitlab.walneyalves.meeting_rooms.repository.ResourceRepository;
+import com.gitlab.walneyalves.meeting_rooms.repository.RoomResourceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Denormalizes the resource types of the linked resources onto the room, for the type filter of the listing.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomResourceTypes {
+
+    private static final String RESOURCE_TYPES = "resourceTypes";
+
+    private final MongoTemplate mongoTemplate;
+
+    private final ResourceRepository resourceRepository;
+
+    private final RoomResourceRepository roomResourceRepository;
+
+    private final CacheManager cacheManager;
+
+    public void add(@NonNull UUID roomId, @NonNull Resource.Type type) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(roomId)),
+                new Update().addToSet(RESOURCE_TYPES, type), Room.class);
+        evict(List.of(roomId));
+    }
+
+    public void clear(@NonNull UUID roomId) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(roomId)),
+                new Update().set(RESOURCE_TYPES, List.of()), Room.class);
+        evict(List.of(roomId));
+    }
+
+    public void refresh(@NonNull Collection<UUID> roomIds) {
+        if (roomIds.isEmpty()) {
+            return;
+        }
+        val links = roomResourceRepository.findAllByRoomIdIn(roomIds);
+        val types = typesById(links.stream().map(RoomResource::getResourceId).collect(Collectors.toSet()));
+        val byRoom = new HashMap<UUID, Set<Resource.Type>>();
+        roomIds.forEach(roomId -> byRoom.put(roomId, EnumSet.noneOf(Resource.Type.class)));
+        links.forEach(link -> {
+            val type = types.get(link.getResourceId());
+            if (Objects.nonNull(type)) {
+                byRoom.get(link.getRoomId()).add(type);
+            }
+        });
+        write(byRoom);
+    }
+
+    public void refreshByResource(@NonNull UUID resourceId) {
+        refresh(roomResourceRepository.findAllByResourceId(resourceId)
+                .stream()
+                .map(RoomResource::getRoomId)
+                .collect(Collectors.toSet()));
+    }
+
+    /**
+     * Also runs at startup, which backfills rooms stored before the field existed.
+     */
+    @Scheduled(fixedDelayString = "${meeting-rooms.resource-types.repair-interval:PT1H}")
+    public int repair() {
+        val types = resourceRepository.findAll()
+                .stream()
+                .collect(Collectors.toMap(Resource::getId, Resource::getType));
+        val expected = new HashMap<UUID, Set<Resource.Type>>();
+        try (val links = roomResourceRepository.streamAllBy()) {
+            links.forEach(link -> {
+                val type = types.get(link.getResourceId());
+                if (Objects.nonNull(type)) {
+                    expected.computeIfAbsent(link.getRoomId(), roomId -> EnumSet.noneOf(Resource.Type.class)).add(type);
+                }
+            });
+        }
+        val diverged = new HashMap<UUID, Set<Resource.Type>>();
+        try (val rooms = mongoTemplate.stream(new Query(), Room.class)) {
+            rooms.forEach(room -> {
+                val stored = room.getResourceTypes();
+                val wanted = expected.getOrDefault(room.getId(), Set.of());
+                if (!wanted.equals(Objects.isNull(stored) ? Set.of() : stored)) {
+                    diverged.put(room.getId(), wanted);
+                }
+            });
+        }
+        write(diverged);
+        if (!diverged.isEmpty()) {
+            log.warn("Resource types diverged from the room resources in {} rooms and were rebuilt", diverged.size());
+        }
+        return diverged.size();
+    }
+
+    private Map<UUID, Resource.Type> typesById(Set<UUID> resourceIds) {
+        return resourceRepository.findAllById(resourceIds)
+                .stream()
+                .collect(Collectors.toMap(Resource::getId, Resource::getType));
+    }
+
+    private void write(Map<UUID, Set<Resource.Type>> typesByRoom) {
+        if (typesByRoom.isEmpty()) {
+            return;
+        }
+        val operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Room.class);
+        typesByRoom.forEach((roomId, types) -> operations.updateOne(Query.query(Criteria.where("id").is(roomId)),
+                new Update().set(RESOURCE_TYPES, types)));
+        operations.execute();
+        evict(typesByRoom.keySet());
+    }
+
+    private void evict(Collection<UUID> roomIds) {
+        Optional.ofNullable(cacheManager.getCache(CacheConfiguration.ROOMS)).ifPresent(cache -> roomIds.forEach(cache::evict));
+    }
+}
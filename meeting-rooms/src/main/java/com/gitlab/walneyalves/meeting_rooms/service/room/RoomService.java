@@ -1,30 +1,48 @@
 package com.gitlab.walneyalves.meeting_rooms.service.room;
 
+import com.gitlab.walneyalves.meeting_rooms.configuration.CacheConfiguration;
 import com.gitlab.walneyalves.meeting_rooms.domain.filter.RoomFilter;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.Cursor;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.CursorPage;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MergePatch;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.RoomPatchRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.ResponseCode;
 import com.gitlab.walneyalves.meeting_rooms.domain.response.RoomResponse;
 import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
+import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries;
 import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
 import com.gitlab.walneyalves.meeting_rooms.repository.RoomRepository;
+import com.gitlab.walneyalves.meeting_rooms.repository.query.RoomQueries;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
-import org.springframework.data.util.Pair;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-
-import static java.util.Arrays.stream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -34,7 +52,7 @@ public class RoomService {
 
     private final RoomRepository roomRepository;
 
-    private final RoomResourceService roomResourceService;
+    private final CacheManager cacheManager;
 
     @Transactional
     public Room create(@NonNull Room.RoomBuilder builder) {
@@ -45,43 +63,67 @@ public class RoomService {
         return roomRepository.findById(id);
     }
 
+    public List<Room> getAll(@NonNull Collection<UUID> ids) {
+        return ids.isEmpty() ? List.of() : roomRepository.findAllById(ids);
+    }
+
     public Page<Room> getAll(@NonNull Pageable pageable, @NonNull RoomFilter filter) {
-        val query = new Query();
-        val availableFilter = filter.available();
-        val endDateFilter = filter.finalAvailability();
-        val startDateFilter = filter.initialAvailability();
-        val capacityFilter = filter.capacity();
-        if (Objects.nonNull(availableFilter)) {
-            query.addCriteria(Criteria.where("available").is(availableFilter));
-        }
-        if (Objects.nonNull(endDateFilter) && Objects.nonNull(startDateFilter)) {
-            query.addCriteria(new Criteria().andOperator(
-                    Criteria.where("initialAvailability").lte(endDateFilter),
-                    Criteria.where("finalAvailability").gte(startDateFilter))
-            );
-        }
-        if (Objects.nonNull(capacityFilter)) {
-            query.addCriteria(Criteria.where("capacity").is(capacityFilter));
+        val criteria = criteria(filter, null);
+        val rooms = pageable.isPaged()
+                ? findRooms(criteria, pageable.getSort(), pageable.getOffset(), pageable.getPageSize())
+                : findRooms(criteria, pageable.getSort(), 0, 0);
+        return PageableExecutionUtils.getPage(rooms, pageable, () -> mongoTemplate.count(Query.query(criteria), Room.class));
+    }
+
+    public Slice<Room> getAllSlice(@NonNull Pageable pageable, @NonNull RoomFilter filter) {
+        val criteria = criteria(filter, null);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(findRooms(criteria, pageable.getSort(), 0, 0), pageable, false);
         }
-        val rooms = mongoTemplate.find(query, Room.class);
-        val typesFilter = filter.types();
-        val filteredRooms = rooms.stream()
-                .map(room -> Pair.of(room, roomResourceService.getRoomResources(room)))
-                .filter(pair -> pair
-                        .getSecond()
-                        .stream()
-                        .allMatch(resource ->
-                                (Objects.isNull(typesFilter) || typesFilter.length == 0) || stream(typesFilter)
-                                        .anyMatch(resourceType -> resource.getType().equals(resourceType))))
-                .map(Pair::getFirst)
-                .toList();
-        val start = (int) pageable.getOffset();
-        val end = Math.min((start + pageable.getPageSize()), filteredRooms.size());
-        return new PageImpl<>(filteredRooms.subList(start, end), pageable, filteredRooms.size());
+        val rooms = findRooms(criteria, pageable.getSort(), pageable.getOffset(), pageable.getPageSize() + 1);
+        val hasNext = rooms.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rooms.subList(0, pageable.getPageSize()) : rooms, pageable, hasNext);
+    }
+
+    public CursorPage<Room> getAllAfter(@NonNull RoomFilter filter, @Nullable Cursor after, int size) {
+        val limit = CursorPage.size(size);
+        val rooms = findRooms(criteria(filter, after), RoomQueries.CURSOR_ORDER, 0, limit + 1);
+        return CursorPage.of(rooms, limit, room -> new Cursor(room.getName(), room.getId()));
+    }
+
+    private Criteria criteria(RoomFilter filter, @Nullable Cursor after) {
+        return RoomQueries.criteria(filter, after, Objects.isNull(filter.available()) ? Set.of() : getInUse(null));
+    }
+
+    private List<Room> findRooms(Criteria criteria, Sort sort, long skip, int limit) {
+        return mongoTemplate.find(Query.query(criteria).with(sort).skip(skip).limit(limit), Room.class);
     }
 
     public Boolean isAvailable(@NonNull UUID id) {
-        return get(id).isPresent() ? get(id).get().getAvailable() : false;
+        return get(id).map(room -> room.getAvailable() && !isInUse(id)).orElse(false);
+    }
+
+    /**
+     * Derived from the stored meetings and series, so every node answers the same.
+     */
+    public boolean isInUse(@NonNull UUID id) {
+        return !takingPlace(List.of(id), LocalDateTime.now()).isEmpty();
+    }
+
+    public Set<UUID> getInUse(@Nullable Collection<UUID> ids) {
+        return takingPlace(ids, LocalDateTime.now());
+    }
+
+    /**
+     * Series are matched by their current occurrence, the one they keep the dates of.
+     */
+    private Set<UUID> takingPlace(@Nullable Collection<UUID> ids, LocalDateTime date) {
+        val meetings = RoomQueries.takingPlace(ids, date, "startDate", "endDate");
+        val series = RoomQueries.takingPlace(ids, date, "nextStartDate", "nextEndDate");
+        return Stream.concat(
+                        mongoTemplate.findDistinct(Query.query(meetings), "roomId", Meeting.class, UUID.class).stream(),
+                        mongoTemplate.findDistinct(Query.query(series), "roomId", MeetingSeries.class, UUID.class).stream())
+                .collect(Collectors.toSet());
     }
 
     public Boolean isTimeRangeSupported(@NonNull Room room,
@@ -99,33 +141,99 @@ public class RoomService {
     }
 
     @Transactional
-    public Room updateName(@NonNull Room room, @NonNull String name) {
-        room.setName(name);
-        return roomRepository.save(room);
+    public Room updateName(@NonNull UUID id, @NonNull String name) {
+        return updateWhileAvailable(id, null, Update.update("name", name), RoomResponse.UNAVAILABLE);
     }
 
     @Transactional
-    public Room updateAvailabilityPeriod(@NonNull Room room,
+    public Room updateAvailabilityPeriod(@NonNull UUID id,
                                          @NonNull LocalTime initialAvailability,
                                          @NonNull LocalTime finalAvailability) {
-        room.setInitialAvailability(initialAvailability);
-        room.setFinalAvailability(finalAvailability);
-        return roomRepository.save(room);
+        if (initialAvailability.isAfter(finalAvailability)) {
+            throw new MeetingRoomsException(RoomResponse.INVALID_AVAILABILITY_PERIOD);
+        }
+        return update(id, Update.update("initialAvailability", initialAvailability).set("finalAvailability", finalAvailability));
     }
 
     @Transactional
-    public Room updateCapacity(@NonNull Room room, @NonNull Integer capacity) {
-        if (room.getCapacity().equals(capacity) || !isValidCapacity(capacity)) {
+    public Room updateCapacity(@NonNull UUID id, @NonNull Integer capacity) {
+        if (!isValidCapacity(capacity)) {
             throw new MeetingRoomsException(RoomResponse.INVALID_CAPACITY);
         }
-        room.setCapacity(capacity);
-        return roomRepository.save(room);
+        return updateWhileAvailable(id, Criteria.where("capacity").ne(capacity), Update.update("capacity", capacity),
+                RoomResponse.INVALID_CAPACITY);
     }
 
     @Transactional
     public void updateAvailable(@NonNull Room room, @NonNull Boolean available) {
-        room.setAvailable(available);
-        roomRepository.save(room);
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(room.getId())), Update.update("available", available), Room.class);
+        evict(room.getId());
+    }
+
+    /**
+     * Name and capacity changes are guarded as in {@link #updateName}.
+     */
+    @Transactional
+    public Room patch(@NonNull Room room, @NonNull RoomPatchRequest patch) {
+        val update = new Update();
+        Optional.ofNullable(MergePatch.required(patch.getName(), RoomResponse.INVALID_PATCH))
+                .ifPresent(name -> update.set("name", name));
+        val capacity = MergePatch.required(patch.getCapacity(), RoomResponse.INVALID_PATCH);
+        if (Objects.nonNull(capacity)) {
+            if (!isValidCapacity(capacity)) {
+                throw new MeetingRoomsException(RoomResponse.INVALID_CAPACITY);
+            }
+            update.set("capacity", capacity);
+        }
+        val initialAvailability = MergePatch.required(patch.getInitialAvailability(), RoomResponse.INVALID_PATCH);
+        val finalAvailability = MergePatch.required(patch.getFinalAvailability(), RoomResponse.INVALID_PATCH);
+        if (Objects.nonNull(initialAvailability) || Objects.nonNull(finalAvailability)) {
+            val initial = Objects.requireNonNullElse(initialAvailability, room.getInitialAvailability());
+            val end = Objects.requireNonNullElse(finalAvailability, room.getFinalAvailability());
+            if (initial.isAfter(end)) {
+                throw new MeetingRoomsException(RoomResponse.INVALID_AVAILABILITY_PERIOD);
+            }
+        }
+        Optional.ofNullable(initialAvailability).ifPresent(initial -> update.set("initialAvailability", initial));
+        Optional.ofNullable(finalAvailability).ifPresent(end -> update.set("finalAvailability", end));
+        if (update.getUpdateObject().isEmpty()) {
+            return room;
+        }
+        return Objects.nonNull(patch.getName()) || Objects.nonNull(capacity)
+                ? updateWhileAvailable(room.getId(), null, update, RoomResponse.UNAVAILABLE)
+                : update(room.getId(), update);
+    }
+
+    private Room update(UUID id, Update update) {
+        val room = mongoTemplate.findAndModify(Query.query(Criteria.where("id").is(id)), update,
+                FindAndModifyOptions.options().returnNew(true), Room.class);
+        evict(id);
+        return Optional.ofNullable(room).orElseThrow(() -> new MeetingRoomsException(RoomResponse.NOT_FOUND));
+    }
+
+    /**
+     * The guard is part of the write, so nothing is read first; the room is only read on a miss, to tell why.
+     *
+     * @param unmet the rejection when the room is available but does not meet the criteria
+     */
+    private Room updateWhileAvailable(UUID id, @Nullable Criteria criteria, Update update, ResponseCode unmet) {
+        if (isInUse(id)) {
+            throw new MeetingRoomsException(RoomResponse.UNAVAILABLE);
+        }
+        val query = Query.query(Criteria.where("id").is(id).and("available").is(true));
+        Optional.ofNullable(criteria).ifPresent(query::addCriteria);
+        val room = mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), Room.class);
+        evict(id);
+        if (Objects.isNull(room)) {
+            throw new MeetingRoomsException(roomRepository.findById(id)
+                    .map(found -> found.getAvailable() ? unmet : RoomResponse.UNAVAILABLE)
+                    .orElse(RoomResponse.NOT_FOUND));
+        }
+        return room;
+    }
+
+    private void evict(UUID id) {
+        Optional.ofNullable(cacheManager.getCache(CacheConfiguration.ROOMS)).ifPresent(cache -> cache.evict(id));
     }
 
     @Transactional
@@ -0,0 +1,70 @@
+package com.gitlab.walneyalves.meeting_rooms.tests;
+
+import com.gitlab.walneyalves.meeting_rooms.configuration.CacheConfiguration;
+import com.gitlab.walneyalves.meeting_rooms.configuration.TestcontainersConfiguration;
+import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import com.gitlab.walneyalves.meeting_rooms.repository.RoomRepository;
+import com.gitlab.walneyalves.meeting_rooms.service.cache.CacheChangeStreamListener;
+import lombok.val;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against the single-node replica set started by {@link TestcontainersConfiguration}; writes go straight to
+ * Mongo, as another node would do, so only the change stream can evict the cached room.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {
+        "meeting-rooms.cache.change-stream.enabled=true",
+        "meeting-rooms.cache.change-stream.checkpoint-interval=PT0.1S",
+})
+class CacheChangeStreamTests {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void testExternalUpdateEvictsCachedRoom() throws InterruptedException {
+        val room = roomRepository.save(Room.builder()
+                .name("Main Room")
+                .initialAvailability(LocalTime.of(8, 0))
+                .finalAvailability(LocalTime.of(18, 0))
+                .build());
+        roomRepository.findById(room.getId());
+        val rooms = cacheManager.getCache(CacheConfiguration.ROOMS);
+        assertNotNull(rooms.get(room.getId()));
+
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(room.getId())),
+                Update.update("available", false), Room.class);
+        for (var attempt = 0; attempt < 50 && rooms.get(room.getId()) != null; attempt++) {
+            Thread.sleep(100);
+        }
+        assertNull(rooms.get(room.getId()));
+        assertFalse(roomRepository.findById(room.getId()).orElseThrow().getAvailable());
+
+        Thread.sleep(500);
+        val checkpoint = mongoTemplate.findAll(Document.class, CacheChangeStreamListener.CHECKPOINT_COLLECTION);
+        assertEquals(1, checkpoint.size());
+        assertNotNull(checkpoint.get(0).get("token"));
+    }
+}
@@ -0,0 +1,28 @@
+package com.gitlab.walneyalves.meeting_rooms.tests.configuration;
+
+import com.gitlab.walneyalves.meeting_rooms.configuration.ExecutorConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ExecutorConfigurationTests {
+
+    @Test
+    void testMeteredTaskDecoratorTracksQueuedAndActiveTasks() {
+        val meterRegistry = new SimpleMeterRegistry();
+        val decorator = new ExecutorConfiguration.MeteredTaskDecorator(meterRegistry, "test");
+        val activeWhileRunning = new AtomicReference<Double>();
+        val task = decorator.decorate(() -> activeWhileRunning.set(meterRegistry.get("executor.active").gauge().value()));
+
+        assertEquals(1, meterRegistry.get("executor.queued").gauge().value());
+        task.run();
+        assertEquals(1, activeWhileRunning.get());
+        assertEquals(0, meterRegistry.get("executor.queued").gauge().value());
+        assertEquals(0, meterRegistry.get("executor.active").gauge().value());
+        assertEquals(1, meterRegistry.get("executor.completed").counter().count());
+    }
+}
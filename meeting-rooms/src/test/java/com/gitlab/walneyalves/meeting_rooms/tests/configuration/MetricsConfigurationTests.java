@@ -0,0 +1,40 @@
+package com.gitlab.walneyalves.meeting_rooms.tests.configuration;
+
+import com.gitlab.walneyalves.meeting_rooms.configuration.MetricsConfiguration;
+import com.mongodb.event.CommandStartedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class MetricsConfigurationTests {
+
+    @Test
+    void testMongoCommandsAreCountedPerRequest() {
+        val meterRegistry = new SimpleMeterRegistry();
+        val counter = new MetricsConfiguration.MongoCommandCounter();
+        val interceptor = new MetricsConfiguration.MongoCommandsInterceptor(meterRegistry);
+        val request = new MockHttpServletRequest("GET", "/room/list");
+        val response = new MockHttpServletResponse();
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/room/list");
+
+        counter.commandStarted(mock(CommandStartedEvent.class));
+        interceptor.preHandle(request, response, new Object());
+        counter.commandStarted(mock(CommandStartedEvent.class));
+        counter.commandStarted(mock(CommandStartedEvent.class));
+        interceptor.afterCompletion(request, response, new Object(), null);
+        counter.commandStarted(mock(CommandStartedEvent.class));
+
+        val commands = meterRegistry.get(MetricsConfiguration.REQUEST_COMMANDS)
+                .tag("uri", "/room/list")
+                .tag("method", "GET")
+                .summary();
+        assertEquals(1, commands.count());
+        assertEquals(2, commands.totalAmount());
+    }
+}
@@ -5,14 +5,18 @@ import com.gitlab.walneyalves.meeting_rooms.configuration.TestcontainersConfigur
 import com.gitlab.walneyalves.meeting_rooms.controller.meeting.MeetingController;
 import com.gitlab.walneyalves.meeting_rooms.domain.filter.MeetingFilter;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingPatchRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingUpdateDescriptionRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingUpdateDurationRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingUpdateTitleRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MergePatch;
 import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
 import com.gitlab.walneyalves.meeting_rooms.model.Meeting.State;
 import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
 import com.gitlab.walneyalves.meeting_rooms.service.MeetingService;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.BookingMetrics;
 import com.gitlab.walneyalves.meeting_rooms.service.room.RoomService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.val;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,12 +40,13 @@ import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@Import(TestcontainersConfiguration.class)
+@Import({TestcontainersConfiguration.class, BookingMetrics.class, SimpleMeterRegistry.class})
 @AutoConfigureDataMongo
 @WebMvcTest(MeetingController.class)
 class MeetingControllerTests {
@@ -102,8 +107,7 @@ class MeetingControllerTests {
         when(roomService.get(roomId)).thenReturn(Optional.of(room));
         when(roomService.isTimeRangeSupported(room, request.startDate(), request.endDate())).thenReturn(true);
         when(roomService.isAvailable(roomId)).thenReturn(true);
-        when(meetingService.hasMeeting(room, request.startDate(), request.endDate())).thenReturn(false);
-        when(meetingService.create(request, room, hostId)).thenReturn(meeting);
+        when(meetingService.book(request, room, hostId)).thenReturn(Optional.of(meeting));
         mockMvc.perform(post("/meeting/create/" + roomId)
                         .header("Host-Id", hostId)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -137,8 +141,7 @@ class MeetingControllerTests {
     @Test
     void testUpdateMeetingTitle() throws Exception {
         val request = new MeetingUpdateTitleRequest("Updated Meeting Title");
-        when(meetingService.get(meetingId)).thenReturn(Optional.of(meeting));
-        when(meetingService.updateTitle(any(Meeting.class), anyString())).thenReturn(meeting);
+        when(meetingService.updateTitle(eq(meetingId), eq(hostId), anyString())).thenReturn(meeting);
         mockMvc.perform(put("/meeting/update/" + meetingId + "/title")
                 .header("Host-Id", hostId)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -150,8 +153,7 @@ class MeetingControllerTests {
     @Test
     void testUpdateMeetingDescription() throws Exception {
         val request = new MeetingUpdateDescriptionRequest("Updated description");
-        when(meetingService.get(meetingId)).thenReturn(Optional.of(meeting));
-        when(meetingService.updateDescription(any(Meeting.class), anyString())).thenReturn(meeting);
+        when(meetingService.updateDescription(eq(meetingId), eq(hostId), anyString())).thenReturn(meeting);
         mockMvc.perform(put("/meeting/update/" + meetingId + "/description")
                 .header("Host-Id", hostId)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -185,4 +187,16 @@ class MeetingControllerTests {
                 .andExpect(jsonPath("$.endDate[3]").value(11))
                 .andExpect(jsonPath("$.endDate[4]").value(0));
     }
+
+    @Test
+    void testPatchMeeting() throws Exception {
+        when(meetingService.get(meetingId)).thenReturn(Optional.of(meeting));
+        when(meetingService.patch(eq(meeting), any(MeetingPatchRequest.class))).thenReturn(meeting);
+        mockMvc.perform(patch("/meeting/update/" + meetingId)
+                        .header("Host-Id", hostId)
+                        .contentType(MergePatch.MEDIA_TYPE)
+                        .content("{\"title\": \"Team Meeting\", \"description\": null}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Team Meeting"));
+    }
 }
\ No newline at end of file
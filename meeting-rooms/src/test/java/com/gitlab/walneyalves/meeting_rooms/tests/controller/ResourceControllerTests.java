@@ -2,6 +2,8 @@ package com.gitlab.walneyalves.meeting_rooms.tests.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gitlab.walneyalves.meeting_rooms.controller.resource.ResourceController;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MergePatch;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.ResourcePatchRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.ResourceCreateRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.ResourceUpdateNameRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.ResourceUpdateTypeRequest;
@@ -85,8 +87,7 @@ class ResourceControllerTests {
     @Test
     void testUpdateResourceName() throws Exception {
         val request = new ResourceUpdateNameRequest("Updated Projector");
-        when(resourceService.get(resourceId)).thenReturn(Optional.of(resource));
-        when(resourceService.updateName(any(Resource.class), anyString())).thenReturn(resource);
+        when(resourceService.updateName(eq(resourceId), anyString())).thenReturn(resource);
         mockMvc.perform(put(String.format("/resource/update/%s/name", resourceId))
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
@@ -98,8 +99,7 @@ class ResourceControllerTests {
     void testUpdateResourceType() throws Exception {
         val request = new ResourceUpdateTypeRequest(Resource.Type.TV);
         val updatedResource = Resource.builder().id(resourceId).name("Projector").type(Resource.Type.TV).build();
-        when(resourceService.get(resourceId)).thenReturn(Optional.of(resource));
-        when(resourceService.updateType(any(Resource.class), eq(request.type()))).thenReturn(updatedResource);
+        when(resourceService.updateType(resourceId, request.type())).thenReturn(updatedResource);
         mockMvc.perform(put(String.format("/resource/update/%s/type", resourceId))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
@@ -107,6 +107,18 @@ class ResourceControllerTests {
                 .andExpect(jsonPath("$.type").value("TV"));
     }
 
+    @Test
+    void testPatchResource() throws Exception {
+        val updatedResource = Resource.builder().id(resourceId).name("Television").type(Resource.Type.TV).build();
+        when(resourceService.patch(eq(resourceId), any(ResourcePatchRequest.class))).thenReturn(updatedResource);
+        mockMvc.perform(patch(String.format("/resource/update/%s", resourceId))
+                        .contentType(MergePatch.MEDIA_TYPE)
+                        .content("{\"name\": \"Television\", \"type\": \"TV\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Television"))
+                .andExpect(jsonPath("$.type").value("TV"));
+    }
+
     @Test
     void testDeleteResource() throws Exception {
         when(resourceService.get(resourceId)).thenReturn(Optional.of(resource));
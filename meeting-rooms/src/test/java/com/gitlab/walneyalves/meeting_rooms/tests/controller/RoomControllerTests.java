@@ -2,7 +2,11 @@ package com.gitlab.walneyalves.meeting_rooms.tests.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gitlab.walneyalves.meeting_rooms.controller.room.RoomController;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MergePatch;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.RoomPatchRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.filter.RoomFilter;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.Cursor;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.CursorPage;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.RoomCreateRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.RoomUpdateAvailabilityPeriodRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.RoomUpdateCapacityRequest;
@@ -10,6 +14,7 @@ import com.gitlab.walneyalves.meeting_rooms.domain.request.RoomUpdateNameRequest
 import com.gitlab.walneyalves.meeting_rooms.model.Resource;
 import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
 import com.gitlab.walneyalves.meeting_rooms.service.ResourceService;
+import com.gitlab.walneyalves.meeting_rooms.service.room.RoomAvailabilityService;
 import com.gitlab.walneyalves.meeting_rooms.service.room.RoomResourceService;
 import com.gitlab.walneyalves.meeting_rooms.service.room.RoomService;
 import lombok.val;
@@ -23,6 +28,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -32,6 +38,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -50,6 +57,9 @@ class RoomControllerTests {
     @MockBean
     private RoomResourceService roomResourceService;
 
+    @MockBean
+    private RoomAvailabilityService roomAvailabilityService;
+
     @MockBean
     private ResourceService resourceService;
 
@@ -92,11 +102,45 @@ class RoomControllerTests {
                 .andExpect(jsonPath("$.content[0].name").value("Meeting Room"));
     }
 
+    @Test
+    void testGetRoomsWithoutTotal() throws Exception {
+        val pageable = PageRequest.of(0, 10);
+        val slice = new SliceImpl<>(List.of(room), pageable, false);
+        when(roomService.getAllSlice(any(Pageable.class), any(RoomFilter.class))).thenReturn(slice);
+        mockMvc.perform(get("/room/list")
+                .param("total", "false")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Meeting Room"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+        verify(roomService, never()).getAll(any(Pageable.class), any(RoomFilter.class));
+    }
+
+    @Test
+    void testGetRoomsByCursor() throws Exception {
+        val cursor = new Cursor("Meeting Room", roomId);
+        when(roomService.getAllAfter(any(RoomFilter.class), eq(cursor), eq(10)))
+                .thenReturn(new CursorPage<>(List.of(room), null));
+        mockMvc.perform(get("/room/list/cursor")
+                .param("cursor", cursor.encode())
+                .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Meeting Room"))
+                .andExpect(jsonPath("$.next").isEmpty());
+    }
+
+    @Test
+    void testGetRoomsByInvalidCursor() throws Exception {
+        mockMvc.perform(get("/room/list/cursor")
+                .param("cursor", "%%%"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(24005));
+    }
+
     @Test
     void testUpdateRoomName() throws Exception {
         val request = new RoomUpdateNameRequest("Updated Meeting Room");
-        when(roomService.get(roomId)).thenReturn(Optional.of(room));
-        when(roomService.updateName(any(Room.class), anyString())).thenReturn(room);
+        when(roomService.updateName(roomId, request.name())).thenReturn(room);
         mockMvc.perform(put(String.format("/room/update/%s/name", roomId))
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
@@ -107,8 +151,7 @@ class RoomControllerTests {
     @Test
     void testUpdateRoomCapacity() throws Exception {
         val request = new RoomUpdateCapacityRequest(15);
-        when(roomService.get(roomId)).thenReturn(Optional.of(room));
-        when(roomService.updateCapacity(any(Room.class), anyInt())).thenReturn(room);
+        when(roomService.updateCapacity(roomId, request.capacity())).thenReturn(room);
         mockMvc.perform(put(String.format("/room/update/%s/capacity", roomId))
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
@@ -119,8 +162,7 @@ class RoomControllerTests {
     @Test
     void testUpdateRoomAvailabilityPeriod() throws Exception {
         val request = new RoomUpdateAvailabilityPeriodRequest(LocalTime.of(8, 0), LocalTime.of(18, 0));
-        when(roomService.get(roomId)).thenReturn(Optional.of(room));
-        when(roomService.updateAvailabilityPeriod(any(Room.class), eq(request.initialAvailability()), eq(request.finalAvailability()))).thenReturn(room);
+        when(roomService.updateAvailabilityPeriod(roomId, request.initialAvailability(), request.finalAvailability())).thenReturn(room);
         mockMvc.perform(put(String.format("/room/update/%s/availability-period", roomId))
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
@@ -131,6 +173,18 @@ class RoomControllerTests {
                 .andExpect(jsonPath("$.finalAvailability[1]").value(0));
     }
 
+    @Test
+    void testPatchRoom() throws Exception {
+        when(roomService.get(roomId)).thenReturn(Optional.of(room));
+        when(roomService.patch(eq(room), any(RoomPatchRequest.class))).thenReturn(room);
+        mockMvc.perform(patch(String.format("/room/update/%s", roomId))
+                .contentType(MergePatch.MEDIA_TYPE)
+                .content("{\"name\": \"Meeting Room\", \"capacity\": 10}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Meeting Room"));
+        verify(roomService, never()).isAvailable(roomId);
+    }
+
     @Test
     void testAddResourceToRoom() throws Exception {
         val resourceId = UUID.randomUUID();
@@ -0,0 +1,108 @@
+package com.gitlab.walneyalves.meeting_rooms.tests.service;
+
+import com.gitlab.walneyalves.meeting_rooms.configuration.CacheConfiguration;
+import com.gitlab.walneyalves.meeting_rooms.model.Resource;
+import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import com.gitlab.walneyalves.meeting_rooms.model.room.RoomResource;
+import com.gitlab.walneyalves.meeting_rooms.service.cache.CacheChangeStreamListener;
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import lombok.val;
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.Message;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheChangeStreamListenerTests {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfiguration.ROOMS, CacheConfiguration.RESOURCES);
+
+    @InjectMocks
+    private CacheChangeStreamListener listener;
+
+    private UUID roomId;
+
+    private UUID otherRoomId;
+
+    @BeforeEach
+    void setUp() {
+        roomId = UUID.randomUUID();
+        otherRoomId = UUID.randomUUID();
+        cacheManager.getCache(CacheConfiguration.ROOMS).put(roomId, "room");
+        cacheManager.getCache(CacheConfiguration.ROOMS).put(otherRoomId, "other room");
+        lenient().when(mongoTemplate.getCollectionName(Room.class)).thenReturn("room");
+        lenient().when(mongoTemplate.getCollectionName(Resource.class)).thenReturn("resource");
+        lenient().when(mongoTemplate.getCollectionName(RoomResource.class)).thenReturn("roomResource");
+    }
+
+    @Test
+    void testRoomChangeEvictsRoom() {
+        listener.onChange(message(event(OperationType.UPDATE, "room", new BsonDocument("_id", new BsonBinary(roomId)), null)));
+        assertNull(cacheManager.getCache(CacheConfiguration.ROOMS).get(roomId));
+        assertNotNull(cacheManager.getCache(CacheConfiguration.ROOMS).get(otherRoomId));
+    }
+
+    @Test
+    void testRoomResourceInsertEvictsLinkedRoom() {
+        val link = new Document("_id", UUID.randomUUID()).append("roomId", roomId);
+        listener.onChange(message(event(OperationType.INSERT, "roomResource", new BsonDocument(), link)));
+        assertNull(cacheManager.getCache(CacheConfiguration.ROOMS).get(roomId));
+        assertNotNull(cacheManager.getCache(CacheConfiguration.ROOMS).get(otherRoomId));
+    }
+
+    @Test
+    void testDropClearsCaches() {
+        listener.onChange(message(event(OperationType.DROP, "room", null, null)));
+        assertNull(cacheManager.getCache(CacheConfiguration.ROOMS).get(roomId));
+        assertNull(cacheManager.getCache(CacheConfiguration.ROOMS).get(otherRoomId));
+    }
+
+    @Test
+    void testCheckpointIsSkippedWhenNotRunning() {
+        listener.onChange(message(event(OperationType.UPDATE, "room", new BsonDocument("_id", new BsonBinary(roomId)), null)));
+        listener.checkpoint();
+        verify(mongoTemplate, never()).upsert(any(), any(), anyString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Message<ChangeStreamDocument<Document>, Document> message(ChangeStreamDocument<Document> event) {
+        val message = mock(Message.class);
+        when(message.getRaw()).thenReturn(event);
+        return message;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ChangeStreamDocument<Document> event(OperationType type, String collection,
+                                                        BsonDocument documentKey, Document fullDocument) {
+        val event = mock(ChangeStreamDocument.class);
+        lenient().when(event.getOperationType()).thenReturn(type);
+        lenient().when(event.getNamespace()).thenReturn(new MongoNamespace("mongo", collection));
+        lenient().when(event.getDocumentKey()).thenReturn(documentKey);
+        lenient().when(event.getFullDocument()).thenReturn(fullDocument);
+        lenient().when(event.getResumeToken()).thenReturn(new BsonDocument("_data", new BsonString("token")));
+        return event;
+    }
+}
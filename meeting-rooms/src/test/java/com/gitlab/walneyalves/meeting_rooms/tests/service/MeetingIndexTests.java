@@ -0,0 +1,180 @@
+package com.gitlab.walneyalves.meeting_rooms.tests.service;
+
+import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries;
+import com.gitlab.walneyalves.meeting_rooms.repository.MeetingRepository;
+import com.gitlab.walneyalves.meeting_rooms.repository.MeetingSeriesRepository;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.MeetingIndex;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.RoomLocks;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingIndexTests {
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private MeetingSeriesRepository meetingSeriesRepository;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private RoomLocks roomLocks = new RoomLocks(new SimpleMeterRegistry());
+
+    @InjectMocks
+    private MeetingIndex meetingIndex;
+
+    private UUID roomId;
+
+    private Meeting meeting;
+
+    @BeforeEach
+    void setUp() {
+        roomId = UUID.randomUUID();
+        meeting = Meeting.builder()
+                .host(UUID.randomUUID())
+                .roomId(roomId)
+                .title("Indexed Meeting")
+                .startDate(LocalDateTime.of(2024, 11, 8, 10, 0))
+                .endDate(LocalDateTime.of(2024, 11, 8, 11, 0))
+                .build();
+    }
+
+    @Test
+    void testLoad() {
+        when(meetingRepository.findAllByStateIsIn(anyList())).thenReturn(Stream.of(meeting));
+        meetingIndex.load();
+        assertTrue(meetingIndex.isReady());
+        assertEquals(1, meetingIndex.size());
+    }
+
+    @Test
+    void testHasOverlap() {
+        meetingIndex.put(meeting);
+        assertTrue(meetingIndex.hasOverlap(roomId, LocalDateTime.of(2024, 11, 8, 10, 30), LocalDateTime.of(2024, 11, 8, 12, 0)));
+        assertTrue(meetingIndex.hasOverlap(roomId, LocalDateTime.of(2024, 11, 8, 9, 0), LocalDateTime.of(2024, 11, 8, 10, 0)));
+        assertFalse(meetingIndex.hasOverlap(roomId, LocalDateTime.of(2024, 11, 8, 11, 1), LocalDateTime.of(2024, 11, 8, 12, 0)));
+        assertFalse(meetingIndex.hasOverlap(UUID.randomUUID(), meeting.getStartDate(), meeting.getEndDate()));
+        val scanned = meterRegistry.get("meeting.conflict.scanned").summary();
+        assertEquals(4, scanned.count());
+        assertEquals(2, scanned.totalAmount());
+    }
+
+    @Test
+    void testHasOverlapWithLongMeeting() {
+        val allDay = Meeting.builder()
+                .host(UUID.randomUUID())
+                .roomId(roomId)
+                .title("All Day")
+                .startDate(LocalDateTime.of(2024, 11, 8, 8, 0))
+                .endDate(LocalDateTime.of(2024, 11, 8, 18, 0))
+                .build();
+        meetingIndex.put(allDay);
+        meetingIndex.put(meeting);
+        assertTrue(meetingIndex.hasOverlap(roomId, LocalDateTime.of(2024, 11, 8, 16, 0), LocalDateTime.of(2024, 11, 8, 17, 0)));
+    }
+
+    @Test
+    void testPutReplacesAndRemovesInactive() {
+        meetingIndex.put(meeting);
+        meeting.setStartDate(LocalDateTime.of(2024, 11, 8, 14, 0));
+        meeting.setEndDate(LocalDateTime.of(2024, 11, 8, 15, 0));
+        meetingIndex.put(meeting);
+        assertEquals(1, meetingIndex.size());
+        assertFalse(meetingIndex.hasOverlap(roomId, LocalDateTime.of(2024, 11, 8, 10, 0), LocalDateTime.of(2024, 11, 8, 11, 0)));
+        meeting.setState(Meeting.State.CANCELLED);
+        meetingIndex.put(meeting);
+        assertEquals(0, meetingIndex.size());
+    }
+
+    @Test
+    void testHasOverlapWithSeriesOccurrence() {
+        val series = MeetingSeries.builder()
+                .host(UUID.randomUUID())
+                .roomId(roomId)
+                .title("Weekly")
+                .startDate(LocalDateTime.of(2024, 1, 5, 14, 0))
+                .endDate(LocalDateTime.of(2024, 1, 5, 15, 0))
+                .recurrence(new MeetingSeries.Recurrence(MeetingSeries.Frequency.WEEKLY, 1, null, 52))
+                .lastEndDate(LocalDateTime.of(2024, 12, 27, 15, 0))
+                .build();
+        meetingIndex.put(series);
+        assertEquals(1, meetingIndex.seriesSize());
+        // 2024-11-08 is a Friday, like the first occurrence.
+        assertTrue(meetingIndex.hasOverlap(roomId, LocalDateTime.of(2024, 11, 8, 14, 30), LocalDateTime.of(2024, 11, 8, 16, 0)));
+        assertFalse(meetingIndex.hasOverlap(roomId, LocalDateTime.of(2024, 11, 7, 14, 30), LocalDateTime.of(2024, 11, 7, 16, 0)));
+        series.setState(Meeting.State.CANCELLED);
+        meetingIndex.put(series);
+        assertFalse(meetingIndex.hasOverlap(roomId, LocalDateTime.of(2024, 11, 8, 14, 30), LocalDateTime.of(2024, 11, 8, 16, 0)));
+    }
+
+    @Test
+    void testVerifyRebuildsDivergedRooms() {
+        when(meetingRepository.findAllByStateIsIn(anyList())).thenReturn(Stream.of(meeting), Stream.empty());
+        when(meetingRepository.findAllByRoomIdAndStateIsIn(eq(roomId), anyList())).thenReturn(Stream.empty());
+        when(meetingSeriesRepository.findAllByRoomIdAndStateIsIn(eq(roomId), anyList())).thenReturn(Stream.empty());
+        meetingIndex.load();
+        assertEquals(1, meetingIndex.verify());
+        assertEquals(0, meetingIndex.size());
+    }
+
+    @Test
+    void testVerifyKeepsMeetingBookedAfterSnapshot() {
+        when(meetingRepository.findAllByStateIsIn(anyList())).thenReturn(Stream.empty(), Stream.empty());
+        meetingIndex.load();
+        // Booked after the snapshot was read, so only the read of the room under its lock has it.
+        meetingIndex.put(meeting);
+        when(meetingRepository.findAllByRoomIdAndStateIsIn(eq(roomId), anyList())).thenReturn(Stream.of(meeting));
+        when(meetingSeriesRepository.findAllByRoomIdAndStateIsIn(eq(roomId), anyList())).thenReturn(Stream.empty());
+        assertEquals(0, meetingIndex.verify());
+        assertEquals(1, meetingIndex.size());
+        verify(roomLocks).withRoom(eq(roomId), any());
+    }
+
+    @Test
+    void testHasOverlapAmongManyLongMeetings() {
+        val start = LocalDateTime.of(2024, 11, 1, 0, 0);
+        // Long meetings, each ending before the next one starts, and one spanning the whole month.
+        for (var day = 0; day < 30; day++) {
+            meetingIndex.put(Meeting.builder()
+                    .host(UUID.randomUUID())
+                    .roomId(roomId)
+                    .title("Day " + day)
+                    .startDate(start.plusDays(day))
+                    .endDate(start.plusDays(day).plusHours(20))
+                    .build());
+        }
+        assertFalse(meetingIndex.hasOverlap(roomId, start.plusDays(10).plusHours(21), start.plusDays(10).plusHours(23)));
+        assertTrue(meetingIndex.hasOverlap(roomId, start.plusDays(10).plusHours(19), start.plusDays(10).plusHours(23)));
+        meetingIndex.put(Meeting.builder()
+                .host(UUID.randomUUID())
+                .roomId(roomId)
+                .title("Month")
+                .startDate(start.minusDays(1))
+                .endDate(start.plusDays(31))
+                .build());
+        assertTrue(meetingIndex.hasOverlap(roomId, start.plusDays(10).plusHours(21), start.plusDays(10).plusHours(23)));
+    }
+}
@@ -0,0 +1,137 @@
+package com.gitlab.walneyalves.meeting_rooms.tests.service;
+
+import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries;
+import com.gitlab.walneyalves.meeting_rooms.repository.MeetingRepository;
+import com.gitlab.walneyalves.meeting_rooms.repository.MeetingSeriesRepository;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.MeetingScheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.MeetingSeriesTransitionEvent;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.MeetingTransitionEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingSchedulerTests {
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private MeetingSeriesRepository meetingSeriesRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private MeetingScheduler meetingScheduler;
+
+    private Meeting dueMeeting;
+
+    private Meeting futureMeeting;
+
+    @BeforeEach
+    void setUp() {
+        dueMeeting = Meeting.builder()
+                .host(UUID.randomUUID())
+                .roomId(UUID.randomUUID())
+                .title("Due Meeting")
+                .startDate(LocalDateTime.now().minusMinutes(1))
+                .endDate(LocalDateTime.now().plusMinutes(30))
+                .build();
+        futureMeeting = Meeting.builder()
+                .host(UUID.randomUUID())
+                .roomId(UUID.randomUUID())
+                .title("Future Meeting")
+                .startDate(LocalDateTime.now().plusDays(30))
+                .endDate(LocalDateTime.now().plusDays(30).plusHours(1))
+                .build();
+    }
+
+    @Test
+    void testRefillSchedulesMeetingsInsideLookahead() {
+        when(meetingRepository.findAllByStateAndStartDateLessThanEqual(eq(Meeting.State.CREATED), any()))
+                .thenReturn(Stream.of(dueMeeting));
+        when(meetingRepository.findAllByStateAndEndDateLessThanEqual(eq(Meeting.State.IN_PROGRESS), any()))
+                .thenReturn(Stream.empty());
+        meetingScheduler.refill();
+        meetingScheduler.register(futureMeeting);
+        assertEquals(1, meetingScheduler.size());
+    }
+
+    @Test
+    void testFireDuePublishesStartTransitions() {
+        when(meetingRepository.findAllByStateAndStartDateLessThanEqual(eq(Meeting.State.CREATED), any()))
+                .thenReturn(Stream.of(dueMeeting));
+        when(meetingRepository.findAllByStateAndEndDateLessThanEqual(eq(Meeting.State.IN_PROGRESS), any()))
+                .thenReturn(Stream.empty());
+        meetingScheduler.refill();
+        assertEquals(1, meetingScheduler.fireDue());
+        verify(eventPublisher, times(1))
+                .publishEvent(new MeetingTransitionEvent(MeetingTransitionEvent.Kind.START, List.of(dueMeeting.getId())));
+        assertEquals(0, meetingScheduler.size());
+        assertEquals(1, meterRegistry.get("meeting.scheduler.refill.size").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("meeting.scheduler.fired").summary().totalAmount());
+    }
+
+    @Test
+    void testFireDuePublishesSeriesTransitionsApart() {
+        val series = MeetingSeries.builder()
+                .host(UUID.randomUUID())
+                .roomId(UUID.randomUUID())
+                .title("Daily")
+                .startDate(LocalDateTime.now().minusDays(10))
+                .endDate(LocalDateTime.now().minusDays(10).plusMinutes(30))
+                .recurrence(new MeetingSeries.Recurrence(MeetingSeries.Frequency.DAILY, 1, null, 100))
+                .lastEndDate(LocalDateTime.now().plusDays(90))
+                .nextStartDate(LocalDateTime.now().minusMinutes(1))
+                .nextEndDate(LocalDateTime.now().plusMinutes(29))
+                .build();
+        when(meetingRepository.findAllByStateAndStartDateLessThanEqual(eq(Meeting.State.CREATED), any()))
+                .thenReturn(Stream.of(dueMeeting));
+        when(meetingRepository.findAllByStateAndEndDateLessThanEqual(eq(Meeting.State.IN_PROGRESS), any()))
+                .thenReturn(Stream.empty());
+        when(meetingSeriesRepository.findAllByStateAndNextStartDateLessThanEqual(eq(Meeting.State.CREATED), any()))
+                .thenReturn(Stream.of(series));
+        when(meetingSeriesRepository.findAllByStateAndNextEndDateLessThanEqual(eq(Meeting.State.IN_PROGRESS), any()))
+                .thenReturn(Stream.empty());
+        meetingScheduler.refill();
+        assertEquals(2, meetingScheduler.fireDue());
+        verify(eventPublisher, times(1))
+                .publishEvent(new MeetingTransitionEvent(MeetingTransitionEvent.Kind.START, List.of(dueMeeting.getId())));
+        verify(eventPublisher, times(1))
+                .publishEvent(new MeetingSeriesTransitionEvent(MeetingTransitionEvent.Kind.START, List.of(series.getId())));
+    }
+
+    @Test
+    void testUnregisteredTransitionsAreNotFired() {
+        when(meetingRepository.findAllByStateAndStartDateLessThanEqual(eq(Meeting.State.CREATED), any()))
+                .thenReturn(Stream.of(dueMeeting));
+        when(meetingRepository.findAllByStateAndEndDateLessThanEqual(eq(Meeting.State.IN_PROGRESS), any()))
+                .thenReturn(Stream.empty());
+        meetingScheduler.refill();
+        dueMeeting.setState(Meeting.State.CANCELLED);
+        meetingScheduler.register(dueMeeting);
+        assertEquals(0, meetingScheduler.fireDue());
+        verifyNoInteractions(eventPublisher);
+    }
+}
@@ -0,0 +1,304 @@
+package com.gitlab.walneyalves.meeting_rooms.tests.service;
+
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingSeriesCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.MeetingResponse;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.MeetingSeriesResponse;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.RoomResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
+import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries;
+import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import com.gitlab.walneyalves.meeting_rooms.repository.MeetingRepository;
+import com.gitlab.walneyalves.meeting_rooms.repository.MeetingSeriesRepository;
+import com.gitlab.walneyalves.meeting_rooms.service.MeetingSeriesService;
+import com.gitlab.walneyalves.meeting_rooms.service.MeetingService;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.MeetingIndex;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.MeetingScheduler;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.MeetingSeriesTransitionEvent;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.MeetingTransitionEvent;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.Occurrences;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.OptimisticBooking;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.RoomLocks;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.SlotClaims;
+import com.gitlab.walneyalves.meeting_rooms.service.room.RoomService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingSeriesServiceTests {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MeetingSeriesRepository meetingSeriesRepository;
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private MeetingIndex meetingIndex;
+
+    @Mock
+    private MeetingScheduler meetingScheduler;
+
+    @Mock
+    private RoomService roomService;
+
+    @Mock
+    private OptimisticBooking optimisticBooking;
+
+    @Mock(answer = Answers.RETURNS_SELF)
+    private BulkOperations bulkOperations;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private RoomLocks roomLocks = new RoomLocks(new SimpleMeterRegistry());
+
+    @Mock
+    private SlotClaims slotClaims;
+
+    @InjectMocks
+    private MeetingSeriesService meetingSeriesService;
+
+    private UUID hostId;
+
+    private Room room;
+
+    private LocalDateTime first;
+
+    @BeforeEach
+    void setUp() {
+        hostId = UUID.randomUUID();
+        room = Room
+                .builder()
+                .name("Main Room")
+                .initialAvailability(LocalTime.of(8, 0))
+                .finalAvailability(LocalTime.of(18, 0))
+                .available(true)
+                .build();
+        first = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    void testCreate() {
+        val request = new MeetingSeriesCreateRequest("Stand-up", null, first, first.plusMinutes(15),
+                MeetingSeries.Frequency.WEEKLY, null, null, 10);
+        when(roomService.isTimeRangeSupported(eq(room), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(true);
+        when(optimisticBooking.book(eq(List.of(room.getId())), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        when(meetingSeriesRepository.save(any(MeetingSeries.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        val created = meetingSeriesService.create(request, room, hostId);
+        assertEquals(new MeetingSeries.Recurrence(MeetingSeries.Frequency.WEEKLY, 1, null, 10), created.getRecurrence());
+        assertEquals(first, created.getNextStartDate());
+        assertEquals(first.plusWeeks(9).plusMinutes(15), created.getLastEndDate());
+        // Checked against Mongo, where the bookings of every node are, with one query over the whole series.
+        verify(meetingRepository, times(1)).findAllOverlapping(eq(List.of(room.getId())), anyList(), eq(first), eq(created.getLastEndDate()));
+        verify(meetingIndex, never()).hasOverlap(any(), any(), any());
+        verify(meetingIndex, times(1)).put(created);
+        verify(meetingScheduler, times(1)).register(created);
+    }
+
+    @Test
+    void testCreateRejectsConflictingOccurrence() {
+        val request = new MeetingSeriesCreateRequest("Stand-up", null, first, first.plusMinutes(15),
+                MeetingSeries.Frequency.DAILY, 1, first.plusDays(30), null);
+        when(roomService.isTimeRangeSupported(eq(room), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(true);
+        when(optimisticBooking.book(eq(List.of(room.getId())), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        when(meetingRepository.findAllOverlapping(anyCollection(), anyList(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> List.of(Meeting.builder()
+                        .host(UUID.randomUUID())
+                        .roomId(room.getId())
+                        .title("Planning")
+                        .startDate(first.plusDays(12).withHour(8))
+                        .endDate(first.plusDays(12).withHour(9))
+                        .build()).stream());
+        val exception = assertThrows(MeetingRoomsException.class, () -> meetingSeriesService.create(request, room, hostId));
+        assertEquals(RoomResponse.UNAVAILABLE.getCode(), exception.getCode());
+        verify(meetingSeriesRepository, never()).save(any(MeetingSeries.class));
+    }
+
+    @Test
+    void testCreateRejectedByIndex() {
+        val request = new MeetingSeriesCreateRequest("Stand-up", null, first, first.plusMinutes(15),
+                MeetingSeries.Frequency.DAILY, 1, null, 5);
+        when(roomService.isTimeRangeSupported(eq(room), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(true);
+        when(optimisticBooking.book(eq(List.of(room.getId())), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        when(meetingIndex.isReady()).thenReturn(true);
+        when(meetingIndex.hasOverlap(eq(room.getId()), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> first.plusDays(3).equals(invocation.getArgument(1)));
+        val exception = assertThrows(MeetingRoomsException.class, () -> meetingSeriesService.create(request, room, hostId));
+        assertEquals(RoomResponse.UNAVAILABLE.getCode(), exception.getCode());
+        verify(meetingIndex, times(4)).hasOverlap(eq(room.getId()), any(LocalDateTime.class), any(LocalDateTime.class));
+        verifyNoInteractions(meetingRepository, meetingSeriesRepository);
+    }
+
+    @Test
+    void testCreateRejectsInvalidRecurrence() {
+        when(roomService.isTimeRangeSupported(eq(room), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(true);
+        for (val request : List.of(
+                new MeetingSeriesCreateRequest("Both", null, first, first.plusHours(1), MeetingSeries.Frequency.DAILY, 1, first.plusDays(5), 5),
+                new MeetingSeriesCreateRequest("Neither", null, first, first.plusHours(1), MeetingSeries.Frequency.DAILY, 1, null, null),
+                new MeetingSeriesCreateRequest("Zero interval", null, first, first.plusHours(1), MeetingSeries.Frequency.DAILY, 0, null, 5),
+                new MeetingSeriesCreateRequest("Too many", null, first, first.plusHours(1), MeetingSeries.Frequency.DAILY, 1, null, 5000))) {
+            val exception = assertThrows(MeetingRoomsException.class, () -> meetingSeriesService.create(request, room, hostId));
+            assertEquals(MeetingSeriesResponse.INVALID_RECURRENCE.getCode(), exception.getCode(), request.title());
+        }
+        val overnight = new MeetingSeriesCreateRequest("Overnight", null, first, first.plusDays(1),
+                MeetingSeries.Frequency.WEEKLY, 1, null, 5);
+        val exception = assertThrows(MeetingRoomsException.class, () -> meetingSeriesService.create(overnight, room, hostId));
+        assertEquals(MeetingResponse.INVALID_TIME_RANGE.getCode(), exception.getCode());
+    }
+
+    @Test
+    void testSkipNextOccurrence() {
+        val series = series(first, 3);
+        val query = ArgumentCaptor.forClass(Query.class);
+        val update = ArgumentCaptor.forClass(Update.class);
+        when(mongoTemplate.findAndModify(query.capture(), update.capture(), any(FindAndModifyOptions.class), eq(MeetingSeries.class)))
+                .thenReturn(series);
+        assertSame(series, meetingSeriesService.skip(series, first.toLocalDate()));
+        assertEquals(new Document("id", series.getId()).append("state", Meeting.State.CREATED).append("nextStartDate", first),
+                query.getValue().getQueryObject());
+        assertEquals(new Document("$addToSet", new Document("exceptions", first.toLocalDate()))
+                        .append("$set", new Document("state", Meeting.State.CREATED)
+                                .append("nextStartDate", first.plusWeeks(1))
+                                .append("nextEndDate", first.plusWeeks(1).plusMinutes(15))),
+                update.getValue().getUpdateObject());
+        verify(meetingScheduler, times(1)).register(series);
+        verify(meetingSeriesRepository, never()).save(any(MeetingSeries.class));
+        val exception = assertThrows(MeetingRoomsException.class, () -> meetingSeriesService.skip(series, first.plusDays(1).toLocalDate()));
+        assertEquals(MeetingSeriesResponse.NOT_AN_OCCURRENCE.getCode(), exception.getCode());
+    }
+
+    @Test
+    void testSkipRejectedWhenSeriesChangedMeanwhile() {
+        val series = series(first, 3);
+        val exception = assertThrows(MeetingRoomsException.class, () -> meetingSeriesService.skip(series, first.plusWeeks(1).toLocalDate()));
+        assertEquals(MeetingSeriesResponse.INVALID_STATE.getCode(), exception.getCode());
+        verifyNoInteractions(meetingIndex, meetingScheduler, slotClaims);
+    }
+
+    @Test
+    void testCancel() {
+        val series = series(first, 3);
+        val query = ArgumentCaptor.forClass(Query.class);
+        val update = ArgumentCaptor.forClass(Update.class);
+        when(mongoTemplate.findAndModify(query.capture(), update.capture(), any(FindAndModifyOptions.class), eq(MeetingSeries.class)))
+                .thenReturn(series);
+        meetingSeriesService.cancel(series);
+        assertEquals(new Document("id", series.getId()).append("state", new Document("$in", MeetingService.ACTIVE_STATES)),
+                query.getValue().getQueryObject());
+        assertEquals(new Document("$set", new Document("state", Meeting.State.CANCELLED)
+                        .append("nextStartDate", null).append("nextEndDate", null)),
+                update.getValue().getUpdateObject());
+        verify(slotClaims, times(1)).release(List.of(series.getId()));
+        verify(meetingScheduler, times(1)).register(series);
+    }
+
+    @Test
+    void testEndTransitionMovesToNextOccurrence() {
+        val series = series(LocalDateTime.now().minusWeeks(1).minusHours(1), 3);
+        series.setState(Meeting.State.IN_PROGRESS);
+        series.setNextStartDate(series.getStartDate().plusWeeks(1));
+        series.setNextEndDate(series.getEndDate().plusWeeks(1));
+        val ended = series(LocalDateTime.now().minusHours(1), 1);
+        ended.setState(Meeting.State.IN_PROGRESS);
+        val ids = List.of(series.getId(), ended.getId());
+        when(meetingSeriesRepository.findAllById(ids)).thenReturn(List.of(series, ended));
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), any(Class.class))).thenReturn(bulkOperations);
+        when(mongoTemplate.findDistinct(any(Query.class), eq("id"), eq(MeetingSeries.class), eq(UUID.class)))
+                .thenReturn(List.of(series.getId(), ended.getId()));
+        meetingSeriesService.onTransition(new MeetingSeriesTransitionEvent(MeetingTransitionEvent.Kind.END, ids));
+        assertEquals(Meeting.State.CREATED, series.getState());
+        assertEquals(series.getStartDate().plusWeeks(2), series.getNextStartDate());
+        assertEquals(Meeting.State.ENDED, ended.getState());
+        assertNull(ended.getNextStartDate());
+        verify(bulkOperations, times(2)).updateOne(any(), any());
+        verify(meetingScheduler, times(1)).register(series);
+        verify(meetingScheduler, times(1)).register(ended);
+        verify(slotClaims, times(1)).releaseBefore(eq(List.of(series.getId(), ended.getId())), any(LocalDateTime.class));
+    }
+
+    @Test
+    void testEndTransitionSkipsSeriesChangedMeanwhile() {
+        val series = series(LocalDateTime.now().minusHours(1), 3);
+        series.setState(Meeting.State.IN_PROGRESS);
+        val cancelled = series(LocalDateTime.now().minusHours(1), 3);
+        cancelled.setState(Meeting.State.IN_PROGRESS);
+        val ids = List.of(series.getId(), cancelled.getId());
+        val query = ArgumentCaptor.forClass(Query.class);
+        when(meetingSeriesRepository.findAllById(ids)).thenReturn(List.of(series, cancelled));
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), any(Class.class))).thenReturn(bulkOperations);
+        when(mongoTemplate.findDistinct(query.capture(), eq("id"), eq(MeetingSeries.class), eq(UUID.class)))
+                .thenReturn(List.of(series.getId()));
+        meetingSeriesService.onTransition(new MeetingSeriesTransitionEvent(MeetingTransitionEvent.Kind.END, ids));
+        assertEquals(new Document("$or", List.of(new Document("id", new Document("$in", ids)).append("state", Meeting.State.CREATED))),
+                query.getValue().getQueryObject());
+        verify(meetingIndex, times(1)).put(series);
+        verify(meetingScheduler, times(1)).register(series);
+        verify(meetingIndex, never()).put(cancelled);
+        verify(meetingScheduler, never()).register(cancelled);
+        verify(slotClaims, times(1)).releaseBefore(eq(List.of(series.getId())), any(LocalDateTime.class));
+        assertEquals(1.0, meterRegistry.get("meeting.series.transition.batch.size").tag("state", "ended").summary().totalAmount());
+    }
+
+    @Test
+    void testStartTransitionOfOneOccurrence() {
+        val series = series(LocalDateTime.now().minusMinutes(1), 5);
+        when(meetingSeriesRepository.findAllById(List.of(series.getId()))).thenReturn(List.of(series));
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), any(Class.class))).thenReturn(bulkOperations);
+        when(mongoTemplate.findDistinct(any(Query.class), eq("id"), eq(MeetingSeries.class), eq(UUID.class)))
+                .thenReturn(List.of(series.getId()));
+        meetingSeriesService.onTransition(new MeetingSeriesTransitionEvent(MeetingTransitionEvent.Kind.START, List.of(series.getId())));
+        assertEquals(Meeting.State.IN_PROGRESS, series.getState());
+        assertEquals(series.getStartDate(), series.getNextStartDate());
+        assertEquals(1, meterRegistry.get("meeting.series.transition.lag").tag("state", "in_progress").timer().count());
+    }
+
+    private MeetingSeries series(LocalDateTime start, int count) {
+        val recurrence = new MeetingSeries.Recurrence(MeetingSeries.Frequency.WEEKLY, 1, null, count);
+        return MeetingSeries.builder()
+                .host(hostId)
+                .roomId(room.getId())
+                .title("Stand-up")
+                .startDate(start)
+                .endDate(start.plusMinutes(15))
+                .recurrence(recurrence)
+                .exceptions(new HashSet<>())
+                .lastEndDate(Occurrences.lastEnd(start, start.plusMinutes(15), recurrence))
+                .nextStartDate(start)
+                .nextEndDate(start.plusMinutes(15))
+                .build();
+    }
+}
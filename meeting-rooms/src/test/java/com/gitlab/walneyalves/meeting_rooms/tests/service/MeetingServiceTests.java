@@ -1,27 +1,60 @@
 package com.gitlab.walneyalves.meeting_rooms.tests.service;
 
 import com.gitlab.walneyalves.meeting_rooms.domain.filter.MeetingFilter;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.Cursor;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingBulkCreateRequest;
 import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingPatchRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.ItemError;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.MeetingResponse;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.RoomResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsBatchException;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
 import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries;
 import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import com.gitlab.walneyalves.meeting_rooms.model.room.RoomBookingVersion;
 import com.gitlab.walneyalves.meeting_rooms.repository.MeetingRepository;
+import com.gitlab.walneyalves.meeting_rooms.repository.MeetingSeriesRepository;
 import com.gitlab.walneyalves.meeting_rooms.service.MeetingService;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.MeetingIndex;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.MeetingScheduler;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.OptimisticBooking;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.RoomLocks;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.SlotClaims;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.MeetingTransitionEvent;
 import com.gitlab.walneyalves.meeting_rooms.service.room.RoomService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.val;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -34,11 +67,35 @@ class MeetingServiceTests {
     private MeetingRepository meetingRepository;
 
     @Mock
-    private RoomService roomService;
+    private MeetingSeriesRepository meetingSeriesRepository;
 
     @Mock
     private MongoTemplate mongoTemplate;
 
+    @Mock
+    private MeetingIndex meetingIndex;
+
+    @Mock
+    private MeetingScheduler meetingScheduler;
+
+    @Mock
+    private RoomService roomService;
+
+    @Mock
+    private OptimisticBooking optimisticBooking;
+
+    @Mock(answer = Answers.RETURNS_SELF)
+    private BulkOperations bulkOperations;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private RoomLocks roomLocks = new RoomLocks(new SimpleMeterRegistry());
+
+    @Mock
+    private SlotClaims slotClaims;
+
     @InjectMocks
     private MeetingService meetingService;
 
@@ -90,13 +147,147 @@ class MeetingServiceTests {
     }
 
     @Test
-    void testCreateMeeting() {
-        when(meetingRepository.save(any(Meeting.class))).thenReturn(meetingCreated);
-        val createdMeeting = meetingService.create(createRequest, room, hostId);
-        assertNotNull(createdMeeting);
-        assertEquals("New Meeting", createdMeeting.getTitle());
-        assertEquals(roomId, createdMeeting.getRoomId());
-        verify(meetingRepository, times(1)).save(any(Meeting.class));
+    void testBook() {
+        bookWithoutContention();
+        when(meetingRepository.save(any(Meeting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        val booked = meetingService.book(createRequest, room, hostId).orElseThrow();
+        assertEquals("New Meeting", booked.getTitle());
+        assertEquals(roomId, booked.getRoomId());
+        assertEquals(createRequest.startDate(), booked.getStartDate());
+        verify(meetingRepository, times(1)).existsOverlapping(roomId, MeetingService.ACTIVE_STATES, createRequest.startDate(), createRequest.endDate());
+        verify(meetingIndex, never()).hasOverlap(any(), any(), any());
+        verify(roomLocks, times(1)).withRoom(eq(roomId), any());
+        verify(optimisticBooking, times(1)).book(eq(List.of(roomId)), any(), any());
+        verify(meetingIndex, times(1)).put(booked);
+        verify(meetingScheduler, times(1)).register(booked);
+    }
+
+    @Test
+    void testBookRejectsOverlap() {
+        bookWithoutContention();
+        when(meetingRepository.existsOverlapping(roomId, MeetingService.ACTIVE_STATES, createRequest.startDate(), createRequest.endDate()))
+                .thenReturn(true);
+        assertTrue(meetingService.book(createRequest, room, hostId).isEmpty());
+        verify(meetingRepository, never()).save(any(Meeting.class));
+        verify(meetingScheduler, never()).register(any(Meeting.class));
+    }
+
+    @Test
+    void testBookLosesSlotClaim() {
+        when(slotClaims.isEnabled()).thenReturn(true);
+        when(meetingRepository.save(any(Meeting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(slotClaims.book(any(), any(), any())).thenAnswer(invocation -> {
+            val booked = invocation.<Supplier<Optional<Meeting>>>getArgument(0).get().orElseThrow();
+            val claims = invocation.<Function<Meeting, List<SlotClaims.Claim>>>getArgument(1).apply(booked);
+            assertEquals(List.of(new SlotClaims.Claim(booked.getId(), roomId, booked.getStartDate(), booked.getEndDate())), claims);
+            invocation.<Consumer<Meeting>>getArgument(2).accept(booked);
+            return Optional.empty();
+        });
+        assertTrue(meetingService.book(createRequest, room, hostId).isEmpty());
+        verify(meetingRepository, times(1)).delete(any(Meeting.class));
+        verify(meetingIndex, times(1)).remove(any(Meeting.class));
+        verifyNoInteractions(optimisticBooking, meetingScheduler);
+    }
+
+    @Test
+    void testBookOnTwoNodesRejectsSameSlot() {
+        // One database, written and read through the same repository, and two nodes with their own index and locks.
+        val stored = new ArrayList<Meeting>();
+        when(meetingRepository.save(any(Meeting.class))).thenAnswer(invocation -> {
+            stored.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(meetingRepository.existsOverlapping(eq(roomId), anyList(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> stored.stream().anyMatch(meeting -> !meeting.getStartDate().isAfter(invocation.getArgument(3))
+                        && !meeting.getEndDate().isBefore(invocation.getArgument(2))));
+        when(mongoTemplate.find(any(Query.class), eq(RoomBookingVersion.class))).thenReturn(List.of());
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(RoomBookingVersion.class)))
+                .thenReturn(RoomBookingVersion.builder().roomId(roomId).version(1L).build());
+        val firstIndex = new MeetingIndex(meetingRepository, meetingSeriesRepository, meterRegistry, new RoomLocks(meterRegistry));
+        val secondIndex = new MeetingIndex(meetingRepository, meetingSeriesRepository, meterRegistry, new RoomLocks(meterRegistry));
+        firstIndex.load();
+        secondIndex.load();
+        assertTrue(node(firstIndex).book(createRequest, room, hostId).isPresent());
+        assertFalse(secondIndex.hasOverlap(roomId, createRequest.startDate(), createRequest.endDate()));
+        assertTrue(node(secondIndex).book(createRequest, room, UUID.randomUUID()).isEmpty());
+        assertEquals(1, stored.size());
+    }
+
+    private MeetingService node(MeetingIndex index) {
+        return new MeetingService(mongoTemplate, meetingRepository, index, meetingScheduler, meterRegistry, roomService,
+                meetingSeriesRepository, new OptimisticBooking(mongoTemplate, meterRegistry), new RoomLocks(meterRegistry), slotClaims);
+    }
+
+    @Test
+    void testCreateAll() {
+        val day = LocalDateTime.of(2030, 1, 7, 0, 0);
+        val requests = List.of(
+                new MeetingBulkCreateRequest(roomId, "Onboarding 1", null, day.withHour(9), day.withHour(10)),
+                new MeetingBulkCreateRequest(roomId, "Onboarding 2", null, day.withHour(11), day.withHour(12)));
+        when(roomService.getAll(Set.of(roomId))).thenReturn(List.of(room));
+        when(roomService.isTimeRangeSupported(eq(room), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(true);
+        bookWithoutContention();
+        when(meetingRepository.findAllOverlapping(Set.of(roomId), List.of(Meeting.State.CREATED, Meeting.State.IN_PROGRESS),
+                day.withHour(9), day.withHour(12))).thenReturn(Stream.of(storedMeeting(day.withHour(10).withMinute(30), day.withHour(10).withMinute(45))));
+        when(mongoTemplate.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        val created = meetingService.createAll(requests, hostId);
+        assertEquals(List.of("Onboarding 1", "Onboarding 2"), created.stream().map(Meeting::getTitle).toList());
+        assertTrue(created.stream().allMatch(meeting -> meeting.getHost().equals(hostId)));
+        verify(mongoTemplate, times(1)).insertAll(anyList());
+        verify(meetingIndex, times(2)).put(any(Meeting.class));
+        verify(meetingScheduler, times(2)).register(any(Meeting.class));
+    }
+
+    @Test
+    void testCreateAllRejectsWholeBatch() {
+        val day = LocalDateTime.of(2030, 1, 7, 0, 0);
+        val unknownRoomId = UUID.randomUUID();
+        val requests = List.of(
+                new MeetingBulkCreateRequest(roomId, "Free", null, day.withHour(8), day.withHour(9)),
+                new MeetingBulkCreateRequest(roomId, "Stored conflict", null, day.withHour(10), day.withHour(11)),
+                new MeetingBulkCreateRequest(roomId, "Batch conflict A", null, day.withHour(13), day.withHour(15)),
+                new MeetingBulkCreateRequest(roomId, "Batch conflict B", null, day.withHour(14), day.withHour(16)),
+                new MeetingBulkCreateRequest(unknownRoomId, "Unknown room", null, day.withHour(8), day.withHour(9)),
+                new MeetingBulkCreateRequest(roomId, "Reversed", null, day.withHour(12), day.withHour(11)));
+        when(roomService.getAll(Set.of(roomId, unknownRoomId))).thenReturn(List.of(room));
+        when(roomService.isTimeRangeSupported(eq(room), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(true);
+        bookWithoutContention();
+        when(meetingRepository.findAllOverlapping(anyCollection(), anyList(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Stream.of(storedMeeting(day.withHour(9).withMinute(30), day.withHour(10).withMinute(15))));
+        val exception = assertThrows(MeetingRoomsBatchException.class, () -> meetingService.createAll(requests, hostId));
+        assertEquals(MeetingResponse.INVALID_BATCH.getCode(), exception.getCode());
+        assertEquals(List.of(
+                ItemError.of(1, RoomResponse.UNAVAILABLE),
+                ItemError.of(2, MeetingResponse.OVERLAPPING_BATCH),
+                ItemError.of(3, MeetingResponse.OVERLAPPING_BATCH),
+                ItemError.of(4, RoomResponse.NOT_FOUND),
+                ItemError.of(5, MeetingResponse.INVALID_TIME_RANGE)), exception.getErrors());
+        verify(mongoTemplate, never()).insertAll(anyList());
+        verify(meetingIndex, never()).put(any(Meeting.class));
+    }
+
+    @Test
+    void testCreateAllRejectsSeriesOccurrence() {
+        val day = LocalDateTime.of(2030, 1, 7, 0, 0);
+        val requests = List.of(
+                new MeetingBulkCreateRequest(roomId, "Free", null, day.withHour(8), day.withHour(9)),
+                new MeetingBulkCreateRequest(roomId, "Stand-up conflict", null, day.withHour(9).withMinute(30), day.withHour(11)));
+        when(roomService.getAll(Set.of(roomId))).thenReturn(List.of(room));
+        when(roomService.isTimeRangeSupported(eq(room), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(true);
+        bookWithoutContention();
+        when(meetingRepository.findAllOverlapping(anyCollection(), anyList(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Stream.empty());
+        when(meetingSeriesRepository.findAllSpanning(anyCollection(), anyList(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Stream.of(weeklySeries(day.minusWeeks(10).withHour(10))));
+        val exception = assertThrows(MeetingRoomsBatchException.class, () -> meetingService.createAll(requests, hostId));
+        assertEquals(List.of(ItemError.of(1, RoomResponse.UNAVAILABLE)), exception.getErrors());
+    }
+
+    @Test
+    void testCreateAllRejectsEmptyBatch() {
+        val exception = assertThrows(MeetingRoomsException.class, () -> meetingService.createAll(List.of(), hostId));
+        assertEquals(MeetingResponse.INVALID_BATCH_SIZE.getCode(), exception.getCode());
+        verify(roomService, never()).getAll(anyCollection());
     }
 
     @Test
@@ -118,28 +309,226 @@ class MeetingServiceTests {
 
     @Test
     void testUpdateMeetingTitle() {
-        val newTitle = "Updated Title";
-        when(meetingRepository.save(any(Meeting.class))).thenReturn(meeting);
-        val updatedMeeting = meetingService.updateTitle(meeting, newTitle);
-        assertEquals(newTitle, updatedMeeting.getTitle());
-        verify(meetingRepository, times(1)).save(meeting);
+        val update = ArgumentCaptor.forClass(Update.class);
+        when(mongoTemplate.findAndModify(any(Query.class), update.capture(), any(FindAndModifyOptions.class), eq(Meeting.class)))
+                .thenReturn(meeting);
+        assertEquals(meeting, meetingService.updateTitle(meetingId, hostId, "Updated Title"));
+        assertEquals(new Document("$set", new Document("title", "Updated Title")), update.getValue().getUpdateObject());
+        verify(meetingRepository, never()).findById(any());
+        verify(meetingRepository, never()).save(any(Meeting.class));
+    }
+
+    @Test
+    void testUpdateMeetingTitleOfAnotherHost() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Meeting.class)))
+                .thenReturn(null);
+        when(meetingRepository.findById(meetingId)).thenReturn(Optional.of(meeting));
+        val exception = assertThrows(MeetingRoomsException.class,
+                () -> meetingService.updateTitle(meetingId, UUID.randomUUID(), "Updated Title"));
+        assertEquals(MeetingResponse.INSUFFICIENT_PRIVILEGES.getCode(), exception.getCode());
+    }
+
+    @Test
+    void testUpdateMeetingTitleNotFound() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Meeting.class)))
+                .thenReturn(null);
+        when(meetingRepository.findById(meetingId)).thenReturn(Optional.empty());
+        val exception = assertThrows(MeetingRoomsException.class, () -> meetingService.updateTitle(meetingId, hostId, "Updated Title"));
+        assertEquals(MeetingResponse.NOT_FOUND.getCode(), exception.getCode());
     }
 
     @Test
     void testUpdateMeetingDescription() {
-        val newDescription = "Updated Description";
-        when(meetingRepository.save(any(Meeting.class))).thenReturn(meeting);
-        val updatedMeeting = meetingService.updateDescription(meeting, newDescription);
-        assertEquals(newDescription, updatedMeeting.getDescription());
-        verify(meetingRepository, times(1)).save(meeting);
+        val update = ArgumentCaptor.forClass(Update.class);
+        when(mongoTemplate.findAndModify(any(Query.class), update.capture(), any(FindAndModifyOptions.class), eq(Meeting.class)))
+                .thenReturn(meeting);
+        meetingService.updateDescription(meetingId, hostId, "Updated Description");
+        meetingService.updateDescription(meetingId, hostId, null);
+        assertEquals(new Document("$set", new Document("description", "Updated Description")), update.getAllValues().get(0).getUpdateObject());
+        assertEquals(new Document("$unset", new Document("description", 1)), update.getAllValues().get(1).getUpdateObject());
+    }
+
+    @Test
+    void testUpdateMeetingDuration() {
+        val start = meeting.getStartDate().plusHours(1);
+        val end = meeting.getEndDate().plusHours(1);
+        val moved = Meeting.builder().id(meetingId).host(hostId).title(meeting.getTitle()).roomId(roomId).startDate(start).endDate(end).build();
+        val query = ArgumentCaptor.forClass(Query.class);
+        val update = ArgumentCaptor.forClass(Update.class);
+        stubRoomHours(true);
+        bookWithoutContention();
+        when(mongoTemplate.findAndModify(query.capture(), update.capture(), any(FindAndModifyOptions.class), eq(Meeting.class)))
+                .thenReturn(moved);
+        val updatedMeeting = meetingService.updateDuration(meeting, start, end);
+        assertEquals(start, updatedMeeting.getStartDate());
+        assertEquals(end, updatedMeeting.getEndDate());
+        assertEquals(Meeting.State.CREATED, query.getValue().getQueryObject().get("state"));
+        assertEquals(new Document("$set", new Document("startDate", start).append("endDate", end)), update.getValue().getUpdateObject());
+        verify(roomLocks, times(1)).withRoom(eq(meeting.getRoomId()), any());
+        verify(meetingRepository, times(1)).existsOverlappingOther(meetingId, roomId, MeetingService.ACTIVE_STATES, start, end);
+        verify(optimisticBooking, times(1)).book(eq(List.of(roomId)), any(), any());
+        verify(meetingIndex, times(1)).put(moved);
+        verify(meetingScheduler, times(1)).register(moved);
+    }
+
+    @Test
+    void testUpdateMeetingDurationRejectsOverlap() {
+        val start = meeting.getStartDate().plusHours(1);
+        val end = meeting.getEndDate().plusHours(1);
+        stubRoomHours(true);
+        bookWithoutContention();
+        when(meetingRepository.existsOverlappingOther(meetingId, roomId, MeetingService.ACTIVE_STATES, start, end)).thenReturn(true);
+        val exception = assertThrows(MeetingRoomsException.class, () -> meetingService.updateDuration(meeting, start, end));
+        assertEquals(RoomResponse.UNAVAILABLE.getCode(), exception.getCode());
+        verify(slotClaims, never()).move(any());
+        verifyNoInteractions(mongoTemplate, meetingIndex);
+    }
+
+    @Test
+    void testUpdateMeetingDurationRejectsOverlappingSeries() {
+        val start = LocalDateTime.of(2029, 12, 3, 10, 0);
+        val end = start.plusHours(1);
+        stubRoomHours(true);
+        bookWithoutContention();
+        when(meetingSeriesRepository.findAllSpanning(eq(List.of(roomId)), anyList(), eq(start), eq(end)))
+                .thenAnswer(invocation -> Stream.of(weeklySeries(start)));
+        val exception = assertThrows(MeetingRoomsException.class, () -> meetingService.updateDuration(meeting, start, end));
+        assertEquals(RoomResponse.UNAVAILABLE.getCode(), exception.getCode());
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void testUpdateMeetingDurationRejectsRangeOutsideRoomHours() {
+        val start = meeting.getStartDate().plusHours(1);
+        val end = meeting.getEndDate().plusHours(1);
+        stubRoomHours(false);
+        val exception = assertThrows(MeetingRoomsException.class, () -> meetingService.updateDuration(meeting, start, end));
+        assertEquals(MeetingResponse.INVALID_TIME_RANGE.getCode(), exception.getCode());
+        verify(roomLocks, times(1)).withRoom(eq(roomId), any());
+        verifyNoInteractions(meetingRepository, mongoTemplate);
+    }
+
+    @Test
+    void testUpdateMeetingDurationRejectsEndBeforeStart() {
+        val exception = assertThrows(MeetingRoomsException.class,
+                () -> meetingService.updateDuration(meeting, meeting.getEndDate(), meeting.getStartDate()));
+        assertEquals(MeetingResponse.INVALID_TIME_RANGE.getCode(), exception.getCode());
+        verifyNoInteractions(roomLocks, meetingRepository, mongoTemplate);
+    }
+
+    @Test
+    void testUpdateMeetingDurationAfterStartKeepsSlots() {
+        val start = meeting.getStartDate().plusHours(1);
+        val end = meeting.getEndDate().plusHours(1);
+        stubRoomHours(true);
+        when(slotClaims.isEnabled()).thenReturn(true);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Meeting.class)))
+                .thenReturn(null);
+        val exception = assertThrows(MeetingRoomsException.class, () -> meetingService.updateDuration(meeting, start, end));
+        assertEquals(MeetingResponse.INVALID_STATE.getCode(), exception.getCode());
+        verify(slotClaims, never()).move(any());
+        verifyNoInteractions(meetingIndex);
+    }
+
+    @Test
+    void testUpdateMeetingDurationRestoresDatesWhenSlotsAreTaken() {
+        val start = meeting.getStartDate().plusHours(1);
+        val end = meeting.getEndDate().plusHours(1);
+        val moved = Meeting.builder().id(meetingId).host(hostId).title(meeting.getTitle()).roomId(roomId).startDate(start).endDate(end).build();
+        val restore = ArgumentCaptor.forClass(Update.class);
+        stubRoomHours(true);
+        when(slotClaims.isEnabled()).thenReturn(true);
+        when(slotClaims.move(SlotClaims.Claim.of(moved))).thenReturn(false);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Meeting.class)))
+                .thenReturn(moved);
+        val exception = assertThrows(MeetingRoomsException.class, () -> meetingService.updateDuration(meeting, start, end));
+        assertEquals(RoomResponse.UNAVAILABLE.getCode(), exception.getCode());
+        verify(mongoTemplate, times(1)).updateFirst(any(Query.class), restore.capture(), eq(Meeting.class));
+        assertEquals(new Document("$set", new Document("startDate", meeting.getStartDate()).append("endDate", meeting.getEndDate())),
+                restore.getValue().getUpdateObject());
+        verifyNoInteractions(meetingIndex, optimisticBooking);
+    }
+
+    @Test
+    void testUpdateMeetingDurationRestoresDatesOnContention() {
+        val start = meeting.getStartDate().plusHours(1);
+        val end = meeting.getEndDate().plusHours(1);
+        val moved = Meeting.builder().id(meetingId).host(hostId).title(meeting.getTitle()).roomId(roomId).startDate(start).endDate(end).build();
+        val restore = ArgumentCaptor.forClass(Update.class);
+        stubRoomHours(true);
+        when(optimisticBooking.book(eq(List.of(roomId)), any(), any())).thenAnswer(invocation -> {
+            Consumer<Meeting> undo = invocation.getArgument(2);
+            invocation.<Supplier<Optional<Meeting>>>getArgument(1).get().ifPresent(undo);
+            throw new MeetingRoomsException(MeetingResponse.BOOKING_CONTENDED);
+        });
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Meeting.class)))
+                .thenReturn(moved);
+        val exception = assertThrows(MeetingRoomsException.class, () -> meetingService.updateDuration(meeting, start, end));
+        assertEquals(MeetingResponse.BOOKING_CONTENDED.getCode(), exception.getCode());
+        verify(mongoTemplate, times(1)).updateFirst(any(Query.class), restore.capture(), eq(Meeting.class));
+        assertEquals(new Document("$set", new Document("startDate", meeting.getStartDate()).append("endDate", meeting.getEndDate())),
+                restore.getValue().getUpdateObject());
+        verifyNoInteractions(meetingIndex, meetingScheduler);
+    }
+
+    @Test
+    void testPatchMeeting() {
+        val patch = new MeetingPatchRequest();
+        patch.setTitle(Optional.of("Patched"));
+        patch.setDescription(Optional.empty());
+        patch.setEndDate(Optional.of(meeting.getEndDate().plusHours(1)));
+        stubRoomHours(true);
+        bookWithoutContention();
+        val update = ArgumentCaptor.forClass(Update.class);
+        when(mongoTemplate.findAndModify(any(Query.class), update.capture(), any(FindAndModifyOptions.class), eq(Meeting.class)))
+                .thenReturn(meeting);
+        meetingService.patch(meeting, patch);
+        assertEquals(new Document("$set", new Document("title", "Patched")
+                        .append("startDate", meeting.getStartDate())
+                        .append("endDate", meeting.getEndDate().plusHours(1)))
+                        .append("$unset", new Document("description", 1)),
+                update.getValue().getUpdateObject());
+        verify(mongoTemplate, times(1)).findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Meeting.class));
+        verify(roomLocks, times(1)).withRoom(eq(roomId), any());
+        verify(meetingIndex, times(1)).put(meeting);
+    }
+
+    @Test
+    void testPatchMeetingWithoutDatesSkipsLock() {
+        val patch = new MeetingPatchRequest();
+        patch.setDescription(Optional.of("Patched"));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Meeting.class)))
+                .thenReturn(meeting);
+        meetingService.patch(meeting, patch);
+        verify(roomLocks, never()).withRoom(any(), any());
+        verifyNoInteractions(meetingIndex);
+    }
+
+    @Test
+    void testPatchMeetingRejectsInvalidFields() {
+        val removedTitle = new MeetingPatchRequest();
+        removedTitle.setTitle(Optional.empty());
+        assertEquals(MeetingResponse.INVALID_PATCH.getCode(),
+                assertThrows(MeetingRoomsException.class, () -> meetingService.patch(meeting, removedTitle)).getCode());
+        val endBeforeStart = new MeetingPatchRequest();
+        endBeforeStart.setEndDate(Optional.of(meeting.getStartDate().minusHours(1)));
+        assertEquals(MeetingResponse.INVALID_TIME_RANGE.getCode(),
+                assertThrows(MeetingRoomsException.class, () -> meetingService.patch(meeting, endBeforeStart)).getCode());
+        meeting.setState(Meeting.State.IN_PROGRESS);
+        val started = new MeetingPatchRequest();
+        started.setStartDate(Optional.of(meeting.getStartDate().plusMinutes(5)));
+        assertEquals(MeetingResponse.INVALID_STATE.getCode(),
+                assertThrows(MeetingRoomsException.class, () -> meetingService.patch(meeting, started)).getCode());
+        verifyNoInteractions(mongoTemplate);
     }
 
     @Test
     void testCancelMeeting() {
-        when(meetingRepository.save(any(Meeting.class))).thenReturn(meeting);
         meetingService.cancel(meeting);
         assertEquals(Meeting.State.CANCELLED, meeting.getState());
-        verify(meetingRepository, times(1)).save(meeting);
+        verify(mongoTemplate, times(1)).updateFirst(any(Query.class), eq(Update.update("state", Meeting.State.CANCELLED)), eq(Meeting.class));
+        verify(meetingRepository, never()).save(any(Meeting.class));
+        verify(slotClaims, times(1)).release(List.of(meetingId));
     }
 
     @Test
@@ -152,10 +541,48 @@ class MeetingServiceTests {
 
     @Test
     void testHasMeetingInTimeRange() {
-        when(meetingRepository.findAllByStateIsIn(anyList())).thenReturn(Stream.of(meeting));
+        when(meetingRepository.existsOverlapping(eq(roomId), anyList(), eq(meeting.getStartDate()), eq(meeting.getEndDate())))
+                .thenReturn(true);
         val hasMeeting = meetingService.hasMeeting(room, meeting.getStartDate(), meeting.getEndDate());
         assertTrue(hasMeeting);
-        verify(meetingRepository, times(1)).findAllByStateIsIn(anyList());
+        verify(meetingRepository, never()).findAllByStateIsIn(anyList());
+    }
+
+    @Test
+    void testHasMeetingChecksSeriesOccurrences() {
+        val start = LocalDateTime.of(2030, 1, 7, 10, 30);
+        when(meetingRepository.existsOverlapping(eq(roomId), anyList(), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(false);
+        when(meetingSeriesRepository.findAllSpanning(eq(List.of(roomId)), anyList(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> Stream.of(weeklySeries(LocalDateTime.of(2029, 12, 3, 10, 0))));
+        assertTrue(meetingService.hasMeeting(room, start, start.plusHours(1)));
+        assertFalse(meetingService.hasMeeting(room, start.plusDays(1), start.plusDays(1).plusHours(1)));
+    }
+
+    @Test
+    void testHasMeetingUsesIndexWhenReady() {
+        when(meetingIndex.isReady()).thenReturn(true);
+        when(meetingIndex.hasOverlap(roomId, meeting.getStartDate(), meeting.getEndDate())).thenReturn(true);
+        assertTrue(meetingService.hasMeeting(room, meeting.getStartDate(), meeting.getEndDate()));
+        verify(meetingRepository, never()).existsOverlapping(any(), anyList(), any(), any());
+    }
+
+    @Test
+    void testHasMeetingAsksMongoWhenIndexHasNone() {
+        // A booking of another node the index has not learned of yet.
+        when(meetingIndex.isReady()).thenReturn(true);
+        when(meetingRepository.existsOverlapping(roomId, MeetingService.ACTIVE_STATES, meeting.getStartDate(), meeting.getEndDate()))
+                .thenReturn(true);
+        assertTrue(meetingService.hasMeeting(room, meeting.getStartDate(), meeting.getEndDate()));
+        verify(meetingIndex, times(1)).hasOverlap(roomId, meeting.getStartDate(), meeting.getEndDate());
+    }
+
+    @Test
+    void testBookRejectedByIndex() {
+        bookWithoutContention();
+        when(meetingIndex.isReady()).thenReturn(true);
+        when(meetingIndex.hasOverlap(roomId, createRequest.startDate(), createRequest.endDate())).thenReturn(true);
+        assertTrue(meetingService.book(createRequest, room, hostId).isEmpty());
+        verifyNoInteractions(meetingRepository, meetingSeriesRepository);
     }
 
     @Test
@@ -169,13 +596,114 @@ class MeetingServiceTests {
     }
 
     @Test
-    void testStartMeetingsTask() {
-        when(meetingRepository.findAllByStateIsIn(anyList())).thenReturn(Stream.of(meetingCreated));
-        when(roomService.get(roomId)).thenReturn(Optional.of(room));
-        when(meetingRepository.save(any(Meeting.class))).thenReturn(meetingCreated);
-        meetingService.startMeetingsTask();
+    void testGetMeetingsSlice() {
+        val pageable = PageRequest.of(0, 1);
+        val filter = new MeetingFilter(null, null);
+        when(mongoTemplate.find(any(), eq(Meeting.class))).thenReturn(new ArrayList<>(List.of(meeting, meetingCreated)));
+        val meetings = meetingService.getMeetingsSlice(hostId, filter, pageable);
+        assertEquals(1, meetings.getNumberOfElements());
+        assertTrue(meetings.hasNext());
+        verify(mongoTemplate, never()).count(any(), eq(Meeting.class));
+    }
+
+    @Test
+    void testGetMeetingsAfterCursor() {
+        val filter = new MeetingFilter(null, null);
+        when(mongoTemplate.find(any(), eq(Meeting.class))).thenReturn(new ArrayList<>(List.of(meetingCreated, meeting)));
+        val page = meetingService.getMeetingsAfter(hostId, filter, null, 1);
+        assertEquals(List.of(meetingCreated), page.content());
+        val next = Cursor.decode(page.next()).orElseThrow();
+        assertEquals(meetingCreated.getId(), next.id());
+        assertEquals(meetingCreated.getStartDate().toString(), next.key());
+    }
+
+    @Test
+    void testGetMeetingsAfterInvalidCursor() {
+        val filter = new MeetingFilter(null, null);
+        val cursor = new Cursor("not-a-date", meetingId);
+        assertThrows(MeetingRoomsException.class, () -> meetingService.getMeetingsAfter(hostId, filter, cursor, 10));
+    }
+
+    @Test
+    void testStartTransition() {
+        when(meetingRepository.findAllById(List.of(meetingCreated.getId()))).thenReturn(List.of(meetingCreated));
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), any(Class.class))).thenReturn(bulkOperations);
+        when(mongoTemplate.findDistinct(any(Query.class), eq("id"), eq(Meeting.class), eq(UUID.class)))
+                .thenReturn(List.of(meetingCreated.getId()));
+        meetingService.onTransition(new MeetingTransitionEvent(MeetingTransitionEvent.Kind.START, List.of(meetingCreated.getId())));
         assertEquals(Meeting.State.IN_PROGRESS, meetingCreated.getState());
-        verify(roomService, times(1)).updateAvailable(any(Room.class), eq(false));
-        verify(meetingRepository, times(1)).save(meetingCreated);
+        verify(mongoTemplate, times(1)).bulkOps(BulkOperations.BulkMode.UNORDERED, Meeting.class);
+        verify(mongoTemplate, never()).bulkOps(BulkOperations.BulkMode.UNORDERED, Room.class);
+        verify(bulkOperations, times(1)).execute();
+        verify(meetingRepository, never()).save(any(Meeting.class));
+        verify(meetingScheduler, times(1)).register(meetingCreated);
+        assertEquals(1, meterRegistry.get("meeting.transition.batch.size").summary().count());
+        assertEquals(1, meterRegistry.get("meeting.transition.lag").tag("state", "in_progress").timer().count());
+    }
+
+    @Test
+    void testEndTransitionOnlyChangesWrittenMeetings() {
+        meetingCreated.setState(Meeting.State.IN_PROGRESS);
+        meetingCreated.setEndDate(LocalDateTime.now().minusMinutes(1));
+        val cancelled = storedMeeting(LocalDateTime.now().minusHours(1), LocalDateTime.now().minusMinutes(2));
+        cancelled.setState(Meeting.State.IN_PROGRESS);
+        val ids = List.of(meetingCreated.getId(), cancelled.getId());
+        when(meetingRepository.findAllById(ids)).thenReturn(List.of(meetingCreated, cancelled));
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), any(Class.class))).thenReturn(bulkOperations);
+        // The other meeting was cancelled after it was read, so the write left it out.
+        when(mongoTemplate.findDistinct(any(Query.class), eq("id"), eq(Meeting.class), eq(UUID.class)))
+                .thenReturn(List.of(meetingCreated.getId()));
+        meetingService.onTransition(new MeetingTransitionEvent(MeetingTransitionEvent.Kind.END, ids));
+        assertEquals(Meeting.State.ENDED, meetingCreated.getState());
+        assertEquals(Meeting.State.IN_PROGRESS, cancelled.getState());
+        verify(meetingIndex).put(meetingCreated);
+        verify(meetingIndex, never()).put(cancelled);
+        verify(slotClaims).release(List.of(meetingCreated.getId()));
+        assertEquals(1, meterRegistry.get("meeting.transition.batch.size").tag("state", "ended").summary().totalAmount());
+    }
+
+    @Test
+    void testEndTransitionNotDueIsRescheduled() {
+        meetingCreated.setState(Meeting.State.IN_PROGRESS);
+        when(meetingRepository.findAllById(List.of(meetingCreated.getId()))).thenReturn(List.of(meetingCreated));
+        meetingService.onTransition(new MeetingTransitionEvent(MeetingTransitionEvent.Kind.END, List.of(meetingCreated.getId())));
+        assertEquals(Meeting.State.IN_PROGRESS, meetingCreated.getState());
+        verify(meetingRepository, never()).save(any(Meeting.class));
+        verify(meetingScheduler, times(1)).register(meetingCreated);
+    }
+
+    private MeetingSeries weeklySeries(LocalDateTime first) {
+        return MeetingSeries.builder()
+                .host(UUID.randomUUID())
+                .roomId(roomId)
+                .title("Stand-up")
+                .startDate(first)
+                .endDate(first.plusHours(1))
+                .recurrence(new MeetingSeries.Recurrence(MeetingSeries.Frequency.WEEKLY, 1, null, 52))
+                .lastEndDate(first.plusWeeks(51).plusHours(1))
+                .build();
+    }
+
+    private Meeting storedMeeting(LocalDateTime start, LocalDateTime end) {
+        return Meeting.builder()
+                .host(UUID.randomUUID())
+                .roomId(roomId)
+                .title("Stored Meeting")
+                .startDate(start)
+                .endDate(end)
+                .build();
+    }
+
+    private void stubRoomHours(boolean supported) {
+        when(roomService.get(roomId)).thenReturn(Optional.of(room));
+        when(roomService.isTimeRangeSupported(eq(room), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(supported);
+    }
+
+    /**
+     * Runs every booking once, as if no other booking of the room committed meanwhile.
+     */
+    private void bookWithoutContention() {
+        when(optimisticBooking.book(anyCollection(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
     }
-}
\ No newline at end of file
+}
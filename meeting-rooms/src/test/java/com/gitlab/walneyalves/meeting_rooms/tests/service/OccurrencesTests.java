@@ -0,0 +1,96 @@
+package com.gitlab.walneyalves.meeting_rooms.tests.service;
+
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries;
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries.Frequency;
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries.Recurrence;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.Occurrences;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.Occurrences.Occurrence;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OccurrencesTests {
+
+    // A Monday.
+    private static final LocalDateTime FIRST = LocalDateTime.of(2030, 1, 7, 9, 0);
+
+    @Test
+    void testBetweenSkipsToTheWindow() {
+        val series = series(new Recurrence(Frequency.WEEKLY, 1, null, 520), Set.of());
+        val from = FIRST.plusWeeks(300).minusDays(1);
+        assertEquals(List.of(occurrence(FIRST.plusWeeks(300)), occurrence(FIRST.plusWeeks(301))),
+                Occurrences.between(series, from, from.plusWeeks(2)).toList());
+    }
+
+    @Test
+    void testBetweenIncludesTouchingOccurrences() {
+        val series = series(new Recurrence(Frequency.DAILY, 2, null, 10), Set.of());
+        assertEquals(List.of(occurrence(FIRST.plusDays(2))),
+                Occurrences.between(series, FIRST.plusDays(2).plusMinutes(30), FIRST.plusDays(4).minusMinutes(1)).toList());
+        assertTrue(Occurrences.overlaps(series, FIRST.plusDays(4).minusHours(1), FIRST.plusDays(4)));
+        assertFalse(Occurrences.overlaps(series, FIRST.plusDays(3), FIRST.plusDays(3).plusHours(8)));
+    }
+
+    @Test
+    void testBetweenStopsAtCountAndUntil() {
+        val counted = series(new Recurrence(Frequency.WEEKLY, 1, null, 3), Set.of());
+        assertEquals(3, Occurrences.between(counted, FIRST, FIRST.plusYears(1)).count());
+        val until = series(new Recurrence(Frequency.WEEKLY, 1, FIRST.plusWeeks(2), null), Set.of());
+        assertEquals(3, Occurrences.between(until, FIRST, FIRST.plusYears(1)).count());
+        assertEquals(3, Occurrences.size(FIRST, until.getRecurrence()));
+        assertEquals(FIRST.plusWeeks(2).plusHours(1), until.getLastEndDate());
+    }
+
+    @Test
+    void testBetweenSkipsExceptions() {
+        val series = series(new Recurrence(Frequency.WEEKLY, 1, null, 4), Set.of(FIRST.plusWeeks(1).toLocalDate()));
+        assertEquals(List.of(occurrence(FIRST), occurrence(FIRST.plusWeeks(2)), occurrence(FIRST.plusWeeks(3))),
+                Occurrences.between(series, FIRST, FIRST.plusWeeks(4)).toList());
+        assertEquals(Optional.of(occurrence(FIRST.plusWeeks(2))), Occurrences.after(series, FIRST));
+    }
+
+    @Test
+    void testMonthlyFallsOnTheLastDayOfShortMonths() {
+        val first = LocalDateTime.of(2030, 1, 31, 9, 0);
+        val series = MeetingSeries.builder()
+                .host(UUID.randomUUID())
+                .roomId(UUID.randomUUID())
+                .title("Monthly")
+                .startDate(first)
+                .endDate(first.plusHours(1))
+                .recurrence(new Recurrence(Frequency.MONTHLY, 1, null, 3))
+                .lastEndDate(Occurrences.lastEnd(first, first.plusHours(1), new Recurrence(Frequency.MONTHLY, 1, null, 3)))
+                .build();
+        assertEquals(List.of(LocalDate.of(2030, 1, 31), LocalDate.of(2030, 2, 28), LocalDate.of(2030, 3, 31)),
+                Occurrences.between(series, first, series.getLastEndDate())
+                        .map(occurrence -> occurrence.startDate().toLocalDate())
+                        .toList());
+        assertEquals(Optional.of(LocalDate.of(2030, 3, 31)), Occurrences.next(series, LocalDateTime.of(2030, 3, 1, 0, 0))
+                .map(occurrence -> occurrence.startDate().toLocalDate()));
+    }
+
+    private static MeetingSeries series(Recurrence recurrence, Set<LocalDate> exceptions) {
+        return MeetingSeries.builder()
+                .host(UUID.randomUUID())
+                .roomId(UUID.randomUUID())
+                .title("Stand-up")
+                .startDate(FIRST)
+                .endDate(FIRST.plusHours(1))
+                .recurrence(recurrence)
+                .exceptions(exceptions)
+                .lastEndDate(Occurrences.lastEnd(FIRST, FIRST.plusHours(1), recurrence))
+                .build();
+    }
+
+    private static Occurrence occurrence(LocalDateTime start) {
+        return new Occurrence(start, start.plusHours(1));
+    }
+}
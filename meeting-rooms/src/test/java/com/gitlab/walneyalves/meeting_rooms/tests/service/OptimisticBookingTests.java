@@ -0,0 +1,94 @@
+package com.gitlab.walneyalves.meeting_rooms.tests.service;
+
+import com.gitlab.walneyalves.meeting_rooms.domain.response.MeetingResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
+import com.gitlab.walneyalves.meeting_rooms.model.room.RoomBookingVersion;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.OptimisticBooking;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OptimisticBookingTests {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private OptimisticBooking optimisticBooking;
+
+    private final UUID roomId = UUID.randomUUID();
+
+    @Test
+    void testBookCommitsWhenVersionUnchanged() {
+        when(mongoTemplate.find(any(Query.class), eq(RoomBookingVersion.class)))
+                .thenReturn(List.of(RoomBookingVersion.builder().roomId(roomId).version(3L).build()));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(RoomBookingVersion.class)))
+                .thenReturn(RoomBookingVersion.builder().roomId(roomId).version(4L).build());
+        val undone = new ArrayList<String>();
+        assertEquals(Optional.of("booked"), optimisticBooking.book(List.of(roomId), () -> Optional.of("booked"), undone::add));
+        assertTrue(undone.isEmpty());
+        assertEquals(0, meterRegistry.counter("meeting.booking.conflicts").count());
+        assertEquals(1, meterRegistry.summary("meeting.booking.retries").count());
+    }
+
+    @Test
+    void testBookRetriesAfterLostClaim() {
+        when(mongoTemplate.find(any(Query.class), eq(RoomBookingVersion.class))).thenReturn(List.of());
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(RoomBookingVersion.class)))
+                .thenThrow(new DuplicateKeyException("roomId"))
+                .thenReturn(RoomBookingVersion.builder().roomId(roomId).version(1L).build());
+        val undone = new ArrayList<String>();
+        val attempts = new ArrayList<String>();
+        val booked = optimisticBooking.book(List.of(roomId), () -> {
+            attempts.add("attempt-" + attempts.size());
+            return Optional.of(attempts.getLast());
+        }, undone::add);
+        assertEquals(Optional.of("attempt-1"), booked);
+        assertEquals(List.of("attempt-0"), undone);
+        assertEquals(1, meterRegistry.counter("meeting.booking.conflicts").count());
+        assertEquals(1, meterRegistry.summary("meeting.booking.retries").totalAmount());
+    }
+
+    @Test
+    void testBookSkipsClaimWhenCheckFails() {
+        when(mongoTemplate.find(any(Query.class), eq(RoomBookingVersion.class))).thenReturn(List.of());
+        assertTrue(optimisticBooking.book(List.of(roomId), Optional::<String>empty, booked -> fail()).isEmpty());
+        verify(mongoTemplate, never()).findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(RoomBookingVersion.class));
+    }
+
+    @Test
+    void testBookGivesUpWhenContended() {
+        when(mongoTemplate.find(any(Query.class), eq(RoomBookingVersion.class))).thenReturn(List.of());
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(RoomBookingVersion.class)))
+                .thenReturn(null);
+        val undone = new ArrayList<String>();
+        val exception = assertThrows(MeetingRoomsException.class,
+                () -> optimisticBooking.book(List.of(roomId), () -> Optional.of("booked"), undone::add));
+        assertEquals(MeetingResponse.BOOKING_CONTENDED.getCode(), exception.getCode());
+        assertEquals(6, undone.size());
+        assertEquals(6, meterRegistry.counter("meeting.booking.conflicts").count());
+    }
+}
@@ -0,0 +1,49 @@
+package com.gitlab.walneyalves.meeting_rooms.tests.service;
+
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.OverlapSweep;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.OverlapSweep.Overlap;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.OverlapSweep.Range;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OverlapSweepTests {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 7, 0, 0);
+
+    @Test
+    void testNoOverlap() {
+        val requested = List.of(range(0, 9, 10), range(1, 11, 12));
+        assertTrue(OverlapSweep.overlaps(requested, List.of(range(-1, 13, 14))).isEmpty());
+    }
+
+    @Test
+    void testTouchingRangesOverlap() {
+        val requested = List.of(range(0, 9, 10), range(1, 10, 11));
+        assertEquals(Map.of(0, Overlap.REQUESTED, 1, Overlap.REQUESTED), OverlapSweep.overlaps(requested, List.of()));
+    }
+
+    @Test
+    void testStoredOverlapBeforeAndAfter() {
+        val requested = List.of(range(0, 9, 11), range(1, 14, 15), range(2, 16, 17));
+        val stored = List.of(range(-1, 8, 9), range(-1, 15, 16));
+        assertEquals(Map.of(0, Overlap.STORED, 1, Overlap.STORED, 2, Overlap.STORED), OverlapSweep.overlaps(requested, stored));
+    }
+
+    @Test
+    void testStoredOverlapWinsOverRequested() {
+        // The long range overlaps the stored meeting and the two short ones, which do not overlap each other.
+        val requested = List.of(range(0, 8, 17), range(1, 9, 10), range(2, 12, 13));
+        val stored = List.of(range(-1, 16, 18));
+        assertEquals(Map.of(0, Overlap.STORED, 1, Overlap.REQUESTED, 2, Overlap.REQUESTED), OverlapSweep.overlaps(requested, stored));
+    }
+
+    private static Range range(int index, int startHour, int endHour) {
+        return new Range(index, DAY.withHour(startHour), DAY.withHour(endHour));
+    }
+}
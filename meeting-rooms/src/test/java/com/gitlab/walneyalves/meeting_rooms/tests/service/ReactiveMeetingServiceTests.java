@@ -0,0 +1,132 @@
+package com.gitlab.walneyalves.meeting_rooms.tests.service;
+
+import com.gitlab.walneyalves.meeting_rooms.domain.filter.MeetingFilter;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.Cursor;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.MeetingCreateRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.MeetingResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
+import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import com.gitlab.walneyalves.meeting_rooms.reactive.repository.ReactiveMeetingRepository;
+import com.gitlab.walneyalves.meeting_rooms.reactive.service.ReactiveMeetingService;
+import com.gitlab.walneyalves.meeting_rooms.service.MeetingService;
+import lombok.val;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveMeetingServiceTests {
+
+    @Mock
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Mock
+    private ReactiveMeetingRepository meetingRepository;
+
+    @Mock
+    private MeetingService meetingService;
+
+    @InjectMocks
+    private ReactiveMeetingService reactiveMeetingService;
+
+    private Room room;
+
+    private LocalDateTime start;
+
+    private LocalDateTime end;
+
+    @BeforeEach
+    void setUp() {
+        room = Room.builder()
+                .id(UUID.randomUUID())
+                .name("Main Room")
+                .initialAvailability(LocalTime.of(8, 0))
+                .finalAvailability(LocalTime.of(18, 0))
+                .build();
+        start = LocalDateTime.now().plusHours(1);
+        end = start.plusHours(1);
+    }
+
+    @Test
+    void testBookGoesThroughBlockingService() {
+        val request = new MeetingCreateRequest("New Meeting", null, start, end);
+        val host = UUID.randomUUID();
+        val meeting = Meeting.builder().host(host).roomId(room.getId()).title(request.title()).startDate(start).endDate(end).build();
+        when(meetingService.book(request, room, host)).thenReturn(Optional.of(meeting), Optional.empty());
+
+        StepVerifier.create(reactiveMeetingService.book(request, room, host)).expectNext(meeting).verifyComplete();
+        StepVerifier.create(reactiveMeetingService.book(request, room, host)).verifyComplete();
+        verifyNoInteractions(meetingRepository);
+    }
+
+    @Test
+    void testCancelGoesThroughBlockingService() {
+        val meeting = Meeting.builder().host(UUID.randomUUID()).roomId(room.getId()).title("Planning").startDate(start).endDate(end).build();
+        StepVerifier.create(reactiveMeetingService.cancel(meeting)).expectNext(meeting).verifyComplete();
+        verify(meetingService, times(1)).cancel(meeting);
+        verifyNoInteractions(meetingRepository);
+    }
+
+    @Test
+    void testUpdateDurationGoesThroughBlockingService() {
+        val meeting = Meeting.builder().host(UUID.randomUUID()).roomId(room.getId()).title("Planning").startDate(start).endDate(end).build();
+        val moved = Meeting.builder().host(meeting.getHost()).roomId(room.getId()).title("Planning").startDate(end).endDate(end.plusHours(1)).build();
+        when(meetingService.updateDuration(meeting, end, end.plusHours(1))).thenReturn(moved);
+        StepVerifier.create(reactiveMeetingService.updateDuration(meeting, end, end.plusHours(1))).expectNext(moved).verifyComplete();
+        verifyNoInteractions(meetingRepository);
+    }
+
+    @Test
+    void testGetMeetingsAfterInvalidCursor() {
+        val cursor = new Cursor("not-a-date", UUID.randomUUID());
+        StepVerifier.create(reactiveMeetingService.getMeetingsAfter(UUID.randomUUID(), new MeetingFilter(null, null), cursor, 10))
+                .expectError(MeetingRoomsException.class)
+                .verify();
+        verifyNoInteractions(reactiveMongoTemplate);
+    }
+
+    @Test
+    void testUpdateTitleSetsField() {
+        val meeting = Meeting.builder().host(UUID.randomUUID()).roomId(room.getId()).title("Planning").startDate(start).endDate(end).build();
+        val update = ArgumentCaptor.forClass(Update.class);
+        when(reactiveMongoTemplate.findAndModify(any(Query.class), update.capture(), any(FindAndModifyOptions.class), eq(Meeting.class)))
+                .thenReturn(Mono.just(meeting));
+        StepVerifier.create(reactiveMeetingService.updateTitle(meeting.getId(), meeting.getHost(), "Review"))
+                .expectNext(meeting)
+                .verifyComplete();
+        assertEquals(new Document("$set", new Document("title", "Review")), update.getValue().getUpdateObject());
+        verify(meetingRepository, never()).save(any(Meeting.class));
+    }
+
+    @Test
+    void testUpdateDescriptionOfAnotherHost() {
+        val id = UUID.randomUUID();
+        when(reactiveMongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Meeting.class)))
+                .thenReturn(Mono.empty());
+        when(meetingRepository.existsById(id)).thenReturn(Mono.just(true));
+        StepVerifier.create(reactiveMeetingService.updateDescription(id, UUID.randomUUID(), null))
+                .expectErrorMatches(error -> error instanceof MeetingRoomsException exception
+                        && exception.getCode() == MeetingResponse.INSUFFICIENT_PRIVILEGES.getCode())
+                .verify();
+    }
+}
@@ -0,0 +1,222 @@
+package com.gitlab.walneyalves.meeting_rooms.tests.service;
+
+import com.gitlab.walneyalves.meeting_rooms.configuration.CacheConfiguration;
+import com.gitlab.walneyalves.meeting_rooms.domain.filter.RoomFilter;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.RoomResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
+import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries;
+import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import com.gitlab.walneyalves.meeting_rooms.reactive.repository.ReactiveRoomRepository;
+import com.gitlab.walneyalves.meeting_rooms.reactive.service.ReactiveRoomService;
+import com.gitlab.walneyalves.meeting_rooms.service.room.RoomService;
+import lombok.val;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveRoomServiceTests {
+
+    @Mock
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Mock
+    private ReactiveRoomRepository roomRepository;
+
+    @Mock
+    private RoomService roomService;
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfiguration.ROOMS);
+
+    @InjectMocks
+    private ReactiveRoomService reactiveRoomService;
+
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        room = Room.builder()
+                .id(UUID.randomUUID())
+                .name("Main Room")
+                .initialAvailability(LocalTime.of(8, 0))
+                .finalAvailability(LocalTime.of(18, 0))
+                .available(true)
+                .capacity(10)
+                .build();
+    }
+
+    @Test
+    void testGetReadsThroughCache() {
+        when(roomRepository.findById(room.getId())).thenReturn(Mono.just(room));
+        StepVerifier.create(reactiveRoomService.get(room.getId())).expectNext(room).verifyComplete();
+        StepVerifier.create(reactiveRoomService.get(room.getId())).expectNext(room).verifyComplete();
+        verify(roomRepository, times(1)).findById(room.getId());
+    }
+
+    @Test
+    void testUpdateNameEvictsCachedRoom() {
+        val rooms = cacheManager.getCache(CacheConfiguration.ROOMS);
+        rooms.put(room.getId(), room);
+        val query = ArgumentCaptor.forClass(Query.class);
+        val update = ArgumentCaptor.forClass(Update.class);
+        inUse();
+        when(reactiveMongoTemplate.findAndModify(query.capture(), update.capture(), any(FindAndModifyOptions.class), eq(Room.class)))
+                .thenReturn(Mono.just(room));
+        StepVerifier.create(reactiveRoomService.updateName(room.getId(), "Updated Room")).expectNext(room).verifyComplete();
+        assertEquals(true, query.getValue().getQueryObject().get("available"));
+        assertEquals(new Document("$set", new Document("name", "Updated Room")), update.getValue().getUpdateObject());
+        assertEquals("Main Room", room.getName());
+        assertNull(rooms.get(room.getId()));
+        verify(roomRepository, never()).save(any());
+    }
+
+    @Test
+    void testUpdateNameWhenFlaggedUnavailable() {
+        inUse();
+        when(reactiveMongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Room.class)))
+                .thenReturn(Mono.empty());
+        room.setAvailable(false);
+        when(roomRepository.findById(room.getId())).thenReturn(Mono.just(room));
+        StepVerifier.create(reactiveRoomService.updateName(room.getId(), "Updated Room"))
+                .expectErrorMatches(error -> error instanceof MeetingRoomsException exception
+                        && exception.getCode() == RoomResponse.UNAVAILABLE.getCode())
+                .verify();
+    }
+
+    @Test
+    void testUpdateRoomCapacityInvalid() {
+        when(roomService.isValidCapacity(-1)).thenReturn(false);
+        StepVerifier.create(reactiveRoomService.updateCapacity(room.getId(), -1))
+                .expectError(MeetingRoomsException.class)
+                .verify();
+        verifyNoInteractions(reactiveMongoTemplate);
+    }
+
+    @Test
+    void testUpdateRoomCapacityReturnsWrittenCapacity() {
+        when(roomService.isValidCapacity(15)).thenReturn(true);
+        inUse();
+        val written = Room.builder()
+                .id(room.getId())
+                .name(room.getName())
+                .initialAvailability(room.getInitialAvailability())
+                .finalAvailability(room.getFinalAvailability())
+                .available(true)
+                .capacity(15)
+                .build();
+        when(reactiveMongoTemplate.findAndModify(any(Query.class), eq(Update.update("capacity", 15)), any(FindAndModifyOptions.class), eq(Room.class)))
+                .thenReturn(Mono.just(written));
+        StepVerifier.create(reactiveRoomService.updateCapacity(room.getId(), 15))
+                .assertNext(updated -> assertEquals(15, updated.getCapacity()))
+                .verifyComplete();
+    }
+
+    @Test
+    void testUpdateRoomCapacityUnchanged() {
+        val query = ArgumentCaptor.forClass(Query.class);
+        when(roomService.isValidCapacity(10)).thenReturn(true);
+        inUse();
+        when(reactiveMongoTemplate.findAndModify(query.capture(), any(Update.class), any(FindAndModifyOptions.class), eq(Room.class)))
+                .thenReturn(Mono.empty());
+        when(roomRepository.findById(room.getId())).thenReturn(Mono.just(room));
+        StepVerifier.create(reactiveRoomService.updateCapacity(room.getId(), 10))
+                .expectErrorMatches(error -> error instanceof MeetingRoomsException exception
+                        && exception.getCode() == RoomResponse.INVALID_CAPACITY.getCode())
+                .verify();
+        assertEquals(new Document("$ne", 10), query.getValue().getQueryObject().get("capacity"));
+    }
+
+    @Test
+    void testGetAllSkipsCountOnPartialPage() {
+        val filter = new RoomFilter(null, true, null, null);
+        inUse();
+        when(reactiveMongoTemplate.find(any(Query.class), eq(Room.class))).thenReturn(Flux.just(room));
+        when(reactiveMongoTemplate.count(any(Query.class), eq(Room.class))).thenReturn(Mono.error(new IllegalStateException("count not needed")));
+
+        StepVerifier.create(reactiveRoomService.getAll(PageRequest.of(0, 5), filter))
+                .assertNext(page -> {
+                    assertEquals(1, page.getTotalElements());
+                    assertEquals(room, page.getContent().get(0));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetAllAfterAvailableExcludesInUse() {
+        val inUse = UUID.randomUUID();
+        val query = ArgumentCaptor.forClass(Query.class);
+        inUse(inUse);
+        when(reactiveMongoTemplate.find(query.capture(), eq(Room.class))).thenReturn(Flux.just(room));
+
+        StepVerifier.create(reactiveRoomService.getAllAfter(new RoomFilter(null, true, null, null), null, 10))
+                .assertNext(page -> assertEquals(1, page.content().size()))
+                .verifyComplete();
+        val available = query.getValue().getQueryObject().getList("$and", Document.class).get(0);
+        assertEquals(Set.of(inUse), available.get("id", Document.class).get("$nin"));
+    }
+
+    @Test
+    void testIsAvailableWhenInUse() {
+        val query = ArgumentCaptor.forClass(Query.class);
+        when(reactiveMongoTemplate.findDistinct(query.capture(), eq("roomId"), eq(Meeting.class), eq(UUID.class)))
+                .thenReturn(Flux.just(room.getId()));
+        when(reactiveMongoTemplate.findDistinct(any(Query.class), eq("roomId"), eq(MeetingSeries.class), eq(UUID.class)))
+                .thenReturn(Flux.empty());
+        StepVerifier.create(reactiveRoomService.isAvailable(room)).expectNext(false).verifyComplete();
+        assertEquals(new Document("$in", List.of(room.getId())), query.getValue().getQueryObject().get("roomId"));
+        room.setAvailable(false);
+        StepVerifier.create(reactiveRoomService.isAvailable(room)).expectNext(false).verifyComplete();
+        verify(reactiveMongoTemplate, times(1)).findDistinct(any(Query.class), eq("roomId"), eq(Meeting.class), eq(UUID.class));
+        verifyNoInteractions(roomService);
+    }
+
+    @Test
+    void testGetAllSliceHasNext() {
+        val other = Room.builder()
+                .name("Other Room")
+                .initialAvailability(LocalTime.of(8, 0))
+                .finalAvailability(LocalTime.of(18, 0))
+                .build();
+        when(reactiveMongoTemplate.find(any(Query.class), eq(Room.class))).thenReturn(Flux.just(room, other));
+
+        StepVerifier.create(reactiveRoomService.getAllSlice(PageRequest.of(0, 1), new RoomFilter(null, null, null, null)))
+                .assertNext(slice -> {
+                    assertTrue(slice.hasNext());
+                    assertEquals(1, slice.getNumberOfElements());
+                })
+                .verifyComplete();
+    }
+
+    private void inUse(UUID... roomIds) {
+        when(reactiveMongoTemplate.findDistinct(any(Query.class), eq("roomId"), eq(Meeting.class), eq(UUID.class)))
+                .thenReturn(Flux.just(roomIds));
+        when(reactiveMongoTemplate.findDistinct(any(Query.class), eq("roomId"), eq(MeetingSeries.class), eq(UUID.class)))
+                .thenReturn(Flux.empty());
+    }
+}
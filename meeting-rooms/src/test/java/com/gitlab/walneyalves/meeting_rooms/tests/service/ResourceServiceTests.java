@@ -1,20 +1,35 @@
 package com.gitlab.walneyalves.meeting_rooms.tests.service;
 
+import com.gitlab.walneyalves.meeting_rooms.configuration.CacheConfiguration;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.ResourcePatchRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.ResourceResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
 import com.gitlab.walneyalves.meeting_rooms.model.Resource;
 import com.gitlab.walneyalves.meeting_rooms.repository.ResourceRepository;
 import com.gitlab.walneyalves.meeting_rooms.service.ResourceService;
+import com.gitlab.walneyalves.meeting_rooms.service.room.RoomResourceTypes;
 import lombok.val;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,6 +41,15 @@ class ResourceServiceTests {
     @Mock
     private ResourceRepository resourceRepository;
 
+    @Mock
+    private RoomResourceTypes roomResourceTypes;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfiguration.RESOURCES);
+
     @InjectMocks
     private ResourceService resourceService;
 
@@ -85,22 +109,73 @@ class ResourceServiceTests {
         verify(resourceRepository, times(1)).findAll(pageable);
     }
 
+    @Test
+    void testGetResourcesByIds() {
+        when(resourceRepository.findAllById(Set.of(resourceId))).thenReturn(List.of(resource));
+        assertEquals(List.of(resource), resourceService.getAll(Set.of(resourceId)));
+        assertEquals(List.of(), resourceService.getAll(Set.of()));
+        verify(resourceRepository, times(1)).findAllById(anyCollection());
+    }
+
     @Test
     void testUpdateResourceName() {
         val newName = "Updated Resource";
-        when(resourceRepository.save(any(Resource.class))).thenReturn(resource);
-        val updatedResource = resourceService.updateName(resource, newName);
+        cacheManager.getCache(CacheConfiguration.RESOURCES).put(resourceId, resource);
+        val update = ArgumentCaptor.forClass(Update.class);
+        when(mongoTemplate.findAndModify(any(Query.class), update.capture(), eq(Resource.class))).thenReturn(resource);
+        val updatedResource = resourceService.updateName(resourceId, newName);
         assertEquals(newName, updatedResource.getName());
-        verify(resourceRepository, times(1)).save(resource);
+        assertEquals(new Document("$set", new Document("name", newName)), update.getValue().getUpdateObject());
+        assertNull(cacheManager.getCache(CacheConfiguration.RESOURCES).get(resourceId));
+        verify(resourceRepository, never()).save(any(Resource.class));
+        verify(roomResourceTypes, never()).refreshByResource(any());
+    }
+
+    @Test
+    void testUpdateResourceNameNotFound() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), eq(Resource.class))).thenReturn(null);
+        val exception = assertThrows(MeetingRoomsException.class, () -> resourceService.updateName(resourceId, "Updated Resource"));
+        assertEquals(ResourceResponse.NOT_FOUND.getCode(), exception.getCode());
     }
 
     @Test
     void testUpdateResourceType() {
         val newType = Resource.Type.NOTEBOOK;
-        when(resourceRepository.save(any(Resource.class))).thenReturn(resource);
-        val updatedResource = resourceService.updateType(resource, newType);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), eq(Resource.class))).thenReturn(resource);
+        val updatedResource = resourceService.updateType(resourceId, newType);
         assertEquals(newType, updatedResource.getType());
-        verify(resourceRepository, times(1)).save(resource);
+        verify(roomResourceTypes, times(1)).refreshByResource(resourceId);
+    }
+
+    @Test
+    void testUpdateResourceTypeUnchanged() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), eq(Resource.class))).thenReturn(resource);
+        resourceService.updateType(resourceId, resource.getType());
+        verify(roomResourceTypes, never()).refreshByResource(any());
+    }
+
+    @Test
+    void testPatchResource() {
+        val patch = new ResourcePatchRequest();
+        patch.setName(Optional.of("Television"));
+        patch.setType(Optional.of(Resource.Type.SPEAKER));
+        val update = ArgumentCaptor.forClass(Update.class);
+        when(mongoTemplate.findAndModify(any(Query.class), update.capture(), eq(Resource.class))).thenReturn(resource);
+        val patched = resourceService.patch(resourceId, patch);
+        assertEquals("Television", patched.getName());
+        assertEquals(Resource.Type.SPEAKER, patched.getType());
+        assertEquals(new Document("$set", new Document("name", "Television").append("type", Resource.Type.SPEAKER)),
+                update.getValue().getUpdateObject());
+        verify(roomResourceTypes, times(1)).refreshByResource(resourceId);
+    }
+
+    @Test
+    void testPatchResourceRemovingName() {
+        val patch = new ResourcePatchRequest();
+        patch.setName(Optional.empty());
+        val exception = assertThrows(MeetingRoomsException.class, () -> resourceService.patch(resourceId, patch));
+        assertEquals(ResourceResponse.INVALID_PATCH.getCode(), exception.getCode());
+        verifyNoInteractions(mongoTemplate);
     }
 
     @Test
@@ -108,5 +183,6 @@ class ResourceServiceTests {
         doNothing().when(resourceRepository).deleteById(resourceId);
         resourceService.delete(resource);
         verify(resourceRepository, times(1)).deleteById(resourceId);
+        verify(roomResourceTypes, times(1)).refreshByResource(resourceId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.gitlab.walneyalves.meeting_rooms.tests.service;
+
+import com.gitlab.walneyalves.meeting_rooms.domain.availability.AvailabilityGrid;
+import com.gitlab.walneyalves.meeting_rooms.domain.filter.RoomFilter;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.RoomResponse;
+import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
+import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries;
+import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import com.gitlab.walneyalves.meeting_rooms.repository.MeetingRepository;
+import com.gitlab.walneyalves.meeting_rooms.repository.MeetingSeriesRepository;
+import com.gitlab.walneyalves.meeting_rooms.service.MeetingService;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.Occurrences;
+import com.gitlab.walneyalves.meeting_rooms.service.room.RoomAvailabilityService;
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomAvailabilityServiceTests {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 7, 0, 0);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private MeetingSeriesRepository meetingSeriesRepository;
+
+    @InjectMocks
+    private RoomAvailabilityService roomAvailabilityService;
+
+    private Room office;
+
+    private Room studio;
+
+    @BeforeEach
+    void setUp() {
+        office = room("Office", LocalTime.of(8, 0), LocalTime.of(18, 0));
+        studio = room("Studio", LocalTime.of(9, 30), LocalTime.of(12, 0));
+    }
+
+    @Test
+    void testGetAvailabilityFromQueries() {
+        when(mongoTemplate.find(any(Query.class), eq(Room.class))).thenReturn(List.of(office, studio));
+        when(meetingRepository.findAllOverlapping(anyCollection(), anyList(), eq(DAY), eq(DAY.plusDays(1))))
+                .thenReturn(Stream.of(Meeting.builder()
+                        .host(UUID.randomUUID())
+                        .roomId(office.getId())
+                        .title("Planning")
+                        .startDate(DAY.withHour(10))
+                        .endDate(DAY.withHour(11).withMinute(15))
+                        .build()));
+        val recurrence = new MeetingSeries.Recurrence(MeetingSeries.Frequency.DAILY, 1, null, 30);
+        when(meetingSeriesRepository.findAllSpanning(anyCollection(), anyList(), eq(DAY), eq(DAY.plusDays(1))))
+                .thenReturn(Stream.of(MeetingSeries.builder()
+                        .host(UUID.randomUUID())
+                        .roomId(studio.getId())
+                        .title("Stand-up")
+                        .startDate(DAY.minusDays(3).withHour(10))
+                        .endDate(DAY.minusDays(3).withHour(10).withMinute(15))
+                        .recurrence(recurrence)
+                        .lastEndDate(Occurrences.lastEnd(DAY.minusDays(3).withHour(10), DAY.minusDays(3).withHour(10).withMinute(15), recurrence))
+                        .build()));
+        val grid = roomAvailabilityService.getAvailability(new RoomFilter(null, null, null, null), DAY, DAY.plusDays(1), 30);
+        assertEquals(48, grid.slots());
+        assertEquals(List.of(office.getId(), studio.getId()), grid.rooms().stream().map(AvailabilityGrid.Row::roomId).toList());
+        // 08:00 to 18:00 but the slots from 09:30 to 11:30, touching the meeting.
+        assertEquals(slots(16, 19, 23, 36), free(grid.rooms().get(0)));
+        // 09:30 to 12:00 but the slots from 09:30 to 10:30, touching the occurrence.
+        assertEquals(slots(21, 24), free(grid.rooms().get(1)));
+    }
+
+    @Test
+    void testGetAvailabilityQueriesOpenRoomsOnly() {
+        office.setAvailable(false);
+        val from = DAY.withHour(9);
+        val to = DAY.withHour(12).withMinute(50);
+        when(mongoTemplate.find(any(Query.class), eq(Room.class))).thenReturn(List.of(office, studio));
+        when(meetingRepository.findAllOverlapping(List.of(studio.getId()), MeetingService.ACTIVE_STATES, from, to))
+                .thenReturn(Stream.of(Meeting.builder()
+                        .host(UUID.randomUUID())
+                        .roomId(studio.getId())
+                        .title("Review")
+                        .startDate(DAY.withHour(10).withMinute(5))
+                        .endDate(DAY.withHour(10).withMinute(10))
+                        .build()));
+        when(meetingSeriesRepository.findAllSpanning(List.of(studio.getId()), MeetingService.ACTIVE_STATES, from, to))
+                .thenReturn(Stream.empty());
+        val grid = roomAvailabilityService.getAvailability(new RoomFilter(null, null, null, null), from, to, 60);
+        assertEquals(4, grid.slots());
+        assertEquals(new BitSet(), free(grid.rooms().get(0)));
+        // 09:00 starts before the period, the last slot, cut at 12:50, ends after it and 10:00 has a meeting.
+        assertEquals(slots(2, 3), free(grid.rooms().get(1)));
+    }
+
+    @Test
+    void testGetAvailabilityRejectsInvalidWindow() {
+        for (val window : List.of(
+                List.of(DAY, DAY, 30),
+                List.of(DAY.plusDays(1), DAY, 30),
+                List.of(DAY, DAY.plusDays(1), 0),
+                List.of(DAY, DAY.plusDays(3), 1))) {
+            val exception = assertThrows(MeetingRoomsException.class, () -> roomAvailabilityService.getAvailability(
+                    new RoomFilter(null, null, null, null), (LocalDateTime) window.get(0), (LocalDateTime) window.get(1), (Integer) window.get(2)));
+            assertEquals(RoomResponse.INVALID_AVAILABILITY_WINDOW.getCode(), exception.getCode());
+        }
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    private static Room room(String name, LocalTime initialAvailability, LocalTime finalAvailability) {
+        return Room.builder()
+                .name(name)
+                .initialAvailability(initialAvailability)
+                .finalAvailability(finalAvailability)
+                .build();
+    }
+
+    private static BitSet free(AvailabilityGrid.Row row) {
+        return BitSet.valueOf(Base64.getDecoder().decode(row.free()));
+    }
+
+    /**
+     * Bits of the given half-open ranges of slots.
+     */
+    private static BitSet slots(int... ranges) {
+        val bits = new BitSet();
+        for (int i = 0; i < ranges.length; i += 2) {
+            bits.set(ranges[i], ranges[i + 1]);
+        }
+        return bits;
+    }
+}
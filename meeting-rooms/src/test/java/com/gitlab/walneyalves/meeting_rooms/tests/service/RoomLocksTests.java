@@ -0,0 +1,86 @@
+package com.gitlab.walneyalves.meeting_rooms.tests.service;
+
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.RoomLocks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomLocksTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RoomLocks roomLocks = new RoomLocks(meterRegistry);
+
+    @Test
+    void testWithRoomSerializesSameRoom() throws Exception {
+        val roomId = UUID.randomUUID();
+        val held = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val first = CompletableFuture.runAsync(() -> roomLocks.withRoom(roomId, () -> {
+            held.countDown();
+            return await(release);
+        }));
+        assertTrue(held.await(5, TimeUnit.SECONDS));
+        val second = new CompletableFuture<String>();
+        val booking = Thread.ofPlatform().start(() -> second.complete(roomLocks.withRoom(roomId, () -> "booked")));
+        // Parked on the lock of the room, not just not scheduled yet.
+        val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (booking.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        Thread.sleep(50);
+        assertFalse(second.isDone());
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        assertEquals("booked", second.get(5, TimeUnit.SECONDS));
+        val wait = meterRegistry.timer(RoomLocks.LOCK_WAIT);
+        assertEquals(2, wait.count());
+        assertTrue(wait.max(TimeUnit.MILLISECONDS) >= 50);
+    }
+
+    @Test
+    void testWithRoomRunsOtherRoomsInParallel() throws Exception {
+        // Consecutive ids hash to consecutive stripes.
+        val held = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val first = CompletableFuture.runAsync(() -> roomLocks.withRoom(new UUID(0, 1), () -> {
+            held.countDown();
+            return await(release);
+        }));
+        assertTrue(held.await(5, TimeUnit.SECONDS));
+        assertEquals("booked", CompletableFuture.supplyAsync(() -> roomLocks.withRoom(new UUID(0, 2), () -> "booked"))
+                .get(5, TimeUnit.SECONDS));
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testWithRoomsTakesStripesInOrder() throws Exception {
+        val rooms = List.of(new UUID(0, 1), new UUID(0, 2), new UUID(0, 3));
+        val batches = List.of(rooms, rooms.reversed(), List.of(rooms.get(2), rooms.get(0)));
+        val futures = batches.stream()
+                .map(batch -> CompletableFuture.runAsync(() -> {
+                    for (var i = 0; i < 10_000; i++) {
+                        roomLocks.withRooms(batch, () -> roomLocks.withRoom(batch.getFirst(), () -> null));
+                    }
+                }))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).get(30, TimeUnit.SECONDS);
+    }
+
+    private static Object await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
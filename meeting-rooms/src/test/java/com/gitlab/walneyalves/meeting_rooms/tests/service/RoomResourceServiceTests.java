@@ -6,6 +6,7 @@ import com.gitlab.walneyalves.meeting_rooms.model.room.RoomResource;
 import com.gitlab.walneyalves.meeting_rooms.repository.RoomResourceRepository;
 import com.gitlab.walneyalves.meeting_rooms.service.ResourceService;
 import com.gitlab.walneyalves.meeting_rooms.service.room.RoomResourceService;
+import com.gitlab.walneyalves.meeting_rooms.service.room.RoomResourceTypes;
 import lombok.val;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -31,6 +33,9 @@ class RoomResourceServiceTests {
     @Mock
     private RoomResourceRepository roomResourceRepository;
 
+    @Mock
+    private RoomResourceTypes roomResourceTypes;
+
     @InjectMocks
     private RoomResourceService roomResourceService;
 
@@ -61,36 +66,60 @@ class RoomResourceServiceTests {
 
     @Test
     void testGetRoomResources() {
-        when(roomResourceRepository.findAllByRoomId(room.getId())).thenReturn(List.of(roomResource));
-        when(resourceService.get(resource.getId())).thenReturn(Optional.of(resource));
+        when(roomResourceRepository.findAllByRoomIdIn(List.of(room.getId()))).thenReturn(List.of(roomResource));
+        when(resourceService.getAll(Set.of(resource.getId()))).thenReturn(List.of(resource));
         val resources = roomResourceService.getRoomResources(room);
         assertEquals(1, resources.size());
         assertEquals(resource.getId(), resources.get(0).getId());
-        verify(roomResourceRepository, times(1)).findAllByRoomId(room.getId());
-        verify(resourceService, times(1)).get(resource.getId());
+        verify(roomResourceRepository, times(1)).findAllByRoomIdIn(List.of(room.getId()));
+        verify(resourceService, times(1)).getAll(Set.of(resource.getId()));
+    }
+
+    @Test
+    void testGetRoomResourcesForManyRooms() {
+        val otherRoom = Room.builder()
+                .name("Other Room")
+                .initialAvailability(LocalTime.of(8, 0,  0))
+                .finalAvailability(LocalTime.of(18, 0,  0))
+                .build();
+        val dangling = RoomResource.builder()
+                .roomId(otherRoom.getId())
+                .resourceId(UUID.randomUUID())
+                .build();
+        when(roomResourceRepository.findAllByRoomIdIn(anyCollection())).thenReturn(List.of(roomResource, dangling));
+        when(resourceService.getAll(anyCollection())).thenReturn(List.of(resource));
+        val resources = roomResourceService.getRoomResources(List.of(room, otherRoom));
+        assertEquals(List.of(resource), resources.get(room.getId()));
+        assertEquals(List.of(), resources.get(otherRoom.getId()));
+        verify(resourceService, times(1)).getAll(anyCollection());
     }
 
     @Test
     void testAddResource() {
         roomResourceService.addResource(room, resource);
         verify(roomResourceRepository, times(1)).save(any(RoomResource.class));
+        verify(roomResourceTypes, times(1)).add(room.getId(), Resource.Type.PROJECTOR);
     }
 
     @Test
     void testRemoveResource() {
         roomResourceService.removeResource(room, resource);
         verify(roomResourceRepository, times(1)).deleteByRoomIdAndResourceId(room.getId(), resource.getId());
+        verify(roomResourceTypes, times(1)).refresh(List.of(room.getId()));
     }
 
     @Test
     void testRemoveResources() {
         roomResourceService.removeResources(room);
         verify(roomResourceRepository, times(1)).deleteAllByRoomId(room.getId());
+        verify(roomResourceTypes, times(1)).clear(room.getId());
     }
 
     @Test
     void testRemoveByResource() {
+        when(roomResourceRepository.findAllByResourceId(resource.getId())).thenReturn(List.of(roomResource));
         roomResourceService.removeByResource(resource);
         verify(roomResourceRepository, times(1)).deleteAllByResourceId(resource.getId());
+        verify(roomResourceTypes, times(1)).refresh(Set.of(room.getId()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.gitlab.walneyalves.meeting_rooms.tests.service;
+
+import com.gitlab.walneyalves.meeting_rooms.configuration.CacheConfiguration;
+import com.gitlab.walneyalves.meeting_rooms.model.Resource;
+import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
+import com.gitlab.walneyalves.meeting_rooms.model.room.RoomResource;
+import com.gitlab.walneyalves.meeting_rooms.repository.ResourceRepository;
+import com.gitlab.walneyalves.meeting_rooms.repository.RoomResourceRepository;
+import com.gitlab.walneyalves.meeting_rooms.service.room.RoomResourceTypes;
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomResourceTypesTests {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private ResourceRepository resourceRepository;
+
+    @Mock
+    private RoomResourceRepository roomResourceRepository;
+
+    @Mock(answer = Answers.RETURNS_SELF)
+    private BulkOperations bulkOperations;
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfiguration.ROOMS);
+
+    @InjectMocks
+    private RoomResourceTypes roomResourceTypes;
+
+    private Room room;
+
+    private Resource tv;
+
+    private Resource projector;
+
+    @BeforeEach
+    void setUp() {
+        room = Room.builder()
+                .name("Main Room")
+                .initialAvailability(LocalTime.of(8, 0))
+                .finalAvailability(LocalTime.of(18, 0))
+                .build();
+        tv = Resource.builder().name("TV").type(Resource.Type.TV).build();
+        projector = Resource.builder().name("Projector").type(Resource.Type.PROJECTOR).build();
+    }
+
+    @Test
+    void testRefreshRecomputesFromLinks() {
+        val emptyRoom = UUID.randomUUID();
+        val links = List.of(link(tv), link(projector), RoomResource.builder()
+                .roomId(room.getId())
+                .resourceId(UUID.randomUUID())
+                .build());
+        when(roomResourceRepository.findAllByRoomIdIn(Set.of(room.getId(), emptyRoom))).thenReturn(links);
+        when(resourceRepository.findAllById(anySet())).thenReturn(List.of(tv, projector));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Room.class)).thenReturn(bulkOperations);
+
+        roomResourceTypes.refresh(Set.of(room.getId(), emptyRoom));
+        verify(bulkOperations).updateOne(any(Query.class),
+                eq(new Update().set("resourceTypes", EnumSet.of(Resource.Type.TV, Resource.Type.PROJECTOR))));
+        verify(bulkOperations).updateOne(any(Query.class),
+                eq(new Update().set("resourceTypes", EnumSet.noneOf(Resource.Type.class))));
+        verify(bulkOperations, times(1)).execute();
+    }
+
+    @Test
+    void testAddEvictsCachedRoom() {
+        val rooms = cacheManager.getCache(CacheConfiguration.ROOMS);
+        rooms.put(room.getId(), room);
+        roomResourceTypes.add(room.getId(), Resource.Type.TV);
+        verify(mongoTemplate, times(1)).updateFirst(any(Query.class), any(Update.class), eq(Room.class));
+        assertNull(rooms.get(room.getId()));
+    }
+
+    @Test
+    void testRepairFixesDivergedRooms() {
+        val upToDate = Room.builder()
+                .name("Up To Date")
+                .initialAvailability(LocalTime.of(8, 0))
+                .finalAvailability(LocalTime.of(18, 0))
+                .build();
+        when(resourceRepository.findAll()).thenReturn(List.of(tv));
+        when(roomResourceRepository.streamAllBy()).thenReturn(Stream.of(link(tv)));
+        when(mongoTemplate.stream(any(Query.class), eq(Room.class))).thenReturn(Stream.of(room, upToDate));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Room.class)).thenReturn(bulkOperations);
+
+        assertEquals(1, roomResourceTypes.repair());
+        verify(bulkOperations, times(1)).updateOne(any(Query.class), any(Update.class));
+    }
+
+    @Test
+    void testRepairWithoutDivergence() {
+        room.setResourceTypes(Set.of(Resource.Type.TV));
+        when(resourceRepository.findAll()).thenReturn(List.of(tv));
+        when(roomResourceRepository.streamAllBy()).thenReturn(Stream.of(link(tv)));
+        when(mongoTemplate.stream(any(Query.class), eq(Room.class))).thenReturn(Stream.of(room));
+
+        assertEquals(0, roomResourceTypes.repair());
+        verify(mongoTemplate, never()).bulkOps(any(), eq(Room.class));
+    }
+
+    private RoomResource link(Resource resource) {
+        return RoomResource.builder()
+                .roomId(room.getId())
+                .resourceId(resource.getId())
+                .build();
+    }
+}
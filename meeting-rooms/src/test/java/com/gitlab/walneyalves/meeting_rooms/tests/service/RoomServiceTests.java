@@ -1,26 +1,42 @@
 package com.gitlab.walneyalves.meeting_rooms.tests.service;
 
+import com.gitlab.walneyalves.meeting_rooms.configuration.CacheConfiguration;
 import com.gitlab.walneyalves.meeting_rooms.domain.filter.RoomFilter;
+import com.gitlab.walneyalves.meeting_rooms.domain.pagination.CursorPage;
+import com.gitlab.walneyalves.meeting_rooms.domain.request.RoomPatchRequest;
+import com.gitlab.walneyalves.meeting_rooms.domain.response.RoomResponse;
 import com.gitlab.walneyalves.meeting_rooms.exception.MeetingRoomsException;
+import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries;
+import com.gitlab.walneyalves.meeting_rooms.model.Resource;
 import com.gitlab.walneyalves.meeting_rooms.model.room.Room;
 import com.gitlab.walneyalves.meeting_rooms.repository.RoomRepository;
-import com.gitlab.walneyalves.meeting_rooms.service.room.RoomResourceService;
 import com.gitlab.walneyalves.meeting_rooms.service.room.RoomService;
 import lombok.val;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,8 +51,8 @@ class RoomServiceTests {
     @Mock
     private RoomRepository roomRepository;
 
-    @Mock
-    private RoomResourceService roomResourceService;
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfiguration.ROOMS);
 
     @InjectMocks
     private RoomService roomService;
@@ -80,23 +96,153 @@ class RoomServiceTests {
 
     @Test
     void testUpdateRoomName() {
-        when(roomRepository.save(room)).thenReturn(room);
-        roomService.updateName(room, "Updated Room");
-        assertEquals("Updated Room", room.getName());
-        verify(roomRepository, times(1)).save(room);
+        cacheManager.getCache(CacheConfiguration.ROOMS).put(room.getId(), room);
+        val query = ArgumentCaptor.forClass(Query.class);
+        val update = ArgumentCaptor.forClass(Update.class);
+        when(mongoTemplate.findAndModify(query.capture(), update.capture(), any(FindAndModifyOptions.class), eq(Room.class)))
+                .thenReturn(room);
+        assertEquals(room, roomService.updateName(room.getId(), "Updated Room"));
+        assertEquals(true, query.getValue().getQueryObject().get("available"));
+        assertEquals(new Document("$set", new Document("name", "Updated Room")), update.getValue().getUpdateObject());
+        assertEquals("Main Room", room.getName());
+        assertNull(cacheManager.getCache(CacheConfiguration.ROOMS).get(room.getId()));
+        verify(roomRepository, never()).save(any(Room.class));
+    }
+
+    @Test
+    void testUpdateRoomNameNotFound() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Room.class)))
+                .thenReturn(null);
+        val exception = assertThrows(MeetingRoomsException.class, () -> roomService.updateName(room.getId(), "Updated Room"));
+        assertEquals(RoomResponse.NOT_FOUND.getCode(), exception.getCode());
+    }
+
+    @Test
+    void testUpdateRoomNameWhenFlaggedUnavailable() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Room.class)))
+                .thenReturn(null);
+        room.setAvailable(false);
+        when(roomRepository.findById(room.getId())).thenReturn(Optional.of(room));
+        val exception = assertThrows(MeetingRoomsException.class, () -> roomService.updateName(room.getId(), "Updated Room"));
+        assertEquals(RoomResponse.UNAVAILABLE.getCode(), exception.getCode());
+    }
+
+    @Test
+    void testUpdateRoomNameWhileInUse() {
+        when(mongoTemplate.findDistinct(any(Query.class), eq("roomId"), eq(Meeting.class), eq(UUID.class)))
+                .thenReturn(List.of(room.getId()));
+        when(mongoTemplate.findDistinct(any(Query.class), eq("roomId"), eq(MeetingSeries.class), eq(UUID.class)))
+                .thenReturn(List.of());
+        val exception = assertThrows(MeetingRoomsException.class, () -> roomService.updateName(room.getId(), "Updated Room"));
+        assertEquals(RoomResponse.UNAVAILABLE.getCode(), exception.getCode());
+        verify(mongoTemplate, never()).findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Room.class));
+    }
+
+    @Test
+    void testUpdateRoomAvailabilityPeriodInvalid() {
+        val exception = assertThrows(MeetingRoomsException.class,
+                () -> roomService.updateAvailabilityPeriod(room.getId(), LocalTime.of(18, 0), LocalTime.of(8, 0)));
+        assertEquals(RoomResponse.INVALID_AVAILABILITY_PERIOD.getCode(), exception.getCode());
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void testUpdateRoomAvailable() {
+        roomService.updateAvailable(room, false);
+        verify(mongoTemplate, times(1)).updateFirst(any(Query.class), eq(Update.update("available", false)), eq(Room.class));
+        verify(roomRepository, never()).save(any(Room.class));
+    }
+
+    @Test
+    void testPatchRoom() {
+        val patch = new RoomPatchRequest();
+        patch.setCapacity(Optional.of(12));
+        patch.setFinalAvailability(Optional.of(LocalTime.of(20, 0)));
+        val query = ArgumentCaptor.forClass(Query.class);
+        val update = ArgumentCaptor.forClass(Update.class);
+        when(mongoTemplate.findAndModify(query.capture(), update.capture(), any(FindAndModifyOptions.class), eq(Room.class)))
+                .thenReturn(room);
+        roomService.patch(room, patch);
+        assertEquals(new Document("$set", new Document("capacity", 12).append("finalAvailability", LocalTime.of(20, 0))),
+                update.getValue().getUpdateObject());
+        assertEquals(true, query.getValue().getQueryObject().get("available"));
+        verify(mongoTemplate, times(1)).findDistinct(any(Query.class), eq("roomId"), eq(Meeting.class), eq(UUID.class));
+    }
+
+    @Test
+    void testPatchRoomPeriodWhileUnavailable() {
+        val patch = new RoomPatchRequest();
+        patch.setFinalAvailability(Optional.of(LocalTime.of(20, 0)));
+        val query = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.findAndModify(query.capture(), any(Update.class), any(FindAndModifyOptions.class), eq(Room.class)))
+                .thenReturn(room);
+        roomService.patch(room, patch);
+        assertEquals(new Document("id", room.getId()), query.getValue().getQueryObject());
+        verify(mongoTemplate, never()).findDistinct(any(Query.class), anyString(), any(Class.class), any(Class.class));
+    }
+
+    @Test
+    void testPatchRoomNameWhenFlaggedUnavailable() {
+        val patch = new RoomPatchRequest();
+        patch.setName(Optional.of("Patched"));
+        room.setAvailable(false);
+        when(roomRepository.findById(room.getId())).thenReturn(Optional.of(room));
+        val exception = assertThrows(MeetingRoomsException.class, () -> roomService.patch(room, patch));
+        assertEquals(RoomResponse.UNAVAILABLE.getCode(), exception.getCode());
+    }
+
+    @Test
+    void testPatchRoomChecksPeriodWithStoredBound() {
+        val patch = new RoomPatchRequest();
+        patch.setInitialAvailability(Optional.of(LocalTime.of(19, 0)));
+        val exception = assertThrows(MeetingRoomsException.class, () -> roomService.patch(room, patch));
+        assertEquals(RoomResponse.INVALID_AVAILABILITY_PERIOD.getCode(), exception.getCode());
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void testPatchRoomRemovingName() {
+        val patch = new RoomPatchRequest();
+        patch.setName(Optional.empty());
+        val exception = assertThrows(MeetingRoomsException.class, () -> roomService.patch(room, patch));
+        assertEquals(RoomResponse.INVALID_PATCH.getCode(), exception.getCode());
+    }
+
+    @Test
+    void testPatchRoomWithoutFields() {
+        assertEquals(room, roomService.patch(room, new RoomPatchRequest()));
+        verifyNoInteractions(mongoTemplate);
     }
 
     @Test
     void testUpdateRoomCapacityInvalid() {
-        assertThrows(MeetingRoomsException.class, () -> roomService.updateCapacity(room, -1));
+        assertThrows(MeetingRoomsException.class, () -> roomService.updateCapacity(room.getId(), -1));
+        verifyNoInteractions(mongoTemplate);
     }
 
     @Test
     void testUpdateRoomCapacityValid() {
-        when(roomRepository.save(room)).thenReturn(room);
-        roomService.updateCapacity(room, 15);
-        assertEquals(15, room.getCapacity());
-        verify(roomRepository, times(1)).save(room);
+        val query = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.findAndModify(query.capture(), any(Update.class), any(FindAndModifyOptions.class), eq(Room.class)))
+                .thenAnswer(invocation -> {
+                    room.setCapacity(15);
+                    return room;
+                });
+        assertEquals(15, roomService.updateCapacity(room.getId(), 15).getCapacity());
+        assertEquals(new Document("$ne", 15), query.getValue().getQueryObject().get("capacity"));
+        assertEquals(true, query.getValue().getQueryObject().get("available"));
+        verify(mongoTemplate, times(1)).findAndModify(any(Query.class), eq(Update.update("capacity", 15)),
+                any(FindAndModifyOptions.class), eq(Room.class));
+        verify(roomRepository, never()).findById(any());
+    }
+
+    @Test
+    void testUpdateRoomCapacityUnchanged() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Room.class)))
+                .thenReturn(null);
+        when(roomRepository.findById(room.getId())).thenReturn(Optional.of(room));
+        val exception = assertThrows(MeetingRoomsException.class, () -> roomService.updateCapacity(room.getId(), 10));
+        assertEquals(RoomResponse.INVALID_CAPACITY.getCode(), exception.getCode());
     }
 
     @Test
@@ -104,7 +250,6 @@ class RoomServiceTests {
         val pageable = PageRequest.of(0, 5);
         val filter = new RoomFilter(null, true, LocalTime.of(8, 0), LocalTime.of(18, 0));
         when(mongoTemplate.find(any(), eq(Room.class))).thenReturn(List.of(room));
-        when(roomResourceService.getRoomResources(room)).thenReturn(List.of());
 
         Page<Room> rooms = roomService.getAll(pageable, filter);
         assertEquals(1, rooms.getTotalElements());
@@ -112,12 +257,115 @@ class RoomServiceTests {
         verify(mongoTemplate, times(1)).find(any(), eq(Room.class));
     }
 
+    @Test
+    void testGetAllRoomsWithTypesFilter() {
+        val pageable = PageRequest.of(0, 5);
+        val filter = new RoomFilter(null, null, null, null, Resource.Type.TV);
+        val query = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.find(query.capture(), eq(Room.class))).thenReturn(List.of(room));
+
+        Page<Room> rooms = roomService.getAll(pageable, filter);
+        assertEquals(1, rooms.getTotalElements());
+        assertEquals(room, rooms.getContent().get(0));
+        val excluded = query.getValue().getQueryObject().toJson();
+        assertTrue(excluded.contains("resourceTypes"));
+        assertTrue(excluded.contains("PROJECTOR"));
+        assertFalse(excluded.contains("\"TV\""));
+    }
+
+    @Test
+    void testGetAllRoomsSlice() {
+        val pageable = PageRequest.of(0, 1);
+        val filter = new RoomFilter(null, null, null, null);
+        val otherRoom = Room.builder()
+                .name("Other Room")
+                .initialAvailability(LocalTime.of(8, 0))
+                .finalAvailability(LocalTime.of(18, 0))
+                .build();
+        when(mongoTemplate.find(any(), eq(Room.class))).thenReturn(new ArrayList<>(List.of(room, otherRoom)));
+
+        val rooms = roomService.getAllSlice(pageable, filter);
+        assertEquals(1, rooms.getNumberOfElements());
+        assertTrue(rooms.hasNext());
+        verify(mongoTemplate, never()).count(any(), eq(Room.class));
+    }
+
+    @Test
+    void testGetAllAfterCursor() {
+        val filter = new RoomFilter(null, null, null, null, Resource.Type.TV);
+        val lastRoom = Room.builder()
+                .id(UUID.randomUUID())
+                .name("Z Room")
+                .initialAvailability(LocalTime.of(8, 0))
+                .finalAvailability(LocalTime.of(18, 0))
+                .build();
+        when(mongoTemplate.find(any(), eq(Room.class))).thenReturn(List.of(room, lastRoom));
+
+        val page = roomService.getAllAfter(filter, null, 1);
+        assertEquals(List.of(room), page.content());
+        assertNotNull(page.next());
+        verify(mongoTemplate, times(1)).find(any(), eq(Room.class));
+    }
+
+    @Test
+    void testGetAllAfterBoundsSize() {
+        val query = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.find(query.capture(), eq(Room.class))).thenReturn(List.of());
+        roomService.getAllAfter(new RoomFilter(null, null, null, null), null, Integer.MAX_VALUE);
+        roomService.getAllAfter(new RoomFilter(null, null, null, null), null, 0);
+        assertEquals(CursorPage.MAX_SIZE + 1, query.getAllValues().get(0).getLimit());
+        assertEquals(2, query.getAllValues().get(1).getLimit());
+    }
+
     @Test
     void testIsRoomAvailable() {
         when(roomRepository.findById(room.getId())).thenReturn(Optional.of(room));
         assertTrue(roomService.isAvailable(room.getId()));
     }
 
+    @Test
+    void testIsRoomAvailableFromQueries() {
+        when(roomRepository.findById(room.getId())).thenReturn(Optional.of(room));
+        when(mongoTemplate.findDistinct(any(Query.class), eq("roomId"), eq(Meeting.class), eq(UUID.class)))
+                .thenReturn(List.of(room.getId()));
+        assertFalse(roomService.isAvailable(room.getId()));
+        verify(roomRepository, never()).save(any(Room.class));
+    }
+
+    @Test
+    void testIsRoomAvailableWhenFlaggedUnavailable() {
+        room.setAvailable(false);
+        when(roomRepository.findById(room.getId())).thenReturn(Optional.of(room));
+        assertFalse(roomService.isAvailable(room.getId()));
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void testGetAllRoomsAvailableExcludesInUse() {
+        val inUse = UUID.randomUUID();
+        val query = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.findDistinct(any(Query.class), eq("roomId"), eq(Meeting.class), eq(UUID.class))).thenReturn(List.of());
+        when(mongoTemplate.findDistinct(any(Query.class), eq("roomId"), eq(MeetingSeries.class), eq(UUID.class)))
+                .thenReturn(List.of(inUse));
+        when(mongoTemplate.find(query.capture(), eq(Room.class))).thenReturn(List.of(room));
+
+        roomService.getAllAfter(new RoomFilter(null, true, null, null), null, 10);
+        val available = query.getValue().getQueryObject().getList("$and", Document.class).get(0);
+        assertEquals(true, available.get("available"));
+        assertEquals(Set.of(inUse), available.get("id", Document.class).get("$nin"));
+    }
+
+    @Test
+    void testIsRoomAvailableWhileSeriesOccurrenceTakesPlace() {
+        val query = ArgumentCaptor.forClass(Query.class);
+        when(roomRepository.findById(room.getId())).thenReturn(Optional.of(room));
+        when(mongoTemplate.findDistinct(any(Query.class), eq("roomId"), eq(Meeting.class), eq(UUID.class))).thenReturn(List.of());
+        when(mongoTemplate.findDistinct(query.capture(), eq("roomId"), eq(MeetingSeries.class), eq(UUID.class)))
+                .thenReturn(List.of(room.getId()));
+        assertFalse(roomService.isAvailable(room.getId()));
+        assertTrue(query.getValue().getQueryObject().containsKey("nextStartDate"));
+    }
+
     @Test
     void testIsTimeRangeSupported() {
         LocalDateTime start = LocalDateTime.of(2023, 12, 25, 9, 0);
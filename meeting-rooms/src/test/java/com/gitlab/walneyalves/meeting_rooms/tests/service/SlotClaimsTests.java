@@ -0,0 +1,209 @@
+package com.gitlab.walneyalves.meeting_rooms.tests.service;
+
+import com.gitlab.walneyalves.meeting_rooms.model.Meeting;
+import com.gitlab.walneyalves.meeting_rooms.model.MeetingSeries;
+import com.gitlab.walneyalves.meeting_rooms.model.room.SlotClaim;
+import com.gitlab.walneyalves.meeting_rooms.service.meeting.SlotClaims;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SlotClaimsTests {
+
+    private static final LocalDateTime NINE = LocalDateTime.of(2030, 1, 7, 9, 0);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock(answer = Answers.RETURNS_SELF)
+    private BulkOperations bulkOperations;
+
+    @Mock
+    private IndexOperations indexOperations;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private SlotClaims slotClaims;
+
+    private final UUID roomId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(slotClaims, "enabled", true);
+    }
+
+    @Test
+    void testClaimInsertsEverySlotTouched() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SlotClaim.class)).thenReturn(bulkOperations);
+        val ownerId = UUID.randomUUID();
+        assertEquals(Set.of(), slotClaims.claim(List.of(new SlotClaims.Claim(ownerId, roomId, NINE.plusMinutes(5), NINE.plusHours(1)))));
+        // 09:00 to 10:00, the slot of the end included as a meeting starting then conflicts.
+        assertEquals(List.of(NINE, NINE.plusMinutes(15), NINE.plusMinutes(30), NINE.plusMinutes(45), NINE.plusHours(1)),
+                inserted().stream().map(SlotClaim::getSlotStart).toList());
+        verify(bulkOperations, times(1)).execute();
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(SlotClaim.class));
+    }
+
+    @Test
+    void testClaimReleasesInsertedWhenTaken() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SlotClaim.class)).thenReturn(bulkOperations);
+        // The second claim has the slots 2 and 3; the one at 09:45 is taken.
+        when(bulkOperations.execute()).thenThrow(taken(11000, 3));
+        val taken = slotClaims.claim(List.of(
+                new SlotClaims.Claim(UUID.randomUUID(), roomId, NINE, NINE.plusMinutes(15)),
+                new SlotClaims.Claim(UUID.randomUUID(), roomId, NINE.plusMinutes(35), NINE.plusMinutes(45))));
+        assertEquals(Set.of(1), taken);
+        val query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(1)).remove(query.capture(), eq(SlotClaim.class));
+        assertEquals(inserted().subList(0, 3).stream().map(SlotClaim::getId).toList(),
+                query.getValue().getQueryObject().get("id", Document.class).get("$in"));
+        assertEquals(1, meterRegistry.counter("meeting.booking.slot.conflicts").count());
+    }
+
+    @Test
+    void testClaimRethrowsOtherErrors() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SlotClaim.class)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenThrow(taken(121, 0));
+        assertThrows(BulkOperationException.class,
+                () -> slotClaims.claim(List.of(new SlotClaims.Claim(UUID.randomUUID(), roomId, NINE, NINE))));
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(SlotClaim.class));
+    }
+
+    @Test
+    void testMoveClaimsMissingSlotsOnly() {
+        val ownerId = UUID.randomUUID();
+        when(mongoTemplate.find(any(Query.class), eq(SlotClaim.class))).thenReturn(List.of(
+                SlotClaim.builder().roomId(roomId).ownerId(ownerId).slotStart(NINE).build(),
+                SlotClaim.builder().roomId(roomId).ownerId(ownerId).slotStart(NINE.plusMinutes(15)).build()));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SlotClaim.class)).thenReturn(bulkOperations);
+        assertTrue(slotClaims.move(new SlotClaims.Claim(ownerId, roomId, NINE.plusMinutes(15), NINE.plusMinutes(30))));
+        assertEquals(List.of(NINE.plusMinutes(30)), inserted().stream().map(SlotClaim::getSlotStart).toList());
+        verify(mongoTemplate, times(1)).remove(any(Query.class), eq(SlotClaim.class));
+    }
+
+    @Test
+    void testReleaseOnlyWhenEnabled() {
+        val ownerIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        slotClaims.release(ownerIds);
+        verify(mongoTemplate, times(1)).remove(any(Query.class), eq(SlotClaim.class));
+        ReflectionTestUtils.setField(slotClaims, "enabled", false);
+        slotClaims.release(ownerIds);
+        slotClaims.releaseBefore(ownerIds, NINE);
+        verifyNoMoreInteractions(mongoTemplate);
+    }
+
+    @Test
+    void testBackfillUpsertsSlotsOfActiveMeetingsAndSeries() {
+        val meeting = Meeting.builder().host(UUID.randomUUID()).roomId(roomId).title("Planning")
+                .startDate(NINE).endDate(NINE.plusMinutes(15)).build();
+        val series = MeetingSeries.builder().host(UUID.randomUUID()).roomId(roomId).title("Daily")
+                .recurrence(new MeetingSeries.Recurrence(MeetingSeries.Frequency.DAILY, 1, null, 2))
+                .startDate(NINE.plusHours(1)).endDate(NINE.plusHours(1)).lastEndDate(NINE.plusDays(1).plusHours(1)).build();
+        stubIndexes();
+        when(mongoTemplate.stream(any(Query.class), eq(Meeting.class))).thenReturn(Stream.of(meeting));
+        when(mongoTemplate.stream(any(Query.class), eq(MeetingSeries.class))).thenReturn(Stream.of(series));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SlotClaim.class)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(upserted(3));
+        assertEquals(3, slotClaims.backfill());
+        val upserts = upserts();
+        assertEquals(List.of(NINE, NINE.plusMinutes(15), NINE.plusHours(1), NINE.plusDays(1).plusHours(1)),
+                upserts.stream().map(pair -> pair.getFirst().getQueryObject().get("slotStart")).toList());
+        assertEquals(Set.of(meeting.getId(), series.getId()),
+                upserts.stream().map(pair -> pair.getSecond().getUpdateObject().get("$setOnInsert", Document.class).get("ownerId")).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void testBackfillSkipsSlotsClaimedMeanwhile() {
+        val meeting = Meeting.builder().host(UUID.randomUUID()).roomId(roomId).title("Planning")
+                .startDate(NINE).endDate(NINE.plusMinutes(15)).build();
+        stubIndexes();
+        when(mongoTemplate.stream(any(Query.class), eq(Meeting.class))).thenReturn(Stream.of(meeting));
+        when(mongoTemplate.stream(any(Query.class), eq(MeetingSeries.class))).thenReturn(Stream.empty());
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SlotClaim.class)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenThrow(new BulkOperationException("E11000", new MongoBulkWriteException(upserted(1),
+                List.of(new BulkWriteError(11000, "E11000", new BsonDocument(), 1)), null, new ServerAddress(), Set.of())));
+        assertEquals(1, slotClaims.backfill());
+    }
+
+    @Test
+    void testBackfillOnStartOnlyWhenEnabled() {
+        ReflectionTestUtils.setField(slotClaims, "enabled", false);
+        slotClaims.afterSingletonsInstantiated();
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    private void stubIndexes() {
+        val mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(MongoCustomConversions.create(adapter -> { }).getSimpleTypeHolder());
+        when(mongoTemplate.getConverter()).thenReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext));
+        when(mongoTemplate.indexOps(SlotClaim.class)).thenReturn(indexOperations);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Pair<Query, Update>> upserts() {
+        val slots = ArgumentCaptor.forClass(List.class);
+        verify(bulkOperations).upsert(slots.capture());
+        return slots.getValue();
+    }
+
+    private static BulkWriteResult upserted(int count) {
+        return BulkWriteResult.acknowledged(0, 0, 0, 0, IntStream.range(0, count)
+                .mapToObj(index -> new BulkWriteUpsert(index, new BsonString(String.valueOf(index))))
+                .toList(), List.of());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<SlotClaim> inserted() {
+        val slots = ArgumentCaptor.forClass(List.class);
+        verify(bulkOperations).insert(slots.capture());
+        return slots.getValue();
+    }
+
+    private static BulkOperationException taken(int code, int index) {
+        return new BulkOperationException("E11000", new MongoBulkWriteException(BulkWriteResult.unacknowledged(),
+                List.of(new BulkWriteError(code, "E" + code, new BsonDocument(), index)), null, new ServerAddress(), Set.of()));
+    }
+}